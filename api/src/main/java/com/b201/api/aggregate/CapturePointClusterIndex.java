@@ -0,0 +1,216 @@
+package com.b201.api.aggregate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.locationtech.jts.geom.Envelope;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+import com.b201.api.dto.point.ClusterPointRowDto;
+import com.b201.api.event.CapturePointRecordedEvent;
+import com.b201.api.event.DamageStatusChangedEvent;
+import com.b201.api.util.TileMath;
+
+/**
+ * 광역시/도별 캡처 포인트 격자 클러스터 피라미드
+ * 줌 z(0 ~ POINT_ZOOM-1)마다 타일 하나를 8x8 칸(= 줌 z+3 타일)으로 나눠 칸별 포인트 수, 미완료 파손 수, 좌표 합을 미리 쌓아 둔다.
+ * 포인트가 저장되면 모든 줌의 칸을 한 번씩 올리고(O(줌 수)), 조회는 화면 범위 안의 칸만 읽는다.
+ * 기동 시와 주기 보정 때 DamageCounterReconciler 가 capture_point 전체로 다시 채운다.
+ * 다시 채우는 동안 들어온 이벤트는 ReloadBuffer 로 모아 스냅샷에 없는 것만 새 피라미드에 다시 적용한 뒤 통째로 바꿔 끼운다.
+ */
+@Component
+public class CapturePointClusterIndex {
+
+	// 이 줌 이상에서는 클러스터 대신 개별 포인트를 내려준다
+	public static final int POINT_ZOOM = 15;
+	// 타일 하나를 2^3 x 2^3 칸으로 나눈다
+	private static final int CELL_SHIFT = 3;
+
+	private volatile Map<String, RegionPyramid> regions = new ConcurrentHashMap<>();
+	private final ReloadBuffer<Object> reloadBuffer = new ReloadBuffer<>();
+
+	// 타일 캐시 무효화(CapturePointTileService)보다 먼저 반영
+	@TransactionalEventListener(fallbackExecution = true)
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	public void onCapturePointRecorded(CapturePointRecordedEvent event) {
+		if (event.parentRegionName() == null) {
+			return;
+		}
+		reloadBuffer.apply(event, e -> apply(regions, e));
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	public void onDamageStatusChanged(DamageStatusChangedEvent event) {
+		if (event.parentRegionName() == null) {
+			return;
+		}
+		if (openDelta(event.oldStatus(), event.newStatus()) != 0) {
+			reloadBuffer.apply(event, e -> apply(regions, e));
+		}
+	}
+
+	/**
+	 * 다시 채우기 시작, DB 조회 직전에 부른다.
+	 */
+	public void beginReload() {
+		reloadBuffer.begin();
+	}
+
+	/**
+	 * DB 포인트 목록으로 지역별 피라미드를 새로 만들어 통째로 교체한다. (목록에 없는 지역은 비운다)
+	 * beginReload() 이후 들어온 이벤트 중 스냅샷에 반영되지 않은 것만 다시 적용한다.
+	 */
+	public void reload(List<ClusterPointRowDto> rows) {
+		Map<String, RegionPyramid> rebuilt = new ConcurrentHashMap<>();
+		CapturePointSnapshot snapshot = new CapturePointSnapshot();
+		rows.forEach(row -> {
+			snapshot.add(row);
+			pyramid(rebuilt, row.getParentRegionName())
+				.add(row.getPublicId(), row.getLocation().getX(), row.getLocation().getY(), row.getOpenDamages());
+		});
+		reloadBuffer.swap(events -> {
+			events.stream()
+				.filter(event -> !snapshot.contains(event))
+				.forEach(event -> apply(rebuilt, event));
+			regions = rebuilt;
+		});
+	}
+
+	/**
+	 * 화면 범위(x: 경도, y: 위도) 안의 칸 목록, zoom 은 0 ~ POINT_ZOOM-1
+	 */
+	public List<Cluster> clusters(String parentRegionName, Envelope viewport, int zoom) {
+		if (zoom < 0 || zoom >= POINT_ZOOM) {
+			throw new IllegalArgumentException("클러스터 줌은 0~" + (POINT_ZOOM - 1) + " 사이여야 합니다: " + zoom);
+		}
+		RegionPyramid pyramid = regions.get(parentRegionName);
+		return pyramid == null ? List.of() : pyramid.query(viewport, zoom);
+	}
+
+	private static void apply(Map<String, RegionPyramid> target, Object event) {
+		switch (event) {
+			case CapturePointRecordedEvent recorded -> pyramid(target, recorded.parentRegionName())
+				.add(recorded.publicId(), recorded.x(), recorded.y(), recorded.openDamages());
+			case DamageStatusChangedEvent changed -> pyramid(target, changed.parentRegionName())
+				.addOpen(changed.capturePointPublicId(), openDelta(changed.oldStatus(), changed.newStatus()));
+			default -> throw new IllegalArgumentException("지원하지 않는 이벤트: " + event);
+		}
+	}
+
+	private static RegionPyramid pyramid(Map<String, RegionPyramid> target, String parentRegionName) {
+		return target.computeIfAbsent(parentRegionName, k -> new RegionPyramid());
+	}
+
+	private static long openDelta(DamageStatus oldStatus, DamageStatus newStatus) {
+		boolean wasOpen = oldStatus != DamageStatus.COMPLETED;
+		boolean isOpen = newStatus != DamageStatus.COMPLETED;
+		return wasOpen == isOpen ? 0 : (isOpen ? 1 : -1);
+	}
+
+	private static long cellKey(int cellX, int cellY) {
+		return ((long)cellX << 32) | (cellY & 0xffffffffL);
+	}
+
+	/**
+	 * 칸 하나의 집계 결과 (무게중심 x: 경도, y: 위도)
+	 */
+	public record Cluster(double x, double y, long count, long openCount) {
+	}
+
+	private static final class Cell {
+		long count;
+		long open;
+		double sumX;
+		double sumY;
+	}
+
+	private record PointState(double x, double y) {
+	}
+
+	private static final class RegionPyramid {
+
+		private final Map<String, PointState> points = new HashMap<>();
+		// levels[z]: 줌 z 의 칸 키(cellKey) → 칸
+		private final List<Map<Long, Cell>> levels = new ArrayList<>(POINT_ZOOM);
+
+		RegionPyramid() {
+			for (int zoom = 0; zoom < POINT_ZOOM; zoom++) {
+				levels.add(new HashMap<>());
+			}
+		}
+
+		synchronized void add(String publicId, double x, double y, long openDamages) {
+			if (points.putIfAbsent(publicId, new PointState(x, y)) != null) {
+				return;
+			}
+			for (int zoom = 0; zoom < POINT_ZOOM; zoom++) {
+				Cell cell = levels.get(zoom).computeIfAbsent(key(x, y, zoom), k -> new Cell());
+				cell.count++;
+				cell.open += openDamages;
+				cell.sumX += x;
+				cell.sumY += y;
+			}
+		}
+
+		synchronized void addOpen(String publicId, long delta) {
+			PointState point = points.get(publicId);
+			if (point == null) {
+				return;
+			}
+			for (int zoom = 0; zoom < POINT_ZOOM; zoom++) {
+				Cell cell = levels.get(zoom).get(key(point.x(), point.y(), zoom));
+				if (cell != null) {
+					cell.open += delta;
+				}
+			}
+		}
+
+		synchronized List<Cluster> query(Envelope viewport, int zoom) {
+			int cellZoom = zoom + CELL_SHIFT;
+			int minX = TileMath.tileX(viewport.getMinX(), cellZoom);
+			int maxX = TileMath.tileX(viewport.getMaxX(), cellZoom);
+			int minY = TileMath.tileY(viewport.getMaxY(), cellZoom);
+			int maxY = TileMath.tileY(viewport.getMinY(), cellZoom);
+
+			Map<Long, Cell> level = levels.get(zoom);
+			List<Cluster> result = new ArrayList<>();
+			long rangeSize = (long)(maxX - minX + 1) * (maxY - minY + 1);
+			if (rangeSize <= level.size()) {
+				// 화면 칸 수가 더 적으면 범위를 직접 훑는다
+				for (int cellX = minX; cellX <= maxX; cellX++) {
+					for (int cellY = minY; cellY <= maxY; cellY++) {
+						addIfPresent(result, level.get(cellKey(cellX, cellY)));
+					}
+				}
+			} else {
+				level.forEach((cellKey, cell) -> {
+					int cellX = (int)(cellKey >> 32);
+					int cellY = (int)cellKey.longValue();
+					if (cellX >= minX && cellX <= maxX && cellY >= minY && cellY <= maxY) {
+						addIfPresent(result, cell);
+					}
+				});
+			}
+			return result;
+		}
+
+		private static void addIfPresent(List<Cluster> result, Cell cell) {
+			if (cell != null && cell.count > 0) {
+				result.add(new Cluster(cell.sumX / cell.count, cell.sumY / cell.count, cell.count, cell.open));
+			}
+		}
+
+		private static long key(double x, double y, int zoom) {
+			int cellZoom = zoom + CELL_SHIFT;
+			return cellKey(TileMath.tileX(x, cellZoom), TileMath.tileY(y, cellZoom));
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package com.b201.api.aggregate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.b201.api.dto.point.ClusterPointRowDto;
+import com.b201.api.event.CapturePointRecordedEvent;
+import com.b201.api.event.DamageStatusChangedEvent;
+
+/**
+ * 포인트 인덱스(CapturePointClusterIndex, OpenCapturePointIndex) 재적재에 쓴 스냅샷의 포인트별 change_seq
+ * 다시 채우는 동안 모인 이벤트가 스냅샷에 이미 반영됐는지 판단한다.
+ */
+final class CapturePointSnapshot {
+
+	private final Map<String, Long> changeSeqs = new HashMap<>();
+
+	void add(ClusterPointRowDto row) {
+		changeSeqs.put(row.getPublicId(), row.getChangeSeq() != null ? row.getChangeSeq() : 0L);
+	}
+
+	// 상태 변경은 포인트 change_seq 가 스냅샷 값 이하이면 조회 전에 커밋된 것이다
+	boolean contains(Object event) {
+		if (event instanceof CapturePointRecordedEvent recorded) {
+			return changeSeqs.containsKey(recorded.publicId());
+		}
+		if (event instanceof DamageStatusChangedEvent changed) {
+			Long seq = changeSeqs.get(changed.capturePointPublicId());
+			return seq != null && (changed.capturePointChangeSeq() == null || changed.capturePointChangeSeq() <= seq);
+		}
+		return false;
+	}
+}
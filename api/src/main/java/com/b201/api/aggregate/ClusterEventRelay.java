@@ -0,0 +1,102 @@
+package com.b201.api.aggregate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.b201.api.event.CapturePointRecordedEvent;
+import com.b201.api.event.DamageRecordedEvent;
+import com.b201.api.event.DamageStatusChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인스턴스 간 커밋 이벤트 전달 (Redis pub/sub)
+ * 이 인스턴스에서 커밋된 파손 저장/상태 변경/포인트 저장 이벤트를 CHANNEL 로 보내고,
+ * 다른 인스턴스가 보낸 이벤트는 트랜잭션 밖에서 다시 발행한다.
+ * 트랜잭션 밖 발행은 fallbackExecution = true 인 리스너(메모리 카운터/인덱스, SSE 스트림)만 받으므로,
+ * DB 롤업(DamageRollupService)이나 Redis 에 공유된 상태(캐시 버전, 주소 HLL, 타일 캐시)는 한 번만 갱신된다.
+ * pub/sub 은 전달을 보장하지 않으므로 놓친 이벤트는 DamageCounterReconciler 의 주기 보정이 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterEventRelay implements MessageListener {
+
+	public static final String CHANNEL = "events:committed";
+
+	// 자기가 보낸 메시지도 구독으로 돌아오므로 출처로 걸러낸다
+	private final String instanceId = UUID.randomUUID().toString();
+
+	private final StringRedisTemplate redisTemplate;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ObjectMapper objectMapper;
+
+	@TransactionalEventListener
+	public void onDamageRecorded(DamageRecordedEvent event) {
+		send(event);
+	}
+
+	@TransactionalEventListener
+	public void onDamageStatusChanged(DamageStatusChangedEvent event) {
+		send(event);
+	}
+
+	@TransactionalEventListener
+	public void onCapturePointRecorded(CapturePointRecordedEvent event) {
+		send(event);
+	}
+
+	private void send(Object event) {
+		// 이미 커밋된 뒤이므로 Redis 오류가 저장 요청으로 번지지 않게 한다
+		try {
+			String body = objectMapper.writeValueAsString(
+				new Envelope(instanceId, event.getClass().getSimpleName(), objectMapper.valueToTree(event)));
+			redisTemplate.convertAndSend(CHANNEL, body);
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.error("[send] 커밋 이벤트 전달 실패, event={}", event, e);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		Object event;
+		try {
+			Envelope envelope = objectMapper.readValue(body, Envelope.class);
+			if (instanceId.equals(envelope.origin())) {
+				return;
+			}
+			event = switch (envelope.type()) {
+				case "DamageRecordedEvent" -> objectMapper.treeToValue(envelope.payload(), DamageRecordedEvent.class);
+				case "DamageStatusChangedEvent" ->
+					objectMapper.treeToValue(envelope.payload(), DamageStatusChangedEvent.class);
+				case "CapturePointRecordedEvent" ->
+					objectMapper.treeToValue(envelope.payload(), CapturePointRecordedEvent.class);
+				default -> null;
+			};
+		} catch (JsonProcessingException e) {
+			log.error("[onMessage] 커밋 이벤트 해석 실패, body={}", body, e);
+			return;
+		}
+		if (event == null) {
+			log.warn("[onMessage] 알 수 없는 이벤트 유형, body={}", body);
+			return;
+		}
+		log.debug("[onMessage] 다른 인스턴스 이벤트 반영, event={}", event);
+		eventPublisher.publishEvent(event);
+	}
+
+	private record Envelope(String origin, String type, JsonNode payload) {
+	}
+}
@@ -0,0 +1,181 @@
+package com.b201.api.aggregate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+import com.b201.api.dto.maintenance.CompletionRowDto;
+import com.b201.api.dto.maintenance.CompletionStatsDto;
+import com.b201.api.event.DamageStatusChangedEvent;
+import com.b201.api.util.UtcClock;
+
+/**
+ * 광역시/도별 시간 단위 보수공사 완료 건수 (최근 30일 순환 버퍼)
+ * 완료 상태로 바뀔 때마다 해당 시각의 칸을 올리고, 최근 24시간/7일/30일 완료 건수는 칸 합계로 바로 구한다.
+ * 완료가 다른 상태로 되돌려지면 올렸던 칸을 내린다. (창 안의 완료 파손별 완료 시각을 같이 둔다)
+ * 기동 시와 주기 보정 때 DamageCounterReconciler 가 capture_damage 의 완료 시각으로 다시 채운다.
+ * 다시 채우는 동안 들어온 이벤트는 ReloadBuffer 로 모아, 스냅샷에 이미 반영된 완료를 빼고 새 버퍼에 다시 적용한 뒤 통째로 바꿔 끼운다.
+ */
+@Component
+public class CompletionWindowRegistry {
+
+	static final int DAY_HOURS = 24;
+	static final int WEEK_HOURS = 7 * DAY_HOURS;
+	static final int MONTH_HOURS = 30 * DAY_HOURS;
+	// updated_at 은 저장(flush) 시점에 찍히므로 이벤트의 changedAt 과 조금 다를 수 있다
+	private static final Duration SAME_CHANGE_TOLERANCE = Duration.ofMinutes(1);
+
+	private volatile Map<String, HourlyRing> regions = new ConcurrentHashMap<>();
+	private final ReloadBuffer<DamageStatusChangedEvent> reloadBuffer = new ReloadBuffer<>();
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onDamageStatusChanged(DamageStatusChangedEvent event) {
+		boolean completed = event.newStatus() == DamageStatus.COMPLETED;
+		boolean reopened = event.oldStatus() == DamageStatus.COMPLETED && !completed;
+		if (event.parentRegionName() == null || (!completed && !reopened) || event.changedAt() == null) {
+			return;
+		}
+		reloadBuffer.apply(event, e -> apply(regions, e));
+	}
+
+	/**
+	 * 다시 채우기 시작, DB 조회 직전에 부른다.
+	 */
+	public void beginReload() {
+		reloadBuffer.begin();
+	}
+
+	/**
+	 * DB 완료 시각 목록으로 지역별 버퍼를 새로 만들어 통째로 교체한다. (목록에 없는 지역은 비운다)
+	 * beginReload() 이후 들어온 완료 중 스냅샷에 같은 완료가 없는 것과 되돌림은 모두 새 버퍼에 다시 적용한다.
+	 */
+	public void reload(List<CompletionRowDto> rows) {
+		Map<String, HourlyRing> rebuilt = new ConcurrentHashMap<>();
+		Map<Integer, LocalDateTime> snapshot = new HashMap<>();
+		rows.forEach(row -> {
+			snapshot.put(row.getDamageId(), row.getCompletedAt());
+			// updated_at 도 UTC (JpaAuditingConfig)
+			rebuilt.computeIfAbsent(row.getParentRegionName(), k -> new HourlyRing())
+				.complete(row.getDamageId(), epochHour(row.getCompletedAt()));
+		});
+		reloadBuffer.swap(events -> {
+			events.stream()
+				.filter(event -> !inSnapshot(snapshot, event))
+				.forEach(event -> apply(rebuilt, event));
+			regions = rebuilt;
+		});
+	}
+
+	public CompletionStatsDto stats(String parentRegionName) {
+		HourlyRing ring = regions.get(parentRegionName);
+		if (ring == null) {
+			return new CompletionStatsDto(0L, 0L, 0L);
+		}
+		long now = epochHour(Instant.now());
+		return new CompletionStatsDto(ring.sum(now, DAY_HOURS), ring.sum(now, WEEK_HOURS),
+			ring.sum(now, MONTH_HOURS));
+	}
+
+	// 버퍼 적재 대상 시작 시각 (UTC, 조회 쿼리 조건용)
+	public static LocalDateTime windowStart() {
+		return UtcClock.now().minusHours(MONTH_HOURS);
+	}
+
+	// changedAt 은 UTC 기준
+	private static void apply(Map<String, HourlyRing> target, DamageStatusChangedEvent event) {
+		HourlyRing ring = target.computeIfAbsent(event.parentRegionName(), k -> new HourlyRing());
+		if (event.newStatus() == DamageStatus.COMPLETED) {
+			ring.complete(event.damageId(), epochHour(event.changedAt()));
+		} else {
+			ring.reopen(event.damageId());
+		}
+	}
+
+	// 되돌림은 스냅샷에 반영됐어도(완료 목록에 없음) 다시 적용해도 같으므로 완료만 거른다
+	private static boolean inSnapshot(Map<Integer, LocalDateTime> snapshot, DamageStatusChangedEvent event) {
+		LocalDateTime completedAt = snapshot.get(event.damageId());
+		return event.newStatus() == DamageStatus.COMPLETED && completedAt != null
+			&& !completedAt.isBefore(event.changedAt().minus(SAME_CHANGE_TOLERANCE));
+	}
+
+	private static long epochHour(LocalDateTime utc) {
+		return epochHour(utc.toInstant(ZoneOffset.UTC));
+	}
+
+	private static long epochHour(Instant instant) {
+		return Math.floorDiv(instant.getEpochSecond(), 3600);
+	}
+
+	/**
+	 * 시간 번호(epoch hour) % 칸 수 위치에 건수를 쌓는 순환 버퍼
+	 * 칸마다 시간 번호를 같이 두어, 한 바퀴 지난 낡은 칸은 쓰기 시점에 0으로 덮고 합계에서는 건너뛴다.
+	 * 되돌림 때 내릴 칸을 찾도록 파손별 완료 시간 번호를 두고, 창을 벗어난 것은 쓰기 시점에 정리한다.
+	 */
+	static final class HourlyRing {
+
+		private final long[] hours = new long[MONTH_HOURS];
+		private final long[] counts = new long[MONTH_HOURS];
+		private final Map<Integer, Long> completedHours = new HashMap<>();
+		private long latestHour = Long.MIN_VALUE;
+
+		HourlyRing() {
+			Arrays.fill(hours, Long.MIN_VALUE);
+		}
+
+		// 같은 파손이 다시 완료되면 이전 완료는 내리고 새 시각으로 올린다
+		synchronized void complete(int damageId, long hour) {
+			reopen(damageId);
+			if (add(hour, 1)) {
+				completedHours.put(damageId, hour);
+			}
+			if (hour > latestHour) {
+				latestHour = hour;
+				completedHours.values().removeIf(completed -> completed <= latestHour - MONTH_HOURS);
+			}
+		}
+
+		synchronized void reopen(int damageId) {
+			Long hour = completedHours.remove(damageId);
+			if (hour != null) {
+				add(hour, -1);
+			}
+		}
+
+		// 현재 시간 칸을 포함한 최근 window 개 칸의 합계
+		synchronized long sum(long now, int window) {
+			long total = 0;
+			for (long hour = now - window + 1; hour <= now; hour++) {
+				int slot = (int)Math.floorMod(hour, (long)MONTH_HOURS);
+				if (hours[slot] == hour) {
+					total += counts[slot];
+				}
+			}
+			return total;
+		}
+
+		// 칸에 반영됐으면 true
+		private boolean add(long hour, long delta) {
+			int slot = (int)Math.floorMod(hour, (long)MONTH_HOURS);
+			if (hours[slot] > hour) {
+				// 이미 한 바퀴 이상 지난 시각
+				return false;
+			}
+			if (hours[slot] != hour) {
+				hours[slot] = hour;
+				counts[slot] = 0;
+			}
+			counts[slot] += delta;
+			return true;
+		}
+	}
+}
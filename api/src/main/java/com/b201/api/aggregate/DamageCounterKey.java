@@ -0,0 +1,17 @@
+package com.b201.api.aggregate;
+
+import java.time.LocalDate;
+
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+
+/**
+ * 메모리 카운터 한 칸의 키 (광역시/도, 구, 파손 유형, 상태, 날짜)
+ */
+public record DamageCounterKey(
+	String parentRegionName,
+	String regionName,
+	String categoryName,
+	DamageStatus status,
+	LocalDate day
+) {
+}
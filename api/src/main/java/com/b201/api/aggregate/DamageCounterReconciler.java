@@ -0,0 +1,149 @@
+package com.b201.api.aggregate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.b201.api.dto.dashboard.DamageCounterRowDto;
+import com.b201.api.dto.dashboard.RiskBinRowDto;
+import com.b201.api.dto.maintenance.CompletionRowDto;
+import com.b201.api.dto.maintenance.RepairTimeRowDto;
+import com.b201.api.dto.point.ClusterPointRowDto;
+import com.b201.api.dto.point.OpenDamageRowDto;
+import com.b201.api.repository.CaptureDamageRepository;
+import com.b201.api.repository.CapturePointRepository;
+import com.b201.api.repository.DamageDailyRollupRepository;
+import com.b201.api.repository.DamageStatusHistoryRepository;
+import com.b201.api.service.DamageRollupService;
+import com.b201.api.util.UtcClock;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메모리 카운터 적재 및 보정 작업
+ * 기동 시에는 롤업 테이블로 빠르게 채우고, 이후 주기적으로 capture_damage 원본과 비교해 어긋난 셀을 바로잡는다.
+ * 롤업 테이블도 같은 원본과 비교해 어긋난 날짜를 다시 만든다.
+ * 위험도 히스토그램(RiskHistogramRegistry), 처리 소요 시간 분포(RepairTimeRegistry),
+ * 완료 건수 시간 창(CompletionWindowRegistry), 지도 클러스터 피라미드(CapturePointClusterIndex), 주변 조회 트리(OpenCapturePointIndex),
+ * 수집 중복 제거 인덱스(OpenDamageSpatialIndex)도 같은 시점에 적재/보정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DamageCounterReconciler {
+
+	private final DamageCounterRegistry registry;
+	private final DamageDailyRollupRepository rollupRepo;
+	private final CaptureDamageRepository damageRepo;
+	private final RiskHistogramRegistry riskHistograms;
+	private final RepairTimeRegistry repairTimes;
+	private final DamageStatusHistoryRepository historyRepo;
+	private final CompletionWindowRegistry completions;
+	private final CapturePointClusterIndex clusters;
+	private final OpenCapturePointIndex openPoints;
+	private final CapturePointRepository capturePointRepo;
+	private final OpenDamageSpatialIndex openDamages;
+	private final DashboardCacheVersion cacheVersion;
+	private final DamageRollupService rollupService;
+
+	// 웹 서버와 Kafka 리스너가 뜨기 전에 카운터를 채워둔다
+	@PostConstruct
+	public void load() {
+		List<DamageCounterRowDto> rows = rollupRepo.findCounterRows();
+		registry.load(rows);
+		log.info("[load] 메모리 카운터 적재 완료, rows={}", rows.size());
+
+		// 롤업에는 위험도가 없으므로 위험도 히스토그램은 원본에서 한 번 적재
+		List<RiskBinRowDto> riskRows = damageRepo.findRiskBinRows();
+		riskHistograms.load(riskRows);
+		log.info("[load] 위험도 히스토그램 적재 완료, rows={}", riskRows.size());
+
+		reloadRepairTimes();
+		reloadCompletions();
+		reloadClusters();
+		reloadOpenDamages();
+	}
+
+	@Scheduled(
+		initialDelayString = "${dashboard.counter.reconcile-interval-ms:3600000}",
+		fixedDelayString = "${dashboard.counter.reconcile-interval-ms:3600000}"
+	)
+	public void reconcile() {
+		log.info("[reconcile] 메모리 카운터 보정 시작");
+		List<DamageCounterRowDto> rows = damageRepo.findCounterRows();
+		Set<String> driftedRegions = new HashSet<>(registry.reconcile(rows));
+		driftedRegions.addAll(riskHistograms.reconcile(damageRepo.findRiskBinRows()));
+		// 대시보드 캐시(Redis)는 메모리 카운터로 계산되므로, 보정된 지역은 버전을 올려 보정 전 값을 버린다
+		driftedRegions.forEach(cacheVersion::bump);
+		log.info("[reconcile] 카운터 보정 완료, rows={}, driftedRegions={}", rows.size(), driftedRegions);
+
+		// 다른 인스턴스의 변경은 ClusterEventRelay 로 바로 반영되지만, pub/sub 에서 놓친 이벤트도 반영되도록
+		// 처리 소요 시간 분포, 완료 시간 창(최근 30일), 클러스터 피라미드, 주변 조회 트리, 중복 제거 인덱스를 다시 채운다
+		reloadRepairTimes();
+		reloadCompletions();
+		reloadClusters();
+		reloadOpenDamages();
+
+		reconcileRollup(rows);
+	}
+
+	// 기동 시 적재 원본인 롤업 테이블도 capture_damage 원본과 비교해, 어긋난 날짜는 다시 만든다
+	private void reconcileRollup(List<DamageCounterRowDto> sourceRows) {
+		Map<DamageCounterKey, Long> diff = new HashMap<>();
+		sourceRows.forEach(row -> diff.merge(row.toKey(), row.getCount(), Long::sum));
+		rollupRepo.findCounterRows().forEach(row -> diff.merge(row.toKey(), -row.getCount(), Long::sum));
+
+		Set<LocalDate> days = new TreeSet<>();
+		diff.forEach((key, delta) -> {
+			if (delta != 0) {
+				days.add(key.day());
+			}
+		});
+		days.forEach(rollupService::rebuildDay);
+	}
+
+	private void reloadRepairTimes() {
+		repairTimes.beginReload();
+		List<RepairTimeRowDto> rows = historyRepo.findRepairTimeRows();
+		repairTimes.reload(rows);
+		log.info("[reloadRepairTimes] 처리 소요 시간 분포 적재 완료, rows={}", rows.size());
+	}
+
+	private void reloadCompletions() {
+		completions.beginReload();
+		List<CompletionRowDto> rows = damageRepo.findCompletionRows(CompletionWindowRegistry.windowStart());
+		completions.reload(rows);
+		log.info("[reloadCompletions] 완료 건수 시간 창 적재 완료, rows={}", rows.size());
+	}
+
+	private void reloadClusters() {
+		// 조회 중에 커밋되는 이벤트를 놓치지 않도록 조회 전에 버퍼링을 시작한다
+		clusters.beginReload();
+		openPoints.beginReload();
+		List<ClusterPointRowDto> rows = capturePointRepo.findClusterPointRows();
+		clusters.reload(rows);
+		openPoints.reload(rows);
+		log.info("[reloadClusters] 클러스터 피라미드 / 주변 조회 트리 적재 완료, points={}", rows.size());
+	}
+
+	private void reloadOpenDamages() {
+		if (!openDamages.isEnabled()) {
+			return;
+		}
+		LocalDateTime since = UtcClock.now().minusDays(openDamages.getWindowDays());
+		openDamages.beginReload();
+		List<OpenDamageRowDto> rows = damageRepo.findOpenDamageRows(since);
+		openDamages.reload(rows);
+		log.info("[reloadOpenDamages] 중복 제거 인덱스 적재 완료, rows={}", rows.size());
+	}
+}
@@ -0,0 +1,306 @@
+package com.b201.api.aggregate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+import com.b201.api.dto.dashboard.DamageCounterRowDto;
+import com.b201.api.event.DamageRecordedEvent;
+import com.b201.api.event.DamageStatusChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 광역시/도별 파손 건수 메모리 카운터
+ * (구, 유형, 상태, 날짜) 단위 셀과 대시보드/보수 현황용 보조 집계(날짜별, 날짜×유형×상태별, 구×유형별, 월×유형별,
+ * 상태별, 구×상태별, 월×상태별, 구 순위)를 함께 유지한다. 상태 변경은 이전 상태 -1, 새 상태 +1 로 반영된다.
+ * 커밋된 파손 저장/상태 변경 이벤트로 갱신되고, DamageCounterReconciler 가 주기적으로 DB와 맞춘다.
+ * 다른 인스턴스에서 커밋된 이벤트는 ClusterEventRelay 가 트랜잭션 밖에서 다시 발행하므로 fallbackExecution 으로 받는다.
+ */
+@Slf4j
+@Component
+public class DamageCounterRegistry {
+
+	private final Map<String, RegionCounters> regions = new ConcurrentHashMap<>();
+	private final DriftConfirmation<DamageCounterKey> drift = new DriftConfirmation<>();
+
+	// 대시보드 캐시 버전 증가(DashboardCacheVersion)보다 먼저 반영
+	@TransactionalEventListener(fallbackExecution = true)
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	public void onDamageRecorded(DamageRecordedEvent event) {
+		if (event.parentRegionName() == null) {
+			return;
+		}
+		add(new DamageCounterKey(event.parentRegionName(), event.regionName(), event.categoryName(),
+			event.status(), event.day()), 1);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	public void onDamageStatusChanged(DamageStatusChangedEvent event) {
+		if (event.parentRegionName() == null) {
+			return;
+		}
+		add(new DamageCounterKey(event.parentRegionName(), event.regionName(), event.categoryName(),
+			event.oldStatus(), event.day()), -1);
+		add(new DamageCounterKey(event.parentRegionName(), event.regionName(), event.categoryName(),
+			event.newStatus(), event.day()), 1);
+	}
+
+	public void add(DamageCounterKey key, long delta) {
+		regions.computeIfAbsent(key.parentRegionName(), k -> new RegionCounters()).add(key, delta);
+	}
+
+	/**
+	 * 기동 시 적재: 이벤트가 들어오기 전이므로 DB 집계값(rows)과의 차이를 바로 반영한다.
+	 * @return 반영된 셀 개수
+	 */
+	public int load(List<DamageCounterRowDto> rows) {
+		return apply(rows, null, new HashSet<>());
+	}
+
+	/**
+	 * 주기 보정: DB 집계값(rows)과의 차이가 직전 보정과 같은 셀만 차이만큼 보정한다. (DriftConfirmation)
+	 * DB 조회 뒤에 커밋된 이벤트가 이미 반영된 셀을 되돌리지 않기 위함이다.
+	 * @return 보정된 셀이 있는 광역시/도 이름 (대시보드 캐시 버전 증가용)
+	 */
+	public Set<String> reconcile(List<DamageCounterRowDto> rows) {
+		Set<String> driftedRegions = new HashSet<>();
+		int drifted = apply(rows, drift, driftedRegions);
+		if (drifted > 0) {
+			log.warn("[reconcile] 어긋난 카운터 보정, cells={}, regions={}", drifted, driftedRegions);
+		}
+		int pending = drift.finish();
+		if (pending > 0) {
+			log.info("[reconcile] 다음 보정 때 다시 확인할 셀 = {}", pending);
+		}
+		return driftedRegions;
+	}
+
+	private int apply(List<DamageCounterRowDto> rows, DriftConfirmation<DamageCounterKey> confirmation,
+		Set<String> driftedRegions) {
+		Map<DamageCounterKey, Long> expected = new HashMap<>();
+		rows.forEach(row -> expected.merge(row.toKey(), row.getCount(), Long::sum));
+
+		Set<DamageCounterKey> keys = new HashSet<>(expected.keySet());
+		regions.values().forEach(region -> keys.addAll(region.cells.keySet()));
+
+		int drifted = 0;
+		for (DamageCounterKey key : keys) {
+			long delta = expected.getOrDefault(key, 0L) - count(key);
+			if (delta != 0 && (confirmation == null || confirmation.confirm(key, delta))) {
+				add(key, delta);
+				driftedRegions.add(key.parentRegionName());
+				drifted++;
+			}
+		}
+		return drifted;
+	}
+
+	public long count(DamageCounterKey key) {
+		RegionCounters region = regions.get(key.parentRegionName());
+		LongAdder adder = region == null ? null : region.cells.get(key);
+		return adder == null ? 0L : adder.sum();
+	}
+
+	// 기간 [start, end] (양 끝 포함) 파손 건수
+	public long countBetween(String parentRegionName, LocalDate start, LocalDate end) {
+		return countBetween(parentRegionName, start, end, Set.of(), Set.of());
+	}
+
+	/**
+	 * 기간 [start, end] (양 끝 포함) 파손 건수
+	 * 기간 안에 통째로 들어가는 달은 월 단위 집계에서 한 번에 읽고, 앞뒤로 걸친 날만 하루씩 더한다.
+	 * categories/statuses 가 비어 있으면 해당 조건은 걸지 않는다.
+	 */
+	public long countBetween(String parentRegionName, LocalDate start, LocalDate end,
+		Set<String> categories, Set<DamageStatus> statuses) {
+		RegionCounters region = region(parentRegionName);
+		long sum = 0;
+		LocalDate day = start;
+		while (!day.isAfter(end)) {
+			YearMonth month = YearMonth.from(day);
+			if (day.getDayOfMonth() == 1 && !month.atEndOfMonth().isAfter(end)) {
+				sum += region.monthCount(month, categories, statuses);
+				day = month.plusMonths(1).atDay(1);
+			} else {
+				sum += region.dayCount(day, categories, statuses);
+				day = day.plusDays(1);
+			}
+		}
+		return sum;
+	}
+
+	/**
+	 * [start, end] 하루 단위 건수 배열 (index 0 = start)
+	 * categories/statuses 가 비어 있으면 해당 조건은 걸지 않는다.
+	 */
+	public long[] dailyCounts(String parentRegionName, LocalDate start, LocalDate end,
+		Set<String> categories, Set<DamageStatus> statuses) {
+		RegionCounters region = region(parentRegionName);
+		long[] counts = new long[(int)(end.toEpochDay() - start.toEpochDay() + 1)];
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = region.dayCount(start.plusDays(i), categories, statuses);
+		}
+		return counts;
+	}
+
+	// 유형별 건수
+	public Map<String, Long> countByCategory(String parentRegionName) {
+		Map<String, Long> result = new HashMap<>();
+		region(parentRegionName).byDistrictCategory.forEach((key, adder) ->
+			result.merge(key.categoryName(), adder.sum(), Long::sum));
+		return result;
+	}
+
+	// 구 → 유형 → 건수
+	public Map<String, Map<String, Long>> countByDistrictAndCategory(String parentRegionName) {
+		Map<String, Map<String, Long>> result = new HashMap<>();
+		region(parentRegionName).byDistrictCategory.forEach((key, adder) ->
+			result.computeIfAbsent(key.regionName(), k -> new HashMap<>()).put(key.categoryName(), adder.sum()));
+		return result;
+	}
+
+	// 월 → 유형 → 건수
+	public Map<YearMonth, Map<String, Long>> countByMonthAndCategory(String parentRegionName) {
+		Map<YearMonth, Map<String, Long>> result = new HashMap<>();
+		region(parentRegionName).byMonthCategory.forEach((key, adder) ->
+			result.computeIfAbsent(key.month(), k -> new HashMap<>()).put(key.categoryName(), adder.sum()));
+		return result;
+	}
+
+	// 상태별 건수 (index = DamageStatus.number)
+	public long[] countByStatus(String parentRegionName) {
+		return sum(region(parentRegionName).byStatus);
+	}
+
+	// 구 → 상태별 건수 (index = DamageStatus.number)
+	public Map<String, long[]> countByDistrictAndStatus(String parentRegionName) {
+		Map<String, long[]> result = new HashMap<>();
+		region(parentRegionName).byDistrictStatus.forEach((district, adders) -> result.put(district, sum(adders)));
+		return result;
+	}
+
+	// 월 → 상태별 건수 (index = DamageStatus.number)
+	public Map<YearMonth, long[]> countByMonthAndStatus(String parentRegionName) {
+		Map<YearMonth, long[]> result = new HashMap<>();
+		region(parentRegionName).byMonthStatus.forEach((month, adders) -> result.put(month, sum(adders)));
+		return result;
+	}
+
+	private static long[] sum(LongAdder[] adders) {
+		long[] result = new long[adders.length];
+		for (int i = 0; i < adders.length; i++) {
+			result[i] = adders[i].sum();
+		}
+		return result;
+	}
+
+	private static LongAdder[] newStatusAdders() {
+		LongAdder[] adders = new LongAdder[DamageStatus.values().length];
+		for (int i = 0; i < adders.length; i++) {
+			adders[i] = new LongAdder();
+		}
+		return adders;
+	}
+
+	// 누적 건수 상위 limit 개 구
+	public List<DistrictCount> topDistricts(String parentRegionName, int limit) {
+		return region(parentRegionName).ranking.top(limit);
+	}
+
+	private RegionCounters region(String parentRegionName) {
+		RegionCounters region = regions.get(parentRegionName);
+		return region != null ? region : RegionCounters.EMPTY;
+	}
+
+	private static final class RegionCounters {
+
+		private static final RegionCounters EMPTY = new RegionCounters();
+
+		private final Map<DamageCounterKey, LongAdder> cells = new ConcurrentHashMap<>();
+		private final Map<LocalDate, LongAdder> byDay = new ConcurrentHashMap<>();
+		private final Map<DistrictCategory, LongAdder> byDistrictCategory = new ConcurrentHashMap<>();
+		private final Map<MonthCategory, LongAdder> byMonthCategory = new ConcurrentHashMap<>();
+		private final Map<LocalDate, Map<CategoryStatus, LongAdder>> byDayCategoryStatus = new ConcurrentHashMap<>();
+		private final LongAdder[] byStatus = newStatusAdders();
+		private final Map<String, LongAdder[]> byDistrictStatus = new ConcurrentHashMap<>();
+		private final Map<YearMonth, LongAdder[]> byMonthStatus = new ConcurrentHashMap<>();
+		private final Map<YearMonth, Map<CategoryStatus, LongAdder>> byMonthCategoryStatus =
+			new ConcurrentHashMap<>();
+		private final DistrictRanking ranking = new DistrictRanking();
+
+		private void add(DamageCounterKey key, long delta) {
+			cells.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+			byDay.computeIfAbsent(key.day(), k -> new LongAdder()).add(delta);
+			byDistrictCategory.computeIfAbsent(new DistrictCategory(key.regionName(), key.categoryName()),
+				k -> new LongAdder()).add(delta);
+			byMonthCategory.computeIfAbsent(new MonthCategory(YearMonth.from(key.day()), key.categoryName()),
+				k -> new LongAdder()).add(delta);
+			byDayCategoryStatus.computeIfAbsent(key.day(), k -> new ConcurrentHashMap<>())
+				.computeIfAbsent(new CategoryStatus(key.categoryName(), key.status()), k -> new LongAdder())
+				.add(delta);
+			int status = key.status().getNumber();
+			byStatus[status].add(delta);
+			byDistrictStatus.computeIfAbsent(key.regionName(), k -> newStatusAdders())[status].add(delta);
+			byMonthStatus.computeIfAbsent(YearMonth.from(key.day()), k -> newStatusAdders())[status].add(delta);
+			byMonthCategoryStatus.computeIfAbsent(YearMonth.from(key.day()), k -> new ConcurrentHashMap<>())
+				.computeIfAbsent(new CategoryStatus(key.categoryName(), key.status()), k -> new LongAdder())
+				.add(delta);
+			ranking.add(key.regionName(), key.categoryName(), delta);
+		}
+
+		private long dayCount(LocalDate day, Set<String> categories, Set<DamageStatus> statuses) {
+			if (categories.isEmpty() && statuses.isEmpty()) {
+				LongAdder adder = byDay.get(day);
+				return adder == null ? 0L : adder.sum();
+			}
+			return sumMatching(byDayCategoryStatus.get(day), categories, statuses);
+		}
+
+		private long monthCount(YearMonth month, Set<String> categories, Set<DamageStatus> statuses) {
+			if (categories.isEmpty() && statuses.isEmpty()) {
+				LongAdder[] adders = byMonthStatus.get(month);
+				return adders == null ? 0L : Arrays.stream(adders).mapToLong(LongAdder::sum).sum();
+			}
+			return sumMatching(byMonthCategoryStatus.get(month), categories, statuses);
+		}
+
+		private static long sumMatching(Map<CategoryStatus, LongAdder> cells, Set<String> categories,
+			Set<DamageStatus> statuses) {
+			if (cells == null) {
+				return 0L;
+			}
+			long sum = 0;
+			for (Map.Entry<CategoryStatus, LongAdder> e : cells.entrySet()) {
+				if ((categories.isEmpty() || categories.contains(e.getKey().categoryName()))
+					&& (statuses.isEmpty() || statuses.contains(e.getKey().status()))) {
+					sum += e.getValue().sum();
+				}
+			}
+			return sum;
+		}
+	}
+
+	private record DistrictCategory(String regionName, String categoryName) {
+	}
+
+	private record MonthCategory(YearMonth month, String categoryName) {
+	}
+
+	private record CategoryStatus(String categoryName, DamageStatus status) {
+	}
+}
@@ -0,0 +1,57 @@
+package com.b201.api.aggregate;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.b201.api.event.DamageRecordedEvent;
+import com.b201.api.event.DamageStatusChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 광역시/도별 대시보드 캐시 버전 (Redis)
+ * 해당 지역의 파손이 저장되거나 상태가 바뀐 커밋 뒤, 그리고 주기 보정(DamageCounterReconciler)이
+ * 해당 지역의 메모리 카운터를 고친 뒤에만 1 증가한다.
+ * 대시보드 캐시 키에 버전을 붙이므로, 변화가 없는 지역은 계속 캐시에서 응답하고
+ * 변화가 있는 지역은 다음 요청에서 한 번만 다시 계산된다. (이전 버전 항목은 TTL 로 정리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardCacheVersion {
+
+	private static final String KEY_PREFIX = "dashboard:version:";
+
+	private final StringRedisTemplate redisTemplate;
+
+	// 캐시 키 SpEL 에서 @dashboardCacheVersion.current(#regionName) 으로 사용
+	public String current(String regionName) {
+		String version = redisTemplate.opsForValue().get(KEY_PREFIX + regionName);
+		return version != null ? version : "0";
+	}
+
+	@TransactionalEventListener
+	public void onDamageRecorded(DamageRecordedEvent event) {
+		bump(event.parentRegionName());
+	}
+
+	@TransactionalEventListener
+	public void onDamageStatusChanged(DamageStatusChangedEvent event) {
+		bump(event.parentRegionName());
+	}
+
+	public void bump(String regionName) {
+		if (regionName == null) {
+			return;
+		}
+		// 이미 커밋된 뒤이므로 Redis 오류가 저장 요청(Kafka 재시도 등)으로 번지지 않게 한다
+		try {
+			Long version = redisTemplate.opsForValue().increment(KEY_PREFIX + regionName);
+			log.debug("[bump] 대시보드 캐시 버전 증가, regionName={}, version={}", regionName, version);
+		} catch (RuntimeException e) {
+			log.error("[bump] 대시보드 캐시 버전 증가 실패, regionName={}", regionName, e);
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.b201.api.aggregate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.b201.api.event.DamageRecordedEvent;
+import com.b201.api.repository.CapturePointRepository;
+import com.b201.api.util.RegionHierarchyCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 광역시/도별 도로파손 감지 주소 개수 근사치 (Redis HyperLogLog)
+ * 지역당 최대 12KB 로 고정되고 PFCOUNT 는 이력 크기와 무관하게 O(1) 이다. (표준 오차 약 0.81%)
+ * 파손 저장이 커밋되면 주소를 PFADD 하고, 처음 조회되는 지역은 DB의 기존 주소로 한 번 채운다.
+ * 초기 적재는 임시 키에 모은 뒤 PFMERGE 와 적재 완료 표시를 스크립트 하나로 반영하므로,
+ * 동시에 들어오는 PFADD 와 섞여도 적재 도중의 덜 찬 값이 읽히지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DistinctAddressSketch {
+
+	private static final String KEY_PREFIX = "dashboard:address-hll:";
+	private static final String SEEDED_SUFFIX = ":seeded";
+	private static final String SEEDING_SUFFIX = ":seeding";
+	private static final int SEED_BATCH_SIZE = 1000;
+	// 적재하던 인스턴스가 죽어도 다른 인스턴스가 다시 시도할 수 있도록 잠금은 만료시킨다
+	private static final Duration SEED_LOCK_TTL = Duration.ofMinutes(1);
+
+	// KEYS[1]: 본 키, KEYS[2]: 임시 키, KEYS[3]: 적재 완료 표시
+	private static final RedisScript<Long> MERGE_SEED = RedisScript.of("""
+		redis.call('PFMERGE', KEYS[1], KEYS[1], KEYS[2])
+		redis.call('DEL', KEYS[2])
+		redis.call('SET', KEYS[3], '1')
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final CapturePointRepository capturePointRepository;
+	private final RegionHierarchyCache regionHierarchy;
+
+	@TransactionalEventListener
+	public void onDamageRecorded(DamageRecordedEvent event) {
+		if (event.parentRegionName() == null || event.streetAddress() == null) {
+			return;
+		}
+		// 이미 커밋된 뒤이므로 Redis 오류는 기록만 한다 (다음 초기 적재/정확 조회로 보완)
+		try {
+			redisTemplate.opsForHyperLogLog().add(KEY_PREFIX + event.parentRegionName(), event.streetAddress());
+		} catch (RuntimeException e) {
+			log.error("[onDamageRecorded] 주소 HLL 갱신 실패, regionName={}", event.parentRegionName(), e);
+		}
+	}
+
+	/**
+	 * 지역 주소 개수 근사치, 아직 초기 적재가 끝나지 않았으면(다른 인스턴스가 적재 중인 경우 포함) 비어 있다.
+	 */
+	public OptionalLong count(String regionName) {
+		if (!ensureSeeded(regionName)) {
+			return OptionalLong.empty();
+		}
+		Long count = redisTemplate.opsForHyperLogLog().size(KEY_PREFIX + regionName);
+		return OptionalLong.of(count != null ? count : 0L);
+	}
+
+	// 적재 잠금을 잡은 인스턴스 하나만 채운다, 적재가 끝나 있으면 true
+	private boolean ensureSeeded(String regionName) {
+		String key = KEY_PREFIX + regionName;
+		String seededKey = key + SEEDED_SUFFIX;
+		if (Boolean.TRUE.equals(redisTemplate.hasKey(seededKey))) {
+			return true;
+		}
+		String lockKey = key + SEEDING_SUFFIX;
+		if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, "1", SEED_LOCK_TTL))) {
+			return false;
+		}
+		String tempKey = key + ":seed:" + UUID.randomUUID();
+		try {
+			List<String> addresses = capturePointRepository.findDistinctStreetAddresses(
+				regionHierarchy.resolve(regionName).districtIds());
+			for (int from = 0; from < addresses.size(); from += SEED_BATCH_SIZE) {
+				List<String> batch = addresses.subList(from, Math.min(from + SEED_BATCH_SIZE, addresses.size()));
+				redisTemplate.opsForHyperLogLog().add(tempKey, batch.toArray(String[]::new));
+			}
+			// 조회 이후 커밋된 주소는 이미 본 키에 PFADD 되어 있으므로 합집합이면 빠짐이 없다
+			redisTemplate.execute(MERGE_SEED, List.of(key, tempKey, seededKey));
+			log.info("[ensureSeeded] 주소 HLL 초기 적재 완료, regionName={}, addresses={}", regionName, addresses.size());
+			return true;
+		} finally {
+			redisTemplate.delete(List.of(tempKey, lockKey));
+		}
+	}
+}
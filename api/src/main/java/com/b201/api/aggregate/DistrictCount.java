@@ -0,0 +1,28 @@
+package com.b201.api.aggregate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 구별 누적 파손 건수 (전체 + 유형별), 불변
+ */
+public record DistrictCount(
+	String regionName,
+	long total,
+	Map<String, Long> byCategory
+) {
+
+	static DistrictCount empty(String regionName) {
+		return new DistrictCount(regionName, 0L, Map.of());
+	}
+
+	DistrictCount plus(String categoryName, long delta) {
+		Map<String, Long> next = new HashMap<>(byCategory);
+		next.merge(categoryName, delta, Long::sum);
+		return new DistrictCount(regionName, total + delta, Map.copyOf(next));
+	}
+
+	public long count(String categoryName) {
+		return byCategory.getOrDefault(categoryName, 0L);
+	}
+}
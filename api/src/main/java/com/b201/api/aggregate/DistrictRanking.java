@@ -0,0 +1,40 @@
+package com.b201.api.aggregate;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * 한 광역시/도 안의 구별 누적 파손 건수 순위
+ * 건수가 바뀔 때마다 해당 구 항목만 빼고 다시 넣으므로 (O(log n)) 상위 N개 조회에 전체 정렬이 필요 없다.
+ * 정렬 기준: 전체 건수 내림차순, 같으면 구 이름순. 건수가 0인 구는 순위에서 빠진다.
+ */
+final class DistrictRanking {
+
+	private static final Comparator<DistrictCount> ORDER =
+		Comparator.comparingLong(DistrictCount::total).reversed()
+			.thenComparing(DistrictCount::regionName);
+
+	private final Map<String, DistrictCount> byName = new HashMap<>();
+	private final NavigableSet<DistrictCount> ranked = new TreeSet<>(ORDER);
+
+	synchronized void add(String regionName, String categoryName, long delta) {
+		DistrictCount previous = byName.get(regionName);
+		if (previous != null) {
+			ranked.remove(previous);
+		}
+		DistrictCount next = (previous != null ? previous : DistrictCount.empty(regionName))
+			.plus(categoryName, delta);
+		byName.put(regionName, next);
+		if (next.total() > 0) {
+			ranked.add(next);
+		}
+	}
+
+	synchronized List<DistrictCount> top(int limit) {
+		return ranked.stream().limit(limit).toList();
+	}
+}
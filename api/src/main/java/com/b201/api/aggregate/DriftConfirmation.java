@@ -0,0 +1,34 @@
+package com.b201.api.aggregate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 주기 보정에서 "DB 스냅샷 - 메모리 값" 차이가 연속 두 번 똑같이 나온 칸만 보정하도록 걸러낸다.
+ * DB 조회와 비교 사이에 커밋된 이벤트가 메모리에 먼저 반영되면 한 번은 가짜 차이가 보이지만,
+ * 다음 보정 때는 DB 에도 반영되어 차이가 사라지므로 보정되지 않는다. 진짜 어긋남은 다음 주기에 고쳐진다.
+ * 보정 작업(DamageCounterReconciler) 한 스레드에서만 쓴다.
+ */
+final class DriftConfirmation<K> {
+
+	private Map<K, Long> previous = new HashMap<>();
+	private Map<K, Long> current = new HashMap<>();
+
+	// 직전 보정에서도 같은 차이였으면 true (보정 대상), 아니면 다음 보정 때 비교하도록 기록해 둔다
+	boolean confirm(K key, long delta) {
+		Long seen = previous.get(key);
+		if (seen != null && seen == delta) {
+			return true;
+		}
+		current.put(key, delta);
+		return false;
+	}
+
+	// 이번 보정 끝, 확인 대기로 남긴 차이 개수를 돌려준다
+	int finish() {
+		int pending = current.size();
+		previous = current;
+		current = new HashMap<>();
+		return pending;
+	}
+}
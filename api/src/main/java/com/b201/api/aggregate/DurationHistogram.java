@@ -0,0 +1,71 @@
+package com.b201.api.aggregate;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 분 단위 소요 시간 로그 스케일 히스토그램
+ * 0~7분은 1분 단위, 그 이상은 2의 거듭제곱 구간마다 8칸으로 나눠 상대 오차 12.5% 이내로 백분위를 구한다.
+ * 최대 약 2^30분(약 2000년)까지 담고, 합계는 따로 유지해 평균은 정확하게 계산한다.
+ */
+final class DurationHistogram {
+
+	private static final int SUB_BUCKETS = 8;
+	private static final int MAX_EXPONENT = 30;
+	private static final int BUCKETS = SUB_BUCKETS * (MAX_EXPONENT - 1);
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sumMinutes = new LongAdder();
+
+	void record(long minutes) {
+		long value = Math.max(0, minutes);
+		buckets.incrementAndGet(indexOf(value));
+		count.increment();
+		sumMinutes.add(value);
+	}
+
+	long count() {
+		return count.sum();
+	}
+
+	Double meanMinutes() {
+		long n = count.sum();
+		return n == 0 ? null : (double)sumMinutes.sum() / n;
+	}
+
+	// nearest-rank 백분위 (해당 칸의 하한값, 분)
+	Long percentileMinutes(double q) {
+		long n = count.sum();
+		if (n == 0) {
+			return null;
+		}
+		long rank = (long)Math.ceil(q * n);
+		long cumulative = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			cumulative += buckets.get(i);
+			if (cumulative >= rank) {
+				return lowerBound(i);
+			}
+		}
+		return lowerBound(BUCKETS - 1);
+	}
+
+	static int indexOf(long minutes) {
+		if (minutes < SUB_BUCKETS) {
+			return (int)minutes;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(minutes);
+		int sub = (int)((minutes >>> (exponent - 3)) & (SUB_BUCKETS - 1));
+		return Math.min(SUB_BUCKETS * (exponent - 2) + sub, BUCKETS - 1);
+	}
+
+	static long lowerBound(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int exponent = index / SUB_BUCKETS + 2;
+		int sub = index % SUB_BUCKETS;
+		return (long)(SUB_BUCKETS + sub) << (exponent - 3);
+	}
+}
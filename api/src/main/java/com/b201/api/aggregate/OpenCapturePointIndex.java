@@ -0,0 +1,312 @@
+package com.b201.api.aggregate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.strtree.ItemDistance;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+import com.b201.api.dto.point.ClusterPointRowDto;
+import com.b201.api.event.CapturePointRecordedEvent;
+import com.b201.api.event.DamageStatusChangedEvent;
+
+/**
+ * 광역시/도별 미완료 파손이 있는 캡처 포인트의 STR-tree (반경 / 최근접 k개 조회용)
+ * 좌표는 지역마다 기준 위도 하나로 미터 단위 평면에 투영해 넣으므로 거리 계산과 트리 가지치기가 같은 단위를 쓴다.
+ * STRtree 는 한 번 만들면 수정할 수 없어서, 새로 열린 포인트는 대기 목록에 두고 닫힌 포인트는 조회 때 걸러내다가
+ * 변경이 REBUILD_THRESHOLD 개를 넘으면 트리를 다시 만든다.
+ * 기동 시와 주기 보정 때 DamageCounterReconciler 가 capture_point 전체로 다시 채운다.
+ * 다시 채우는 동안 들어온 이벤트는 ReloadBuffer 로 모아 스냅샷에 없는 것만 새 트리에 다시 적용한 뒤 통째로 바꿔 끼운다.
+ */
+@Component
+public class OpenCapturePointIndex {
+
+	private static final double METERS_PER_DEGREE = 111_320.0;
+	// 트리 밖 변경(대기 + 닫힘)이 이만큼 쌓이면 다시 만든다
+	private static final int REBUILD_THRESHOLD = 64;
+
+	private static final ItemDistance DISTANCE = (a, b) ->
+		((Node)a.getItem()).distance((Node)b.getItem());
+
+	private volatile Map<String, RegionTree> regions = new ConcurrentHashMap<>();
+	private final ReloadBuffer<Object> reloadBuffer = new ReloadBuffer<>();
+
+	@TransactionalEventListener(fallbackExecution = true)
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	public void onCapturePointRecorded(CapturePointRecordedEvent event) {
+		if (event.parentRegionName() == null) {
+			return;
+		}
+		reloadBuffer.apply(event, e -> apply(regions, e));
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	public void onDamageStatusChanged(DamageStatusChangedEvent event) {
+		if (event.parentRegionName() == null) {
+			return;
+		}
+		if (openDelta(event) != 0) {
+			reloadBuffer.apply(event, e -> apply(regions, e));
+		}
+	}
+
+	/**
+	 * 다시 채우기 시작, DB 조회 직전에 부른다.
+	 */
+	public void beginReload() {
+		reloadBuffer.begin();
+	}
+
+	/**
+	 * DB 포인트 목록으로 지역별 트리를 새로 만들어 통째로 교체한다. (목록에 없는 지역은 비운다)
+	 * beginReload() 이후 들어온 이벤트 중 스냅샷에 반영되지 않은 것만 다시 적용한다.
+	 */
+	public void reload(List<ClusterPointRowDto> rows) {
+		Map<String, List<ClusterPointRowDto>> byRegion = new HashMap<>();
+		CapturePointSnapshot snapshot = new CapturePointSnapshot();
+		rows.forEach(row -> {
+			snapshot.add(row);
+			byRegion.computeIfAbsent(row.getParentRegionName(), k -> new ArrayList<>()).add(row);
+		});
+
+		Map<String, RegionTree> rebuilt = new ConcurrentHashMap<>();
+		byRegion.forEach((regionName, regionRows) -> {
+			double meanY = regionRows.stream().mapToDouble(row -> row.getLocation().getY()).average().orElse(0);
+			RegionTree tree = new RegionTree(meanY);
+			regionRows.forEach(row -> tree.put(row.getPublicId(), row.getLocation().getX(), row.getLocation().getY(),
+				row.getOpenDamages()));
+			tree.rebuild();
+			rebuilt.put(regionName, tree);
+		});
+		reloadBuffer.swap(events -> {
+			events.stream()
+				.filter(event -> !snapshot.contains(event))
+				.forEach(event -> apply(rebuilt, event));
+			regions = rebuilt;
+		});
+	}
+
+	/**
+	 * (x: 경도, y: 위도) 에서 radiusMeters 안의 미완료 포인트, 가까운 순
+	 */
+	public List<Nearby> within(String parentRegionName, double x, double y, double radiusMeters) {
+		RegionTree tree = regions.get(parentRegionName);
+		return tree == null ? List.of() : tree.within(x, y, radiusMeters);
+	}
+
+	/**
+	 * (x: 경도, y: 위도) 에서 가장 가까운 미완료 포인트 k개, 가까운 순
+	 */
+	public List<Nearby> nearest(String parentRegionName, double x, double y, int k) {
+		RegionTree tree = regions.get(parentRegionName);
+		return tree == null ? List.of() : tree.nearest(x, y, k);
+	}
+
+	private static void apply(Map<String, RegionTree> target, Object event) {
+		switch (event) {
+			case CapturePointRecordedEvent recorded -> target
+				.computeIfAbsent(recorded.parentRegionName(), k -> new RegionTree(recorded.y()))
+				.add(recorded.publicId(), recorded.x(), recorded.y(), recorded.openDamages());
+			case DamageStatusChangedEvent changed -> {
+				RegionTree tree = target.get(changed.parentRegionName());
+				if (tree != null) {
+					tree.addOpen(changed.capturePointPublicId(), openDelta(changed));
+				}
+			}
+			default -> throw new IllegalArgumentException("지원하지 않는 이벤트: " + event);
+		}
+	}
+
+	private static long openDelta(DamageStatusChangedEvent event) {
+		boolean wasOpen = event.oldStatus() != DamageStatus.COMPLETED;
+		boolean isOpen = event.newStatus() != DamageStatus.COMPLETED;
+		return wasOpen == isOpen ? 0 : (isOpen ? 1 : -1);
+	}
+
+	/**
+	 * 조회 결과 한 건 (x: 경도, y: 위도)
+	 */
+	public record Nearby(String publicId, double x, double y, long openDamages, double distanceMeters) {
+	}
+
+	private static final class PointState {
+		final double x;
+		final double y;
+		long open;
+		// 현재 트리나 대기 목록에 들어 있는 노드 (닫혀 있으면 null)
+		Node node;
+
+		PointState(double x, double y) {
+			this.x = x;
+			this.y = y;
+		}
+	}
+
+	// 트리에 넣는 불변 항목 (px, py: 투영된 미터 좌표)
+	private static final class Node {
+		final String publicId;
+		final PointState state;
+		final double px;
+		final double py;
+		boolean inTree;
+
+		Node(String publicId, PointState state, double px, double py) {
+			this.publicId = publicId;
+			this.state = state;
+			this.px = px;
+			this.py = py;
+		}
+
+		boolean isLive() {
+			return state == null || state.node == this;
+		}
+
+		double distance(Node other) {
+			double dx = px - other.px;
+			double dy = py - other.py;
+			return Math.sqrt(dx * dx + dy * dy);
+		}
+	}
+
+	private static final class RegionTree {
+
+		// 경도 1도의 길이(m), 지역 안에서는 위도에 따른 차이가 1% 미만이다
+		private final double metersPerDegreeX;
+		private final Map<String, PointState> points = new HashMap<>();
+		private final List<Node> pending = new ArrayList<>();
+		private STRtree tree = new STRtree();
+		private int stale;
+
+		RegionTree(double referenceY) {
+			this.metersPerDegreeX = METERS_PER_DEGREE * Math.cos(Math.toRadians(referenceY));
+		}
+
+		synchronized void add(String publicId, double x, double y, long openDamages) {
+			if (put(publicId, x, y, openDamages)) {
+				maybeRebuild();
+			}
+		}
+
+		synchronized void addOpen(String publicId, long delta) {
+			PointState state = points.get(publicId);
+			if (state == null) {
+				return;
+			}
+			long previous = state.open;
+			state.open = Math.max(0, previous + delta);
+			if (previous == 0 && state.open > 0) {
+				index(publicId, state);
+			} else if (previous > 0 && state.open == 0) {
+				unindex(state);
+			} else {
+				return;
+			}
+			maybeRebuild();
+		}
+
+		// 트리를 다시 만들지 않고 상태만 넣는다 (reload 용), 새 포인트면 true
+		boolean put(String publicId, double x, double y, long openDamages) {
+			if (points.containsKey(publicId)) {
+				return false;
+			}
+			PointState state = new PointState(x, y);
+			state.open = openDamages;
+			points.put(publicId, state);
+			if (openDamages > 0) {
+				index(publicId, state);
+			}
+			return true;
+		}
+
+		synchronized List<Nearby> within(double x, double y, double radiusMeters) {
+			Node query = node(null, null, x, y);
+			Envelope envelope = new Envelope(query.px - radiusMeters, query.px + radiusMeters,
+				query.py - radiusMeters, query.py + radiusMeters);
+			List<Nearby> result = new ArrayList<>();
+			for (Object item : tree.query(envelope)) {
+				collect((Node)item, query, radiusMeters, result);
+			}
+			pending.forEach(node -> collect(node, query, radiusMeters, result));
+			result.sort(Comparator.comparingDouble(Nearby::distanceMeters));
+			return result;
+		}
+
+		synchronized List<Nearby> nearest(double x, double y, int k) {
+			Node query = node(null, null, x, y);
+			List<Nearby> result = new ArrayList<>();
+			if (tree.size() > 0) {
+				// 닫힌 노드가 섞여 나올 수 있으므로 그만큼 더 받는다
+				int want = Math.min(k + stale, tree.size());
+				Object[] items = tree.nearestNeighbour(new Envelope(query.px, query.px, query.py, query.py), query,
+					DISTANCE, want);
+				for (Object item : items) {
+					collect((Node)item, query, Double.MAX_VALUE, result);
+				}
+			}
+			pending.forEach(node -> collect(node, query, Double.MAX_VALUE, result));
+			result.sort(Comparator.comparingDouble(Nearby::distanceMeters));
+			return result.size() > k ? List.copyOf(result.subList(0, k)) : result;
+		}
+
+		void rebuild() {
+			STRtree rebuilt = new STRtree();
+			points.values().forEach(state -> {
+				if (state.node != null) {
+					state.node.inTree = true;
+					rebuilt.insert(new Envelope(state.node.px, state.node.px, state.node.py, state.node.py),
+						state.node);
+				}
+			});
+			rebuilt.build();
+			tree = rebuilt;
+			pending.clear();
+			stale = 0;
+		}
+
+		private void maybeRebuild() {
+			if (pending.size() + stale > REBUILD_THRESHOLD) {
+				rebuild();
+			}
+		}
+
+		private void index(String publicId, PointState state) {
+			state.node = node(publicId, state, state.x, state.y);
+			pending.add(state.node);
+		}
+
+		private void unindex(PointState state) {
+			Node node = state.node;
+			state.node = null;
+			if (node.inTree) {
+				stale++;
+			} else {
+				pending.remove(node);
+			}
+		}
+
+		private void collect(Node node, Node query, double radiusMeters, List<Nearby> result) {
+			if (!node.isLive()) {
+				return;
+			}
+			double distance = node.distance(query);
+			if (distance <= radiusMeters) {
+				result.add(new Nearby(node.publicId, node.state.x, node.state.y, node.state.open, distance));
+			}
+		}
+
+		private Node node(String publicId, PointState state, double x, double y) {
+			return new Node(publicId, state, x * metersPerDegreeX, y * METERS_PER_DEGREE);
+		}
+	}
+}
@@ -0,0 +1,243 @@
+package com.b201.api.aggregate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.locationtech.jts.geom.Envelope;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+import com.b201.api.dto.point.CapturePointLocationView;
+import com.b201.api.dto.point.OpenDamageRowDto;
+import com.b201.api.event.CapturePointRecordedEvent;
+import com.b201.api.event.DamageStatusChangedEvent;
+
+/**
+ * 최근 미완료 파손이 있는 캡처 포인트의 격자 인덱스 (수집 시 중복 제거용)
+ * 반경(radius-meters) 크기의 위도/경도 격자 칸에 포인트를 넣어 두고, 새 감지 위치 주변 칸만 확인해
+ * 반경 안에서 같은 유형의 파손이 아직 열려 있는 포인트를 찾는다.
+ * 저장/완료가 커밋되면 갱신되고, DamageCounterReconciler 가 기동 시와 주기 보정 때 최근 window-days 일치로 다시 채운다.
+ * 다시 채우는 동안 들어온 이벤트는 ReloadBuffer 로 모아 새 격자에 다시 적용한 뒤 통째로 바꿔 끼운다.
+ * 이 인스턴스에서 커밋된 완료만 알기 때문에 결과는 주소 조회 생략 여부를 정하는 사전 확인에만 쓰고,
+ * 중복 판정 자체는 수집 트랜잭션이 칸 잠금(lockCells)을 잡은 뒤 DB 로 한다. (AiResultService)
+ */
+@Component
+public class OpenDamageSpatialIndex {
+
+	private static final double METERS_PER_DEGREE = 111_320.0;
+
+	private final double radiusMeters;
+	private final int windowDays;
+	private final double cellDegrees;
+
+	private volatile Grid grid = new Grid();
+	private final ReloadBuffer<Object> reloadBuffer = new ReloadBuffer<>();
+
+	public OpenDamageSpatialIndex(
+		@Value("${ingest.dedup.radius-meters:5}") double radiusMeters,
+		@Value("${ingest.dedup.window-days:30}") int windowDays) {
+		this.radiusMeters = radiusMeters;
+		this.windowDays = windowDays;
+		this.cellDegrees = Math.max(radiusMeters, 1.0) / METERS_PER_DEGREE;
+	}
+
+	public boolean isEnabled() {
+		return radiusMeters > 0;
+	}
+
+	public int getWindowDays() {
+		return windowDays;
+	}
+
+	/**
+	 * 감지 위치(x: 경도, y: 위도)에서 반경 안에 같은 유형의 미완료 파손이 있는 가장 가까운 포인트
+	 */
+	public Optional<String> findNearby(double x, double y, String categoryName,
+		LocalDateTime capturedAt) {
+		if (!isEnabled()) {
+			return Optional.empty();
+		}
+		LocalDateTime oldest = capturedAt.minusDays(windowDays);
+		int spanX = spanX(y);
+		long cellX = cell(x);
+		long cellY = cell(y);
+
+		Grid current = grid;
+		Entry nearest = null;
+		double nearestMeters = radiusMeters;
+		synchronized (current) {
+			for (long cx = cellX - spanX; cx <= cellX + spanX; cx++) {
+				for (long cy = cellY - 1; cy <= cellY + 1; cy++) {
+					for (Entry entry : current.cells.getOrDefault(key(cx, cy), List.of())) {
+						if (!entry.openCategories.contains(categoryName) || entry.capturedAt.isBefore(oldest)) {
+							continue;
+						}
+						double meters = distanceMeters(x, y, entry.x, entry.y);
+						if (meters <= nearestMeters) {
+							nearest = entry;
+							nearestMeters = meters;
+						}
+					}
+				}
+			}
+		}
+		return Optional.ofNullable(nearest).map(entry -> entry.publicId);
+	}
+
+	/**
+	 * findNearby 가 확인하는 주변 칸 번호, 오름차순 (수집 트랜잭션이 이 순서로 잠가 교착을 피한다)
+	 * 반경 안의 두 감지는 서로의 칸을 주변 칸으로 포함하므로 항상 잠금 행 하나 이상을 공유한다.
+	 */
+	public List<Long> lockCells(double x, double y) {
+		int spanX = spanX(y);
+		long cellX = cell(x);
+		long cellY = cell(y);
+		List<Long> keys = new ArrayList<>();
+		for (long cx = cellX - spanX; cx <= cellX + spanX; cx++) {
+			for (long cy = cellY - 1; cy <= cellY + 1; cy++) {
+				keys.add(key(cx, cy));
+			}
+		}
+		keys.sort(null);
+		return keys;
+	}
+
+	/**
+	 * 감지 위치 주변 반경을 덮는 범위 (칸 잠금 아래 DB 중복 확인용)
+	 */
+	public Envelope searchBox(double x, double y) {
+		double dy = radiusMeters / METERS_PER_DEGREE;
+		double dx = dy / Math.max(Math.abs(Math.cos(Math.toRadians(y))), 0.01);
+		return new Envelope(x - dx, x + dx, y - dy, y + dy);
+	}
+
+	/**
+	 * 후보 중 감지 위치에서 반경 안에 있는 가장 가까운 포인트
+	 */
+	public Optional<String> nearestWithin(double x, double y, List<CapturePointLocationView> candidates) {
+		return candidates.stream()
+			.filter(candidate -> distanceMeters(x, y, candidate.getX(), candidate.getY()) <= radiusMeters)
+			.min(Comparator.comparingDouble(candidate -> distanceMeters(x, y, candidate.getX(), candidate.getY())))
+			.map(CapturePointLocationView::getPublicId);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCapturePointRecorded(CapturePointRecordedEvent event) {
+		if (!isEnabled() || event.openCategories().isEmpty()) {
+			return;
+		}
+		reloadBuffer.apply(event, e -> apply(grid, e));
+	}
+
+	// 완료된 유형은 더 이상 중복 대상이 아니다 (완료 취소는 다음 보정 때 반영)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onDamageStatusChanged(DamageStatusChangedEvent event) {
+		if (!isEnabled() || event.newStatus() != DamageStatus.COMPLETED) {
+			return;
+		}
+		reloadBuffer.apply(event, e -> apply(grid, e));
+	}
+
+	/**
+	 * 다시 채우기 시작, DB 조회 직전에 부른다.
+	 */
+	public void beginReload() {
+		reloadBuffer.begin();
+	}
+
+	/**
+	 * DB 의 최근 미완료 파손 목록으로 새 격자를 만들어 통째로 교체한다.
+	 * beginReload() 이후 들어온 이벤트 중 저장은 스냅샷에 없는 포인트만, 완료는 모두 다시 적용한다. (완료 반영은 여러 번 해도 같다)
+	 */
+	public void reload(List<OpenDamageRowDto> rows) {
+		Grid rebuilt = new Grid();
+		rows.forEach(row -> rebuilt.add(row.getPublicId(), row.getLocation().getX(), row.getLocation().getY(),
+			Set.of(row.getCategoryName()), row.getCapturedAt()));
+		Set<String> snapshot = new HashSet<>(rebuilt.byPublicId.keySet());
+		reloadBuffer.swap(events -> {
+			events.stream()
+				.filter(event -> !(event instanceof CapturePointRecordedEvent recorded
+					&& snapshot.contains(recorded.publicId())))
+				.forEach(event -> apply(rebuilt, event));
+			grid = rebuilt;
+		});
+	}
+
+	private void apply(Grid target, Object event) {
+		switch (event) {
+			case CapturePointRecordedEvent recorded -> target.add(recorded.publicId(), recorded.x(), recorded.y(),
+				recorded.openCategories(), recorded.capturedAt());
+			case DamageStatusChangedEvent changed -> target.close(changed.capturePointPublicId(),
+				changed.categoryName());
+			default -> throw new IllegalArgumentException("지원하지 않는 이벤트: " + event);
+		}
+	}
+
+	// 경도 1도의 거리는 cos(위도) 만큼 짧아지므로 경도 방향으로 칸을 더 본다
+	private static int spanX(double y) {
+		return (int)Math.ceil(1 / Math.max(Math.abs(Math.cos(Math.toRadians(y))), 0.01));
+	}
+
+	private long cell(double degrees) {
+		return (long)Math.floor(degrees / cellDegrees);
+	}
+
+	private static long key(long cellX, long cellY) {
+		return (cellX << 32) ^ (cellY & 0xffffffffL);
+	}
+
+	// 수 미터 거리이므로 등장방형 근사로 충분하다
+	private static double distanceMeters(double x1, double y1, double x2, double y2) {
+		double dx = (x2 - x1) * Math.cos(Math.toRadians((y1 + y2) / 2));
+		double dy = y2 - y1;
+		return Math.sqrt(dx * dx + dy * dy) * METERS_PER_DEGREE;
+	}
+
+	// 격자 칸과 포인트 목록, 조회/갱신은 이 객체로 잠근다
+	private final class Grid {
+		final Map<Long, List<Entry>> cells = new HashMap<>();
+		final Map<String, Entry> byPublicId = new HashMap<>();
+
+		synchronized void add(String publicId, double x, double y, Set<String> categories,
+			LocalDateTime capturedAt) {
+			Entry entry = byPublicId.get(publicId);
+			if (entry == null) {
+				entry = new Entry(publicId, x, y, capturedAt);
+				byPublicId.put(publicId, entry);
+				cells.computeIfAbsent(key(cell(x), cell(y)), k -> new ArrayList<>()).add(entry);
+			}
+			entry.openCategories.addAll(categories);
+		}
+
+		synchronized void close(String publicId, String categoryName) {
+			Entry entry = byPublicId.get(publicId);
+			if (entry != null) {
+				entry.openCategories.remove(categoryName);
+			}
+		}
+	}
+
+	private static final class Entry {
+		final String publicId;
+		final double x;
+		final double y;
+		final LocalDateTime capturedAt;
+		final Set<String> openCategories = new HashSet<>();
+
+		Entry(String publicId, double x, double y, LocalDateTime capturedAt) {
+			this.publicId = publicId;
+			this.x = x;
+			this.y = y;
+			this.capturedAt = capturedAt;
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package com.b201.api.aggregate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * DB 스냅샷으로 통째로 다시 채우는 메모리 인덱스의 이벤트 버퍼
+ * DB 조회 직전에 begin() 하면 그 뒤로 반영되는 이벤트를 모아 두고, swap() 에서 새로 만든 구조에 다시 적용한 뒤 바꿔 끼운다.
+ * 이벤트 반영(apply)과 재적용 + 교체(swap)는 같은 잠금 안에서 하므로 교체 직전에 들어온 이벤트도 옛 구조에만 남아 사라지지 않는다.
+ * 조회 전에 커밋되어 스냅샷에 이미 들어간 이벤트는 재적용하는 쪽에서 스냅샷과 비교해 걸러낸다.
+ */
+final class ReloadBuffer<E> {
+
+	// begin() 이후 반영된 이벤트 (다시 채우는 중이 아니면 null)
+	private List<E> buffered;
+
+	synchronized void begin() {
+		buffered = new ArrayList<>();
+	}
+
+	// 현재 구조에 이벤트를 반영하고, 다시 채우는 중이면 재적용용으로 남긴다
+	synchronized void apply(E event, Consumer<E> action) {
+		action.accept(event);
+		if (buffered != null) {
+			buffered.add(event);
+		}
+	}
+
+	// begin() 이후 모인 이벤트를 넘겨 새 구조에 재적용하고 교체하게 한다
+	synchronized void swap(Consumer<List<E>> replayAndSwap) {
+		List<E> events = buffered != null ? buffered : List.of();
+		buffered = null;
+		replayAndSwap.accept(events);
+	}
+}
@@ -0,0 +1,120 @@
+package com.b201.api.aggregate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+import com.b201.api.dto.maintenance.RepairTimeRowDto;
+import com.b201.api.dto.maintenance.RepairTimeStatsDto;
+import com.b201.api.dto.maintenance.RepairTimeStatsDto.Stage;
+import com.b201.api.event.DamageStatusChangedEvent;
+
+/**
+ * 광역시/도별 처리 단계 소요 시간 분포 (접수/공사 시작/완료까지)
+ * 상태 변경이 커밋될 때마다 파손 생성 시각부터의 경과 시간을 해당 단계 히스토그램에 한 번 기록한다.
+ * 이력을 조회 시점에 self-join 하지 않고, 기동 시와 주기 보정 때 DamageCounterReconciler 가
+ * damage_status_history 로 다시 채운다. (다른 인스턴스에서 커밋된 상태 변경 반영)
+ * 다시 채우는 동안 들어온 이벤트는 ReloadBuffer 로 모아 스냅샷에 없는 것만 새 분포에 다시 기록한다.
+ * 같은 단계로 여러 번 바뀐 파손(되돌림 후 재진행)은 바뀔 때마다 표본이 추가된다.
+ */
+@Component
+public class RepairTimeRegistry {
+
+	// DB datetime 은 초 단위로 저장되므로 이 안쪽 차이는 같은 변경으로 본다
+	private static final Duration SAME_CHANGE_TOLERANCE = Duration.ofSeconds(1);
+
+	private volatile Map<String, Map<Stage, DurationHistogram>> regions = new ConcurrentHashMap<>();
+	private final ReloadBuffer<DamageStatusChangedEvent> reloadBuffer = new ReloadBuffer<>();
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onDamageStatusChanged(DamageStatusChangedEvent event) {
+		if (event.parentRegionName() == null) {
+			return;
+		}
+		reloadBuffer.apply(event, e -> record(regions, e.parentRegionName(), e.newStatus(), e.createdAt(),
+			e.changedAt()));
+	}
+
+	/**
+	 * 다시 채우기 시작, DB 조회 직전에 부른다.
+	 */
+	public void beginReload() {
+		reloadBuffer.begin();
+	}
+
+	/**
+	 * 이력 전체로 새 분포를 만든 뒤 통째로 교체한다.
+	 * beginReload() 이후 들어온 변경 중 스냅샷에 같은 (파손, 상태, 시각) 이력이 없는 것만 다시 기록한다.
+	 */
+	public void reload(List<RepairTimeRowDto> rows) {
+		Map<String, Map<Stage, DurationHistogram>> rebuilt = new ConcurrentHashMap<>();
+		Map<DamageStage, LocalDateTime> latestChanges = new HashMap<>();
+		rows.forEach(row -> {
+			record(rebuilt, row.getParentRegionName(), row.getToStatus(), row.getCreatedAt(), row.getChangedAt());
+			if (row.getChangedAt() != null) {
+				latestChanges.merge(new DamageStage(row.getDamageId(), row.getToStatus()), row.getChangedAt(),
+					(a, b) -> a.isAfter(b) ? a : b);
+			}
+		});
+		reloadBuffer.swap(events -> {
+			events.stream()
+				.filter(event -> !inSnapshot(latestChanges, event))
+				.forEach(event -> record(rebuilt, event.parentRegionName(), event.newStatus(), event.createdAt(),
+					event.changedAt()));
+			regions = rebuilt;
+		});
+	}
+
+	public List<RepairTimeStatsDto> stats(String parentRegionName) {
+		Map<Stage, DurationHistogram> stages = regions.getOrDefault(parentRegionName, Map.of());
+		return Arrays.stream(Stage.values())
+			.map(stage -> {
+				DurationHistogram histogram = stages.get(stage);
+				if (histogram == null) {
+					return new RepairTimeStatsDto(stage, 0L, null, null, null, null);
+				}
+				return new RepairTimeStatsDto(stage, histogram.count(), histogram.meanMinutes(),
+					histogram.percentileMinutes(0.50), histogram.percentileMinutes(0.90),
+					histogram.percentileMinutes(0.99));
+			})
+			.toList();
+	}
+
+	private static void record(Map<String, Map<Stage, DurationHistogram>> target, String parentRegionName,
+		DamageStatus toStatus, LocalDateTime createdAt, LocalDateTime changedAt) {
+		Stage stage = toStage(toStatus);
+		if (stage == null || createdAt == null || changedAt == null) {
+			return;
+		}
+		target.computeIfAbsent(parentRegionName, k -> new ConcurrentHashMap<>())
+			.computeIfAbsent(stage, k -> new DurationHistogram())
+			.record(Duration.between(createdAt, changedAt).toMinutes());
+	}
+
+	private static boolean inSnapshot(Map<DamageStage, LocalDateTime> latestChanges,
+		DamageStatusChangedEvent event) {
+		LocalDateTime latest = latestChanges.get(new DamageStage(event.damageId(), event.newStatus()));
+		return latest != null && event.changedAt() != null
+			&& !latest.isBefore(event.changedAt().minus(SAME_CHANGE_TOLERANCE));
+	}
+
+	private static Stage toStage(DamageStatus status) {
+		return switch (status) {
+			case RECEIVED -> Stage.RECEIVE;
+			case IN_PROGRESS -> Stage.START;
+			case COMPLETED -> Stage.COMPLETE;
+			case REPORTED -> null;
+		};
+	}
+
+	private record DamageStage(Integer damageId, DamageStatus status) {
+	}
+}
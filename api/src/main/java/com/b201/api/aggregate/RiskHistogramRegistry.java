@@ -0,0 +1,135 @@
+package com.b201.api.aggregate;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.b201.api.dto.dashboard.RiskBinRowDto;
+import com.b201.api.event.DamageRecordedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 광역시/도 → 구별 위험도(0~100) 고정 폭 히스토그램
+ * 0.1 단위 1001칸에 파손 건수를 쌓아, 임의 구간별 건수와 백분위를 capture_damage 재조회 없이 계산한다.
+ * 커밋된 파손 저장 이벤트로 갱신되고, DamageCounterReconciler 가 기동 시 적재 및 주기 보정한다.
+ */
+@Slf4j
+@Component
+public class RiskHistogramRegistry {
+
+	public static final double MAX_RISK = 100.0;
+	// 0.1 단위 구간 수 (0.0, 0.1, ..., 100.0)
+	public static final int BINS = 1001;
+
+	private final Map<String, Map<String, AtomicLongArray>> regions = new ConcurrentHashMap<>();
+	private final DriftConfirmation<BinKey> drift = new DriftConfirmation<>();
+
+	// 대시보드 캐시 버전 증가(DashboardCacheVersion)보다 먼저 반영
+	@TransactionalEventListener(fallbackExecution = true)
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	public void onDamageRecorded(DamageRecordedEvent event) {
+		if (event.parentRegionName() == null || event.risk() == null) {
+			return;
+		}
+		histogram(event.parentRegionName(), event.regionName()).addAndGet(toBin(event.risk()), 1);
+	}
+
+	/**
+	 * 기동 시 적재: 이벤트가 들어오기 전이므로 DB 집계값(rows)과의 차이를 바로 반영한다.
+	 * @return 반영된 칸 개수
+	 */
+	public int load(List<RiskBinRowDto> rows) {
+		return apply(rows, null, new HashSet<>());
+	}
+
+	/**
+	 * 주기 보정: DB 집계값(rows)과의 차이가 직전 보정과 같은 칸만 차이만큼 보정한다. (DriftConfirmation)
+	 * @return 보정된 칸이 있는 광역시/도 이름 (대시보드 캐시 버전 증가용)
+	 */
+	public Set<String> reconcile(List<RiskBinRowDto> rows) {
+		Set<String> driftedRegions = new HashSet<>();
+		int drifted = apply(rows, drift, driftedRegions);
+		if (drifted > 0) {
+			log.warn("[reconcile] 어긋난 위험도 히스토그램 보정, bins={}, regions={}", drifted, driftedRegions);
+		}
+		int pending = drift.finish();
+		if (pending > 0) {
+			log.info("[reconcile] 다음 보정 때 다시 확인할 칸 = {}", pending);
+		}
+		return driftedRegions;
+	}
+
+	private int apply(List<RiskBinRowDto> rows, DriftConfirmation<BinKey> confirmation, Set<String> driftedRegions) {
+		Map<String, Map<String, long[]>> expected = new HashMap<>();
+		rows.forEach(row -> expected
+			.computeIfAbsent(row.getParentRegionName(), k -> new HashMap<>())
+			.computeIfAbsent(row.getRegionName(), k -> new long[BINS])[clamp(row.getBin())] += row.getCount());
+
+		Set<String> parents = new HashSet<>(expected.keySet());
+		parents.addAll(regions.keySet());
+
+		int drifted = 0;
+		for (String parent : parents) {
+			Map<String, long[]> expectedDistricts = expected.getOrDefault(parent, Map.of());
+			Set<String> districts = new HashSet<>(expectedDistricts.keySet());
+			districts.addAll(regions.getOrDefault(parent, Map.of()).keySet());
+			for (String district : districts) {
+				long[] want = expectedDistricts.getOrDefault(district, new long[BINS]);
+				AtomicLongArray have = histogram(parent, district);
+				for (int bin = 0; bin < BINS; bin++) {
+					long delta = want[bin] - have.get(bin);
+					if (delta != 0
+						&& (confirmation == null || confirmation.confirm(new BinKey(parent, district, bin), delta))) {
+						have.addAndGet(bin, delta);
+						driftedRegions.add(parent);
+						drifted++;
+					}
+				}
+			}
+		}
+		return drifted;
+	}
+
+	// 구 이름 → 0.1 단위 구간별 건수 스냅샷
+	public Map<String, long[]> snapshot(String parentRegionName) {
+		Map<String, long[]> result = new HashMap<>();
+		regions.getOrDefault(parentRegionName, Map.of()).forEach((district, histogram) -> {
+			long[] bins = new long[BINS];
+			for (int bin = 0; bin < BINS; bin++) {
+				bins[bin] = histogram.get(bin);
+			}
+			result.put(district, bins);
+		});
+		return result;
+	}
+
+	public static int toBin(double risk) {
+		return clamp((int)Math.floor(risk * 10));
+	}
+
+	public static double fromBin(int bin) {
+		return bin / 10.0;
+	}
+
+	private static int clamp(int bin) {
+		return Math.max(0, Math.min(BINS - 1, bin));
+	}
+
+	private AtomicLongArray histogram(String parentRegionName, String regionName) {
+		return regions.computeIfAbsent(parentRegionName, k -> new ConcurrentHashMap<>())
+			.computeIfAbsent(regionName, k -> new AtomicLongArray(BINS));
+	}
+
+	private record BinKey(String parentRegionName, String regionName, int bin) {
+	}
+}
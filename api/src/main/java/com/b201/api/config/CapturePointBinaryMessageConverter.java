@@ -0,0 +1,161 @@
+package com.b201.api.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import com.b201.api.dto.point.CapturePointResponseDto;
+import com.b201.api.dto.point.FeatureDto;
+import com.b201.api.dto.point.PropertiesDto;
+
+/**
+ * 지도 feature 목록(CapturePointResponseDto)의 바이너리 직렬화 (Accept: application/x-capture-points)
+ * 필드 이름 반복과 double 문자열 대신 열(column) 단위 배열로 보낸다. 기본 응답은 계속 JSON 이다.
+ *
+ * 형식 (big-endian, n = feature 수, varint = LEB128 부호 없는 정수)
+ * <pre>
+ * magic "YMRP" (4) | version u8 = 1 | flags u8 (bit0: cursor 있음)
+ * [cursor i64]
+ * n u32
+ * coordinates[0] i32 x n   GeoJSON coordinates[0] 을 1e7 배 한 정수
+ * coordinates[1] i32 x n   GeoJSON coordinates[1] 을 1e7 배 한 정수
+ * display bitset (n+7)/8 바이트, i 번째 비트(LSB 우선) = display
+ * accuracy 존재 bitset (n+7)/8 바이트, 있는 것만 f32 로 이어서
+ * publicId 16 바이트(UUID 상위 8 + 하위 8) x n
+ * 주소 사전 크기 m varint, 각 주소 (UTF-8 길이 varint + 바이트)
+ * 주소 번호 varint x n      0 = 없음, k = 사전의 k-1 번째
+ * </pre>
+ */
+public class CapturePointBinaryMessageConverter extends AbstractHttpMessageConverter<CapturePointResponseDto> {
+
+	public static final MediaType MEDIA_TYPE = new MediaType("application", "x-capture-points");
+
+	private static final byte[] MAGIC = "YMRP".getBytes(StandardCharsets.US_ASCII);
+	private static final int VERSION = 1;
+	private static final double COORDINATE_SCALE = 1e7;
+
+	public CapturePointBinaryMessageConverter() {
+		super(MEDIA_TYPE);
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return CapturePointResponseDto.class.isAssignableFrom(clazz);
+	}
+
+	@Override
+	protected boolean canRead(MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	protected CapturePointResponseDto readInternal(Class<? extends CapturePointResponseDto> clazz,
+		HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("바이너리 지도 형식은 응답 전용입니다.", inputMessage);
+	}
+
+	@Override
+	protected void writeInternal(CapturePointResponseDto body, HttpOutputMessage outputMessage)
+		throws IOException, HttpMessageNotWritableException {
+		byte[] encoded = encode(body);
+		outputMessage.getHeaders().setContentLength(encoded.length);
+		outputMessage.getBody().write(encoded);
+	}
+
+	static byte[] encode(CapturePointResponseDto body) throws IOException {
+		List<FeatureDto> features = body.getFeatures();
+		int n = features.size();
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream(32 + n * 32);
+		DataOutputStream out = new DataOutputStream(buffer);
+
+		out.write(MAGIC);
+		out.writeByte(VERSION);
+		out.writeByte(body.getCursor() != null ? 1 : 0);
+		if (body.getCursor() != null) {
+			out.writeLong(body.getCursor());
+		}
+		out.writeInt(n);
+
+		for (int axis = 0; axis < 2; axis++) {
+			for (FeatureDto feature : features) {
+				out.writeInt((int)Math.round(feature.getGeometry().getCoordinates()[axis] * COORDINATE_SCALE));
+			}
+		}
+
+		byte[] display = new byte[(n + 7) / 8];
+		byte[] hasAccuracy = new byte[(n + 7) / 8];
+		for (int i = 0; i < n; i++) {
+			PropertiesDto properties = features.get(i).getProperties();
+			if (properties.display() != 0) {
+				display[i >> 3] |= (byte)(1 << (i & 7));
+			}
+			if (properties.accuracyMeters() != null) {
+				hasAccuracy[i >> 3] |= (byte)(1 << (i & 7));
+			}
+		}
+		out.write(display);
+		out.write(hasAccuracy);
+		for (FeatureDto feature : features) {
+			Double accuracy = feature.getProperties().accuracyMeters();
+			if (accuracy != null) {
+				out.writeFloat(accuracy.floatValue());
+			}
+		}
+
+		for (FeatureDto feature : features) {
+			UUID publicId = UUID.fromString(feature.getProperties().publicId());
+			out.writeLong(publicId.getMostSignificantBits());
+			out.writeLong(publicId.getLeastSignificantBits());
+		}
+
+		// 같은 도로 주소가 여러 포인트에 반복되므로 사전으로 한 번만 보낸다
+		Map<String, Integer> dictionary = new HashMap<>();
+		int[] addressIndex = new int[n];
+		ByteArrayOutputStream dictionaryBytes = new ByteArrayOutputStream();
+		for (int i = 0; i < n; i++) {
+			String street = features.get(i).getProperties().address() != null
+				? features.get(i).getProperties().address().street() : null;
+			if (street == null) {
+				continue;
+			}
+			Integer index = dictionary.get(street);
+			if (index == null) {
+				index = dictionary.size();
+				dictionary.put(street, index);
+				byte[] utf8 = street.getBytes(StandardCharsets.UTF_8);
+				writeVarint(dictionaryBytes, utf8.length);
+				dictionaryBytes.write(utf8);
+			}
+			addressIndex[i] = index + 1;
+		}
+		writeVarint(out, dictionary.size());
+		dictionaryBytes.writeTo(out);
+		for (int index : addressIndex) {
+			writeVarint(out, index);
+		}
+
+		out.flush();
+		return buffer.toByteArray();
+	}
+
+	private static void writeVarint(OutputStream out, int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			out.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+}
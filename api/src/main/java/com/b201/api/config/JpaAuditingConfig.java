@@ -0,0 +1,19 @@
+package com.b201.api.config;
+
+import java.util.Optional;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.auditing.DateTimeProvider;
+
+import com.b201.api.util.UtcClock;
+
+@Configuration
+public class JpaAuditingConfig {
+
+	// @LastModifiedDate(updated_at) 도 created_at 과 같은 UTC 로 기록한다
+	@Bean
+	public DateTimeProvider utcDateTimeProvider() {
+		return () -> Optional.of(UtcClock.now());
+	}
+}
@@ -1,6 +1,8 @@
 package com.b201.api.config;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
 
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
@@ -9,40 +11,90 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import com.b201.api.aggregate.ClusterEventRelay;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 
 @Configuration
 public class RedisConfig {
 
+	// 캐시 값 형식(직렬화 방식)이 바뀌면 올린다. 이전 형식으로 저장된 항목은 다른 키가 되어 읽히지 않고 TTL 로 사라진다.
+	// v2: 타입 정보 포함(defaultTyping) JSON
+	static final String CACHE_FORMAT_VERSION = "v2";
+
 	//문자열 기반 데이터를 저장하고 읽기 위한 Bean 등록
 	@Bean
 	public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
 		return new StringRedisTemplate(redisConnectionFactory);
 	}
 
+	// 다른 인스턴스의 커밋 이벤트 수신 (ClusterEventRelay)
+	// 같은 파손의 저장 → 상태 변경 순서가 바뀌지 않도록 한 스레드에서 차례로 처리한다
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+		ClusterEventRelay clusterEventRelay) {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("cluster-event-");
+		threadFactory.setDaemon(true);
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.setTaskExecutor(new ConcurrentTaskExecutor(Executors.newSingleThreadExecutor(threadFactory)));
+		container.addMessageListener(clusterEventRelay, new ChannelTopic(ClusterEventRelay.CHANNEL));
+		return container;
+	}
+
 	@Bean
 	public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
 		// 자바의 localdatetime을 처리하기 위해 javaTimeModule을 가진 mapper를 등록해야함.
 		ObjectMapper mapper = new ObjectMapper();
 		mapper.registerModule(new JavaTimeModule());
+		// 기본 생성자 없는 (@AllArgsConstructor) Dto 도 생성자 파라미터 이름으로 역직렬화
+		mapper.registerModule(new ParameterNamesModule());
 		mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
-		// 직렬화 장치의 이 mapper를 등록
-		GenericJackson2JsonRedisSerializer jsonSerializer =
-			new GenericJackson2JsonRedisSerializer(mapper);
+		// 직렬화 장치의 이 mapper를 등록 (캐시에서 꺼낼 때 원래 타입으로 복원되도록 타입 정보 포함)
+		GenericJackson2JsonRedisSerializer jsonSerializer = GenericJackson2JsonRedisSerializer.builder()
+			.objectMapper(mapper)
+			.defaultTyping(true)
+			.build();
 
 		RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
+			.computePrefixWith(cacheName -> CACHE_FORMAT_VERSION + ":" + cacheName + "::")
 			.serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
 			.serializeValuesWith(
 				RedisSerializationContext.SerializationPair.fromSerializer(jsonSerializer))
 			.entryTtl(Duration.ofMinutes(30));
 
-		return RedisCacheManager.builder(redisConnectionFactory).cacheDefaults(redisCacheConfiguration).build();
+		// 대시보드 캐시는 지역 버전이 키에 들어가므로 오래 두고, TTL 은 지난 버전 항목 정리용
+		RedisCacheConfiguration dashboardCacheConfiguration = redisCacheConfiguration.entryTtl(Duration.ofDays(1));
+
+		// 지역별 지도 feature 캐시는 조회 때 변경분만 덧붙여 갱신되므로 오래 둔다
+		RedisCacheConfiguration featureCacheConfiguration = redisCacheConfiguration.entryTtl(Duration.ofDays(1));
+
+		// 지도 타일(byte[])은 JSON 을 거치지 않고 그대로 저장
+		// 키에 타일 버전이 들어가므로 TTL 은 지난 버전 항목 정리 및 무효화 누락 대비용 (CapturePointTileService)
+		RedisCacheConfiguration tileCacheConfiguration = redisCacheConfiguration
+			.serializeValuesWith(RedisSerializationContext.SerializationPair.byteArray())
+			.entryTtl(Duration.ofHours(1));
+
+		return RedisCacheManager.builder(redisConnectionFactory)
+			.cacheDefaults(redisCacheConfiguration)
+			.withInitialCacheConfigurations(Map.of(
+				"dashboard_region_count", dashboardCacheConfiguration,
+				"dashboard_summary", dashboardCacheConfiguration,
+				"capture_points", featureCacheConfiguration,
+				"capture_point_tiles", tileCacheConfiguration
+			))
+			.build();
 	}
 }
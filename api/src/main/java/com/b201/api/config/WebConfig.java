@@ -0,0 +1,17 @@
+package com.b201.api.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+	// 기본 변환기 뒤에 추가하므로 Accept 가 없거나 */* 이면 계속 JSON 으로 응답한다
+	@Override
+	public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+		converters.add(new CapturePointBinaryMessageConverter());
+	}
+}
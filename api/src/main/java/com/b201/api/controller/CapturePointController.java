@@ -1,16 +1,24 @@
 package com.b201.api.controller;
 
+import java.util.List;
+
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.b201.api.dto.damage.DamageDetailResponseDto;
 import com.b201.api.dto.point.CapturePointResponseDto;
+import com.b201.api.dto.point.ClusterResponseDto;
+import com.b201.api.dto.point.NearbyCapturePointDto;
 import com.b201.api.security.CustomUserDetails;
 import com.b201.api.service.CapturePointService;
+import com.b201.api.service.CapturePointTileService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,13 +30,24 @@ import lombok.extern.slf4j.Slf4j;
 public class CapturePointController {
 
 	private final CapturePointService capturePointService;
+	private final CapturePointTileService capturePointTileService;
 
 	@GetMapping
 	public ResponseEntity<CapturePointResponseDto> getCapturePoints(
-		@AuthenticationPrincipal CustomUserDetails user
+		@AuthenticationPrincipal CustomUserDetails user,
+		@RequestParam(required = false) List<Double> bbox,
+		@RequestParam(required = false) Integer zoom,
+		@RequestParam(required = false) Long since
 	) {
 		String regionName = user.getRegionName();
-		CapturePointResponseDto body = capturePointService.findAllFeatures(regionName);
+		if (since != null) {
+			if (bbox != null) {
+				throw new IllegalArgumentException("since 와 bbox 는 함께 사용할 수 없습니다.");
+			}
+			// 증분 동기화는 변경이 없어도 cursor 를 돌려줘야 하므로 항상 200
+			return ResponseEntity.ok(capturePointService.findChangedFeatures(regionName, since));
+		}
+		CapturePointResponseDto body = capturePointService.findFeatures(regionName, bbox, zoom);
 		if (body.getFeatures().isEmpty()) {
 			// 데이터가 없으면 204 No Content
 			return ResponseEntity.noContent().build();
@@ -37,6 +56,55 @@ public class CapturePointController {
 		return ResponseEntity.ok(body);
 	}
 
+	// 광역시/도 전체 GeoJSON 을 DTO 목록 없이 행 단위로 흘려보낸다 (응답 형식은 GET /api/capture-points 와 같음)
+	@GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamCapturePoints(
+		@AuthenticationPrincipal CustomUserDetails user
+	) {
+		String regionName = user.getRegionName();
+		StreamingResponseBody body = out -> capturePointService.writeAllFeatures(regionName, out);
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+	}
+
+	@GetMapping("/clusters")
+	public ResponseEntity<ClusterResponseDto> getClusters(
+		@AuthenticationPrincipal CustomUserDetails user,
+		@RequestParam(required = false) List<Double> bbox,
+		@RequestParam int zoom
+	) {
+		String regionName = user.getRegionName();
+		return ResponseEntity.ok(capturePointService.findClusters(regionName, bbox, zoom));
+	}
+
+	// 현장 위치 주변 미완료 파손: radius(m) 안 전부 또는 가장 가까운 k개
+	@GetMapping("/nearby")
+	public ResponseEntity<List<NearbyCapturePointDto>> getNearby(
+		@AuthenticationPrincipal CustomUserDetails user,
+		@RequestParam double longitude,
+		@RequestParam double latitude,
+		@RequestParam(required = false) Double radius,
+		@RequestParam(required = false) Integer k
+	) {
+		String regionName = user.getRegionName();
+		return ResponseEntity.ok(capturePointService.findNearby(regionName, longitude, latitude, radius, k));
+	}
+
+	@GetMapping(value = "/tiles/{z}/{x}/{y}.mvt", produces = "application/vnd.mapbox-vector-tile")
+	public ResponseEntity<byte[]> getTile(
+		@AuthenticationPrincipal CustomUserDetails user,
+		@PathVariable int z,
+		@PathVariable int x,
+		@PathVariable int y
+	) {
+		String regionName = user.getRegionName();
+		byte[] tile = capturePointTileService.getTile(regionName, z, x, y);
+		if (tile.length == 0) {
+			// 빈 타일은 204 No Content
+			return ResponseEntity.noContent().build();
+		}
+		return ResponseEntity.ok(tile);
+	}
+
 	@GetMapping("/{publicId}")
 	public ResponseEntity<DamageDetailResponseDto> getDamageDetails(
 		@PathVariable String publicId
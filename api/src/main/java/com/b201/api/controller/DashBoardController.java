@@ -1,23 +1,39 @@
 package com.b201.api.controller;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.b201.api.domain.CaptureDamage.DamageStatus;
 import com.b201.api.dto.dashboard.CategoryCountDto;
 import com.b201.api.dto.dashboard.DailyStatusDto;
+import com.b201.api.dto.dashboard.DashboardSummaryDto;
 import com.b201.api.dto.dashboard.DistinctRegionCountDto;
 import com.b201.api.dto.dashboard.MonthlyStatusDto;
 import com.b201.api.dto.dashboard.RegionNameWithCountDto;
+import com.b201.api.dto.dashboard.RiskDistributionDto;
 import com.b201.api.dto.dashboard.RiskStatusDto;
+import com.b201.api.dto.dashboard.StreamTokenDto;
+import com.b201.api.dto.dashboard.TimeBucket;
+import com.b201.api.dto.dashboard.TimeSeriesDto;
 import com.b201.api.dto.dashboard.TopRegionDto;
 import com.b201.api.dto.dashboard.WeeklyStatusDto;
 import com.b201.api.security.CustomUserDetails;
+import com.b201.api.security.JwtUtil;
 import com.b201.api.service.DashboardService;
+import com.b201.api.service.DashboardStreamService;
+import com.b201.api.util.UtcClock;
 
 import lombok.RequiredArgsConstructor;
 
@@ -27,6 +43,8 @@ import lombok.RequiredArgsConstructor;
 public class DashBoardController {
 
 	private final DashboardService dashboardService;
+	private final DashboardStreamService dashboardStreamService;
+	private final JwtUtil jwtUtil;
 
 	@GetMapping("/type")
 	public ResponseEntity<List<CategoryCountDto>> getCategoryDistribution(
@@ -96,12 +114,80 @@ public class DashBoardController {
 		return ResponseEntity.ok(dashboardService.getRiskStatus(regionName));
 	}
 
+	/**
+	 * 위험도 분포 (구간별 건수 + p50/p90/p99)
+	 * 예) /risk/distribution?bands=0,20,40,60,80,100&byDistrict=true
+	 */
+	@GetMapping("/risk/distribution")
+	public ResponseEntity<RiskDistributionDto> getRiskDistribution(
+		@AuthenticationPrincipal CustomUserDetails user,
+		@RequestParam(required = false) List<Double> bands,
+		@RequestParam(defaultValue = "false") boolean byDistrict
+	) {
+		String regionName = user.getRegionName();
+		return ResponseEntity.ok(dashboardService.getRiskDistribution(regionName,
+			bands != null ? bands : List.of(), byDistrict));
+	}
+
+	/** 도로파손 감지 주소 개수 (기본 DB 정확값, exact=false 면 HyperLogLog 근사치) */
 	@GetMapping("/region-count")
 	public ResponseEntity<DistinctRegionCountDto> getDistinctRegionCount(
+		@AuthenticationPrincipal CustomUserDetails user,
+		@RequestParam(defaultValue = "true") boolean exact
+	) {
+		String regionName = user.getRegionName();
+		return ResponseEntity.ok(dashboardService.getDistinctRegionCount(regionName, exact));
+	}
+
+	/** 대시보드 전체 패널을 한 번에 조회 */
+	@GetMapping("/summary")
+	public ResponseEntity<DashboardSummaryDto> getSummary(
+		@AuthenticationPrincipal CustomUserDetails user
+	) {
+		String regionName = user.getRegionName();
+		return ResponseEntity.ok(dashboardService.getDashboardSummary(regionName));
+	}
+
+	/**
+	 * 기간별 파손 건수 시계열
+	 * 예) /timeseries?from=2024-01-01&to=2025-06-30&bucket=QUARTER&category=도로균열&status=COMPLETED
+	 */
+	@GetMapping("/timeseries")
+	public ResponseEntity<TimeSeriesDto> getTimeSeries(
+		@AuthenticationPrincipal CustomUserDetails user,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+		@RequestParam(defaultValue = "MONTH") TimeBucket bucket,
+		@RequestParam(name = "category", required = false) Set<String> categories,
+		@RequestParam(name = "status", required = false) Set<DamageStatus> statuses
+	) {
+		String regionName = user.getRegionName();
+		return ResponseEntity.ok(dashboardService.getTimeSeries(regionName, from,
+			to != null ? to : UtcClock.today(), bucket,
+			categories != null ? categories : Set.of(),
+			statuses != null ? statuses : Set.of()));
+	}
+
+	/**
+	 * 대시보드 SSE 연결용 단기 토큰 (1분)
+	 * 브라우저 EventSource 는 Authorization 헤더를 보낼 수 없으므로, 이 토큰을 받아 /stream?token=... 으로 연결한다.
+	 * 연결이 끊겨 다시 연결할 때는 토큰을 새로 받아야 한다.
+	 */
+	@PostMapping("/stream-token")
+	public ResponseEntity<StreamTokenDto> issueStreamToken(
+		@AuthenticationPrincipal CustomUserDetails user
+	) {
+		return ResponseEntity.ok(new StreamTokenDto(jwtUtil.generateStreamToken(user.getUsername()),
+			JwtUtil.EXPIRATION_STREAM_TIME));
+	}
+
+	/** 대시보드 변경분 실시간 구독 (SSE), 헤더 대신 ?token= (stream-token) 으로도 인증할 수 있다 */
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter stream(
 		@AuthenticationPrincipal CustomUserDetails user
 	) {
 		String regionName = user.getRegionName();
-		return ResponseEntity.ok(dashboardService.getDistinctRegionCount(regionName));
+		return dashboardStreamService.subscribe(regionName);
 	}
 
 }
@@ -13,6 +13,7 @@ import com.b201.api.dto.maintenance.CompletionStatsDto;
 import com.b201.api.dto.maintenance.MaintenanceStatusDto;
 import com.b201.api.dto.maintenance.MonthlyMaintenanceStatusDto;
 import com.b201.api.dto.maintenance.RegionMaintenanceStatusDto;
+import com.b201.api.dto.maintenance.RepairTimeStatsDto;
 import com.b201.api.security.CustomUserDetails;
 import com.b201.api.service.MaintenanceService;
 
@@ -58,4 +59,12 @@ public class MaintenanceController {
 		String regionName = user.getRegionName();
 		return ResponseEntity.ok().body(maintenanceService.getRegionMaintenanceStatus(regionName));
 	}
+
+	@GetMapping("/repair-time")
+	public ResponseEntity<List<RepairTimeStatsDto>> getRepairTime(
+		@AuthenticationPrincipal CustomUserDetails user
+	) {
+		String regionName = user.getRegionName();
+		return ResponseEntity.ok().body(maintenanceService.getRepairTimeStats(regionName));
+	}
 }
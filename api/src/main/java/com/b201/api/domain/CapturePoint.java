@@ -79,6 +79,22 @@ public class CapturePoint {
 	@JoinColumn(name = "region_id")
 	private Region region;
 
+	// 증분 동기화용 변경 번호 (저장/소속 파손 상태 변경 시 ChangeSequence 에서 새로 받음)
+	@Setter
+	@Column(name = "change_seq", nullable = false)
+	private Long changeSeq;
+
+	// 정수 지오해시 (GeoCell), 화면 범위 조회의 인덱스 구간 필터용
+	@Column(name = "geo_cell")
+	private Long geoCell;
+
+	// 같은 위치의 같은 유형 미완료 파손이 다시 감지된 마지막 촬영 시각과 확인 횟수 (처음 저장 포함)
+	@Column(name = "last_seen_at")
+	private LocalDateTime lastSeenAt;
+
+	@Column(name = "sighting_count", nullable = false)
+	private int sightingCount = 1;
+
 	@PrePersist
 	public void prePersist() {
 		if (publicId == null) {
@@ -92,6 +108,14 @@ public class CapturePoint {
 		this.captureDamages.add(damage);
 	}
 
+	// 중복 감지를 이 포인트의 재확인으로 기록한다 (늦게 도착한 감지가 마지막 촬영 시각을 되돌리지 않게 한다)
+	public void recordSighting(LocalDateTime capturedAt) {
+		if (lastSeenAt == null || capturedAt.isAfter(lastSeenAt)) {
+			lastSeenAt = capturedAt;
+		}
+		sightingCount++;
+	}
+
 	@Builder(toBuilder = true)
 	public CapturePoint(
 		LocalDateTime captureTimestamp,
@@ -99,7 +123,8 @@ public class CapturePoint {
 		Double accuracyMeters,
 		String imageUrl,
 		Double risk,
-		String streetAddress
+		String streetAddress,
+		Long geoCell
 	) {
 		this.captureTimestamp = captureTimestamp;
 		this.location = location;
@@ -107,6 +132,7 @@ public class CapturePoint {
 		this.imageUrl = imageUrl;
 		this.risk = risk;
 		this.streetAddress = streetAddress;
+		this.geoCell = geoCell;
 	}
 
 }
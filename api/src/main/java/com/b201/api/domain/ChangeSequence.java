@@ -0,0 +1,28 @@
+package com.b201.api.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이름별 단조 증가 변경 번호 (db/005 에서 행을 만든다)
+ * 증가는 행 UPDATE 로 하므로 행 잠금이 커밋까지 유지되어, 번호 순서와 커밋 순서가 같다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "change_sequence")
+public class ChangeSequence {
+
+	public static final String CAPTURE_POINT = "capture_point";
+
+	@Id
+	@Column(name = "name", length = 50, nullable = false)
+	private String name;
+
+	@Column(name = "seq_value", nullable = false)
+	private Long value;
+}
@@ -0,0 +1,68 @@
+package com.b201.api.domain;
+
+import java.time.LocalDate;
+
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대시보드 집계용 일 단위 파손 롤업 (광역시/도, 구, 유형, 날짜, 상태별 건수)
+ * capture_damage 를 직접 스캔하지 않도록 파손 저장/상태 변경 시 같은 트랜잭션에서 갱신된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Table(
+	name = "damage_daily_rollup",
+	uniqueConstraints = @UniqueConstraint(
+		name = "uk_damage_daily_rollup",
+		columnNames = {"parent_region_id", "region_id", "category_id", "stat_date", "status"}
+	)
+)
+public class DamageDailyRollup {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@EqualsAndHashCode.Include
+	@Column(name = "rollup_id", nullable = false, unique = true)
+	private Long rollupId;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "parent_region_id", nullable = false)
+	private Region parentRegion;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "region_id", nullable = false)
+	private Region region;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "category_id", nullable = false)
+	private DamageCategory damageCategory;
+
+	// capture_point.capture_timestamp 기준 날짜
+	@Column(name = "stat_date", nullable = false)
+	private LocalDate statDate;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 20)
+	private DamageStatus status;
+
+	@Column(name = "damage_count", nullable = false)
+	private long damageCount;
+}
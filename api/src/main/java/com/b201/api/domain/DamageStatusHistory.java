@@ -0,0 +1,63 @@
+package com.b201.api.domain;
+
+import java.time.LocalDateTime;
+
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 파손 상태 변경 이력 (추가만 하고 수정/삭제하지 않는다)
+ * changedAt 은 capture_damage.created_at(촬영 시각, UTC)과 비교할 수 있도록 UTC 로 저장한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Table(name = "damage_status_history")
+public class DamageStatusHistory {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@EqualsAndHashCode.Include
+	@Column(name = "history_id", nullable = false, unique = true)
+	private Long historyId;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "damage_id", nullable = false)
+	private CaptureDamage captureDamage;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "from_status", nullable = false, length = 20)
+	private DamageStatus fromStatus;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "to_status", nullable = false, length = 20)
+	private DamageStatus toStatus;
+
+	@Column(name = "changed_at", nullable = false, updatable = false)
+	private LocalDateTime changedAt;
+
+	@Builder
+	public DamageStatusHistory(CaptureDamage captureDamage, DamageStatus fromStatus, DamageStatus toStatus,
+		LocalDateTime changedAt) {
+		this.captureDamage = captureDamage;
+		this.fromStatus = fromStatus;
+		this.toStatus = toStatus;
+		this.changedAt = changedAt;
+	}
+}
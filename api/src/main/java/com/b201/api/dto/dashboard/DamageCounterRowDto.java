@@ -0,0 +1,27 @@
+package com.b201.api.dto.dashboard;
+
+import java.time.LocalDate;
+
+import com.b201.api.aggregate.DamageCounterKey;
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 메모리 카운터 적재/보정용 집계 행
+ */
+@Getter
+@AllArgsConstructor
+public class DamageCounterRowDto {
+	private String parentRegionName;
+	private String regionName;
+	private String categoryName;
+	private DamageStatus status;
+	private LocalDate day;
+	private long count;
+
+	public DamageCounterKey toKey() {
+		return new DamageCounterKey(parentRegionName, regionName, categoryName, status, day);
+	}
+}
@@ -0,0 +1,36 @@
+package com.b201.api.dto.dashboard;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 대시보드 SSE 로 내려보내는 변경분
+ * type 별로 채워지는 필드만 직렬화된다.
+ * - CATEGORY : 파손 1건 추가 (regionName, categoryName, day, toStatus)
+ * - STATUS   : 파손 상태 변경 (regionName, categoryName, day, fromStatus → toStatus)
+ * - TOP3     : 상위 3개 구 순위 변경 (top3)
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DashboardDeltaDto {
+
+	public enum Type {
+		CATEGORY, STATUS, TOP3
+	}
+
+	private Type type;
+	private String regionName;      // 구 이름
+	private String categoryName;
+	private LocalDate day;          // 촬영 일자
+	private DamageStatus fromStatus;
+	private DamageStatus toStatus;
+	private Long delta;             // CATEGORY 건수 증감 (+1)
+	private List<TopRegionDto> top3;
+}
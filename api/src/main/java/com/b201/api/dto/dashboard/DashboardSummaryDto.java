@@ -0,0 +1,34 @@
+package com.b201.api.dto.dashboard;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 대시보드 화면의 모든 패널을 한 번에 내려주기 위한 Dto
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class DashboardSummaryDto {
+
+	private List<CategoryCountDto> type;
+
+	private DailyStatusDto daily;
+
+	private WeeklyStatusDto weekly;
+
+	private MonthlyStatusDto monthly;
+
+	private List<MonthlyDamageSummaryDto> monthlySummary;
+
+	private RegionNameWithCountDto districts;
+
+	private List<TopRegionDto> top3;
+
+	private RiskStatusDto risk;
+
+	private DistinctRegionCountDto regionCount;
+}
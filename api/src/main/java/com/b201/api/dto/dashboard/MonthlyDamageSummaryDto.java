@@ -2,6 +2,9 @@ package com.b201.api.dto.dashboard;
 
 import java.time.YearMonth;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import lombok.Getter;
 
 /**
@@ -25,4 +28,13 @@ public class MonthlyDamageSummaryDto {
 		this.holeCount = holeCount;
 		this.totalCount = totalCount;
 	}
+
+	// 캐시 역직렬화용
+	@JsonCreator
+	private MonthlyDamageSummaryDto(@JsonProperty("month") YearMonth month,
+		@JsonProperty("crackCount") long crackCount,
+		@JsonProperty("holeCount") long holeCount,
+		@JsonProperty("totalCount") long totalCount) {
+		this(month.getYear(), month.getMonthValue(), crackCount, holeCount, totalCount);
+	}
 }
@@ -0,0 +1,16 @@
+package com.b201.api.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 위험도 히스토그램 적재/보정용 집계 행 (광역시/도, 구, 위험도 구간 번호(risk * 10 내림), 파손 건수)
+ */
+@Getter
+@AllArgsConstructor
+public class RiskBinRowDto {
+	private String parentRegionName;
+	private String regionName;
+	private Integer bin;
+	private long count;
+}
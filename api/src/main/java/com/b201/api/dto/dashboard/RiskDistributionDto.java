@@ -0,0 +1,34 @@
+package com.b201.api.dto.dashboard;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 위험도 분포 (구간별 건수 + 백분위)
+ * 지역 전체 응답이면 name 이 없고, 구별 분포를 요청한 경우 districts 에 구마다 같은 형태로 담긴다.
+ * 파손이 없으면 백분위는 null 이다.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RiskDistributionDto {
+	private String name;
+	private long total;
+	private Double p50;
+	private Double p90;
+	private Double p99;
+	private List<Band> bands;
+	private List<RiskDistributionDto> districts;
+
+	@Getter
+	@AllArgsConstructor
+	public static class Band {
+		private double from;  // 이상
+		private double to;    // 미만 (마지막 구간은 이하)
+		private long count;
+	}
+}
@@ -0,0 +1,14 @@
+package com.b201.api.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 대시보드 SSE 연결용 단기 토큰 (GET /api/dashboard/stream?token=... 에 사용)
+ */
+@Getter
+@AllArgsConstructor
+public class StreamTokenDto {
+	private final String token;
+	private final long expiresInMs;
+}
@@ -0,0 +1,59 @@
+package com.b201.api.dto.dashboard;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * 시계열 집계 구간 단위
+ * floor 는 날짜가 속한 구간의 시작일, next 는 다음 구간의 시작일을 돌려준다. (주는 월요일 시작)
+ */
+public enum TimeBucket {
+	DAY {
+		@Override
+		public LocalDate floor(LocalDate day) {
+			return day;
+		}
+
+		@Override
+		public LocalDate next(LocalDate start) {
+			return start.plusDays(1);
+		}
+	},
+	WEEK {
+		@Override
+		public LocalDate floor(LocalDate day) {
+			return day.with(DayOfWeek.MONDAY);
+		}
+
+		@Override
+		public LocalDate next(LocalDate start) {
+			return start.plusWeeks(1);
+		}
+	},
+	MONTH {
+		@Override
+		public LocalDate floor(LocalDate day) {
+			return day.withDayOfMonth(1);
+		}
+
+		@Override
+		public LocalDate next(LocalDate start) {
+			return start.plusMonths(1);
+		}
+	},
+	QUARTER {
+		@Override
+		public LocalDate floor(LocalDate day) {
+			return LocalDate.of(day.getYear(), (day.getMonthValue() - 1) / 3 * 3 + 1, 1);
+		}
+
+		@Override
+		public LocalDate next(LocalDate start) {
+			return start.plusMonths(3);
+		}
+	};
+
+	public abstract LocalDate floor(LocalDate day);
+
+	public abstract LocalDate next(LocalDate start);
+}
@@ -0,0 +1,26 @@
+package com.b201.api.dto.dashboard;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 기간/구간 단위별 파손 건수 시계열 (데이터가 없는 구간은 0으로 채움)
+ */
+@Getter
+@AllArgsConstructor
+public class TimeSeriesDto {
+	private TimeBucket bucket;
+	private LocalDate from;
+	private LocalDate to;
+	private List<Point> points;
+
+	@Getter
+	@AllArgsConstructor
+	public static class Point {
+		private LocalDate start;  // 구간 시작일
+		private long count;       // 구간 내 (from~to 범위 안) 파손 건수
+	}
+}
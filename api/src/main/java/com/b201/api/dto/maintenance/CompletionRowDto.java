@@ -0,0 +1,17 @@
+package com.b201.api.dto.maintenance;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 완료 건수 시간 창 적재/보정용 행 (광역시/도, 파손, 완료 처리 시각)
+ */
+@Getter
+@AllArgsConstructor
+public class CompletionRowDto {
+	private String parentRegionName;
+	private Integer damageId;
+	private LocalDateTime completedAt;   // updated_at (UTC)
+}
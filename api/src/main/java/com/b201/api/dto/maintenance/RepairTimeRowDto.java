@@ -0,0 +1,21 @@
+package com.b201.api.dto.maintenance;
+
+import java.time.LocalDateTime;
+
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 처리 소요 시간 분포 적재용 상태 변경 이력 행
+ */
+@Getter
+@AllArgsConstructor
+public class RepairTimeRowDto {
+	private String parentRegionName;
+	private Integer damageId;
+	private DamageStatus toStatus;
+	private LocalDateTime createdAt;   // 파손 생성(촬영) 시각
+	private LocalDateTime changedAt;   // 상태 변경 시각
+}
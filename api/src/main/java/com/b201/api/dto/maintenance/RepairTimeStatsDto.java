@@ -0,0 +1,26 @@
+package com.b201.api.dto.maintenance;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 처리 단계별 소요 시간 분포 (파손 생성 시각부터 해당 상태로 바뀐 시각까지, 분 단위)
+ * 표본이 없으면 평균/백분위는 null 이다.
+ */
+@Getter
+@AllArgsConstructor
+public class RepairTimeStatsDto {
+
+	public enum Stage {
+		RECEIVE,   // → RECEIVED (접수까지)
+		START,     // → IN_PROGRESS (공사 시작까지)
+		COMPLETE   // → COMPLETED (완료까지)
+	}
+
+	private Stage stage;
+	private long count;
+	private Double meanMinutes;
+	private Long p50Minutes;
+	private Long p90Minutes;
+	private Long p99Minutes;
+}
@@ -0,0 +1,19 @@
+package com.b201.api.dto.point;
+
+import org.locationtech.jts.geom.Point;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 지도 feature 목록 조회용 프로젝션 (엔티티/파손 컬렉션을 로딩하지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class CapturePointFeatureRowDto {
+	private String publicId;
+	private Point location;
+	private String streetAddress;
+	private Double accuracyMeters;
+	private Integer display;   // 미완료 파손이 하나라도 있으면 1, 아니면 0
+}
@@ -0,0 +1,20 @@
+package com.b201.api.dto.point;
+
+/**
+ * 화면 범위(bbox) 조회용 네이티브 쿼리 프로젝션
+ * 좌표는 ST_X/ST_Y 로 꺼내므로 geometry 역직렬화가 없다. (x: 경도, y: 위도)
+ */
+public interface CapturePointFeatureView {
+
+	String getPublicId();
+
+	double getX();
+
+	double getY();
+
+	String getStreetAddress();
+
+	Double getAccuracyMeters();
+
+	int getDisplay();
+}
@@ -0,0 +1,13 @@
+package com.b201.api.dto.point;
+
+/**
+ * 수집 중복 확인용 네이티브 쿼리 프로젝션 (x: 경도, y: 위도)
+ */
+public interface CapturePointLocationView {
+
+	String getPublicId();
+
+	double getX();
+
+	double getY();
+}
@@ -2,6 +2,8 @@ package com.b201.api.dto.point;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,5 +19,8 @@ public class CapturePointResponseDto {
 	@Builder.Default
 	private final String type = "FeatureCollection";
 	private final List<FeatureDto> features;
+	// 증분 동기화 커서, 다음 요청의 ?since= 값 (범위 조회 응답에는 없음)
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private final Long cursor;
 
 }
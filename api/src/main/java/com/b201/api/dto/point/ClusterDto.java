@@ -0,0 +1,19 @@
+package com.b201.api.dto.point;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 낮은 줌에서 격자 칸 하나로 묶인 캡처 포인트 묶음
+ * geometry 는 칸 안 포인트들의 무게중심 (feature 와 같은 좌표 순서)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ClusterDto {
+
+	private final GeometryDto geometry;
+	private final long count;        // 캡처 포인트 수
+	private final long openCount;    // 미완료 파손 수
+}
@@ -0,0 +1,19 @@
+package com.b201.api.dto.point;
+
+import org.locationtech.jts.geom.Point;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 클러스터 인덱스 적재용 행 (광역시/도, 포인트, 좌표, 미완료 파손 수, 포인트 change_seq)
+ */
+@Getter
+@AllArgsConstructor
+public class ClusterPointRowDto {
+	private String parentRegionName;
+	private String publicId;
+	private Point location;
+	private Long openDamages;
+	private Long changeSeq;
+}
@@ -0,0 +1,24 @@
+package com.b201.api.dto.point;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 지도 줌 레벨별 응답
+ * clustered 가 true 면 clusters 만, false(임계 줌 이상)면 개별 features 만 채워진다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ClusterResponseDto {
+
+	private final int zoom;
+	private final boolean clustered;
+	@Builder.Default
+	private final List<ClusterDto> clusters = List.of();
+	@Builder.Default
+	private final List<FeatureDto> features = List.of();
+}
@@ -0,0 +1,19 @@
+package com.b201.api.dto.point;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 반경 / 최근접 조회 결과 한 건 (geometry 는 feature 와 같은 좌표 순서)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class NearbyCapturePointDto {
+
+	private final String publicId;
+	private final GeometryDto geometry;
+	private final long openCount;          // 미완료 파손 수
+	private final double distanceMeters;   // 조회 위치로부터의 거리(m)
+}
@@ -0,0 +1,20 @@
+package com.b201.api.dto.point;
+
+import java.time.LocalDateTime;
+
+import org.locationtech.jts.geom.Point;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 수집 중복 제거 인덱스 적재용 행 (미완료 파손 하나 = 한 행)
+ */
+@Getter
+@AllArgsConstructor
+public class OpenDamageRowDto {
+	private String publicId;
+	private Point location;
+	private String categoryName;
+	private LocalDateTime capturedAt;   // capture_timestamp (UTC)
+}
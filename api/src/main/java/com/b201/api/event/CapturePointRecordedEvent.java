@@ -0,0 +1,43 @@
+package com.b201.api.event;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.b201.api.domain.CaptureDamage;
+import com.b201.api.domain.CapturePoint;
+import com.b201.api.domain.Region;
+
+/**
+ * 새 캡처 포인트가 (파손들과 함께) 저장되었을 때 포인트당 한 번 발행되는 이벤트
+ * x, y 는 저장된 location 좌표 그대로다. (x: 경도, y: 위도)
+ * openCategories 는 미완료 파손의 유형 이름들이다. (수집 중복 제거 인덱스용)
+ */
+public record CapturePointRecordedEvent(
+	String publicId,
+	String parentRegionName,
+	double x,
+	double y,
+	long openDamages,
+	Set<String> openCategories,
+	LocalDateTime capturedAt
+) {
+
+	public static CapturePointRecordedEvent from(CapturePoint capturePoint) {
+		Region parent = capturePoint.getRegion().getParentRegion();
+		return new CapturePointRecordedEvent(
+			capturePoint.getPublicId(),
+			parent != null ? parent.getRegionName() : null,
+			capturePoint.getLocation().getX(),
+			capturePoint.getLocation().getY(),
+			capturePoint.getCaptureDamages().stream()
+				.filter(damage -> damage.getStatus() != CaptureDamage.DamageStatus.COMPLETED)
+				.count(),
+			capturePoint.getCaptureDamages().stream()
+				.filter(damage -> damage.getStatus() != CaptureDamage.DamageStatus.COMPLETED)
+				.map(damage -> damage.getDamageCategory().getCategoryName())
+				.collect(Collectors.toUnmodifiableSet()),
+			capturePoint.getCaptureTimestamp()
+		);
+	}
+}
@@ -0,0 +1,44 @@
+package com.b201.api.event;
+
+import java.time.LocalDate;
+
+import com.b201.api.domain.CaptureDamage;
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+import com.b201.api.domain.Region;
+
+/**
+ * 새 파손 건이 저장되었을 때 발행되는 이벤트
+ * 관할 구(region)가 광역시/도 바로 아래가 아니면 parentRegionId 는 null 이다.
+ */
+public record DamageRecordedEvent(
+	Integer damageId,
+	Integer parentRegionId,
+	String parentRegionName,
+	Integer regionId,
+	String regionName,
+	Integer categoryId,
+	String categoryName,
+	LocalDate day,
+	DamageStatus status,
+	String streetAddress,
+	Double risk
+) {
+
+	public static DamageRecordedEvent from(CaptureDamage damage) {
+		Region region = damage.getCapturePoint().getRegion();
+		Region parent = region.getParentRegion();
+		return new DamageRecordedEvent(
+			damage.getDamageId(),
+			parent != null ? parent.getId() : null,
+			parent != null ? parent.getRegionName() : null,
+			region.getId(),
+			region.getRegionName(),
+			damage.getDamageCategory().getCategoryId(),
+			damage.getDamageCategory().getCategoryName(),
+			damage.getCapturePoint().getCaptureTimestamp().toLocalDate(),
+			damage.getStatus(),
+			damage.getCapturePoint().getStreetAddress(),
+			damage.getCapturePoint().getRisk()
+		);
+	}
+}
@@ -0,0 +1,57 @@
+package com.b201.api.event;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.b201.api.domain.CaptureDamage;
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+import com.b201.api.domain.Region;
+
+/**
+ * 파손 건의 상태가 oldStatus → newStatus 로 바뀌었을 때 발행되는 이벤트
+ * capturePointChangeSeq 는 이 변경으로 갱신된 포인트의 change_seq 다. (메모리 인덱스 재적재 시 스냅샷 반영 여부 판단용)
+ * x, y 는 포인트의 저장된 location 좌표다. (x: 경도, y: 위도, 타일 캐시 무효화용)
+ */
+public record DamageStatusChangedEvent(
+	Integer damageId,
+	String capturePointPublicId,
+	Integer parentRegionId,
+	String parentRegionName,
+	Integer regionId,
+	String regionName,
+	Integer categoryId,
+	String categoryName,
+	LocalDate day,
+	DamageStatus oldStatus,
+	DamageStatus newStatus,
+	LocalDateTime createdAt,
+	LocalDateTime changedAt,
+	Long capturePointChangeSeq,
+	double x,
+	double y
+) {
+
+	public static DamageStatusChangedEvent of(CaptureDamage damage, DamageStatus oldStatus,
+		LocalDateTime changedAt) {
+		Region region = damage.getCapturePoint().getRegion();
+		Region parent = region.getParentRegion();
+		return new DamageStatusChangedEvent(
+			damage.getDamageId(),
+			damage.getCapturePoint().getPublicId(),
+			parent != null ? parent.getId() : null,
+			parent != null ? parent.getRegionName() : null,
+			region.getId(),
+			region.getRegionName(),
+			damage.getDamageCategory().getCategoryId(),
+			damage.getDamageCategory().getCategoryName(),
+			damage.getCapturePoint().getCaptureTimestamp().toLocalDate(),
+			oldStatus,
+			damage.getStatus(),
+			damage.getCreatedAt(),
+			changedAt,
+			damage.getCapturePoint().getChangeSeq(),
+			damage.getCapturePoint().getLocation().getX(),
+			damage.getCapturePoint().getLocation().getY()
+		);
+	}
+}
@@ -3,187 +3,86 @@ package com.b201.api.repository;
 import java.time.LocalDateTime;
 import java.util.List;
 
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.b201.api.domain.CaptureDamage;
-import com.b201.api.dto.dashboard.CategoryCountDto;
-import com.b201.api.dto.dashboard.MonthlyDamageSummaryDto;
-import com.b201.api.dto.dashboard.RegionCountDto;
-import com.b201.api.dto.dashboard.RiskStatusDto;
-import com.b201.api.dto.dashboard.TopRegionDto;
-import com.b201.api.dto.maintenance.CompletionStatsDto;
-import com.b201.api.dto.maintenance.MaintenanceStatusDto;
-import com.b201.api.dto.maintenance.MonthlyMaintenanceStatusDto;
-import com.b201.api.dto.maintenance.RegionMaintenanceStatusDto;
+import com.b201.api.dto.dashboard.DamageCounterRowDto;
+import com.b201.api.dto.dashboard.RiskBinRowDto;
+import com.b201.api.dto.maintenance.CompletionRowDto;
+import com.b201.api.dto.point.OpenDamageRowDto;
 
 @Repository
 public interface CaptureDamageRepository extends JpaRepository<CaptureDamage, Integer> {
 
-	// 카테고리별 도로 손상 집계 현황
+	// 메모리 카운터 보정용 원본 집계 (광역시/도, 구, 유형, 상태, 날짜별)
 	@Query("""
-			SELECT new com.b201.api.dto.dashboard.CategoryCountDto(
-				d.damageCategory.categoryName,
-					COUNT(d)
-				)
-			FROM CaptureDamage d
-				join d.capturePoint.region r
-					join r.parentRegion pr
-							where pr.regionName = :regionName
-			GROUP BY d.damageCategory.categoryName
-		""")
-	List<CategoryCountDto> countByCategoryName(@Param("regionName") String regionName);
-
-	// 일자별 파손 집계
-	@Query("""
-			select count(d)
-			from CaptureDamage d
-			where d.capturePoint.region.parentRegion.regionName = :regionName
-				and d.capturePoint.captureTimestamp between :start and :end
-		""")
-	long countBetween(@Param("regionName") String regionName, @Param("start") LocalDateTime start,
-		@Param("end") LocalDateTime end);
-
-	// 월별 도로균열, 도로홀 분류 건수와 총합계
-	@Query("""
-			SELECT new com.b201.api.dto.dashboard.MonthlyDamageSummaryDto(
-			YEAR(d.capturePoint.captureTimestamp),
-			MONTH(d.capturePoint.captureTimestamp),
-			SUM(CASE WHEN d.damageCategory.categoryName = '도로균열' THEN 1 ELSE 0 END),
-			SUM(CASE WHEN d.damageCategory.categoryName = '도로 홀'    THEN 1 ELSE 0 END),
-			COUNT(d)
-			)
-			FROM CaptureDamage d
-				join d.capturePoint.region r
-					join r.parentRegion pr
-						where pr.regionName = :regionName
-							and d.capturePoint.captureTimestamp between :start and :end
-			GROUP BY YEAR(d.capturePoint.captureTimestamp),
-				MONTH(d.capturePoint.captureTimestamp)
-			ORDER BY YEAR(d.capturePoint.captureTimestamp),
-				MONTH(d.capturePoint.captureTimestamp)
-		""")
-	List<MonthlyDamageSummaryDto> findMonthlyDamageSummary(@Param("regionName") String regionName,
-		@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
-
-	/**
-	 * cityName을 받아
-	 * 해당 광역시 이름으로 시작하는 regionName(구 단위)의 파손 건수를 집계
-	 */
-	@Query("""
-			SELECT new com.b201.api.dto.dashboard.RegionCountDto(
-			r.regionName,
-			COUNT(cd.damageId)
-			)
-			FROM Region r
-				left join r.capturePoints cp
-					left join cp.captureDamages cd
-						left join cd.damageCategory dc
-							where r.parentRegion.regionName = :regionName
-			GROUP BY r.regionName
-		""")
-	List<RegionCountDto> countByCity(
-		@Param("regionName") String cityName
-	);
-
-	/**
-	 * 상위 N개 지역별 도로파손 통계 (완료된 건까지 모두 집계)
-	 */
-	@Query("""
-			SELECT new com.b201.api.dto.dashboard.TopRegionDto(
-			r.regionName,
-			count(cd),
-			coalesce(sum(case when cd.damageCategory.categoryName = '도로균열' then 1 ELSE 0 END),0),
-			coalesce(sum(case when cd.damageCategory.categoryName = '도로 홀' then 1 ELSE 0 END),0)
+			select new com.b201.api.dto.dashboard.DamageCounterRowDto(
+				pr.regionName,
+				r.regionName,
+				dc.categoryName,
+				cd.status,
+				cast(cp.captureTimestamp as LocalDate),
+				count(cd)
 			)
-			from Region r
-				join r.parentRegion pr
-					left join r.capturePoints cp
-						left join cp.captureDamages cd
-							left join cd.damageCategory dc
-								where pr.regionName = :regionName
-			GROUP BY r.regionName
-			ORDER BY COUNT(cd) DESC
+			from CaptureDamage cd
+				join cd.capturePoint cp
+					join cp.region r
+						join r.parentRegion pr
+							join cd.damageCategory dc
+			group by pr.regionName, r.regionName, dc.categoryName, cd.status,
+				cast(cp.captureTimestamp as LocalDate)
 		""")
-	List<TopRegionDto> findTopRegions(@Param("regionName") String regionName, Pageable pageable);
+	List<DamageCounterRowDto> findCounterRows();
 
+	// 완료 건수 시간 창(CompletionWindowRegistry) 적재/보정용, since 이후 완료 처리된 파손의 완료 시각
 	@Query("""
-			select new com.b201.api.dto.maintenance.MaintenanceStatusDto(
-					sum(case when cd.status = 'REPORTED' then 1 else 0 end),
-							sum(case when cd.status = 'RECEIVED' then 1 else 0 end),
-									sum(case when cd.status = 'IN_PROGRESS' then 1 else 0 end),
-											sum(case when cd.status = 'COMPLETED' then 1 else 0 end)
+			select new com.b201.api.dto.maintenance.CompletionRowDto(
+				pr.regionName,
+				cd.damageId,
+				cd.updatedAt
 			)
 			from CaptureDamage cd
-					where cd.capturePoint.region.parentRegion.regionName = :regionName
+				join cd.capturePoint cp
+					join cp.region r
+						join r.parentRegion pr
+			where cd.status = 'COMPLETED'
+				and cd.updatedAt >= :since
 		""")
-	MaintenanceStatusDto countByStauts(@Param("regionName") String regionName);
+	List<CompletionRowDto> findCompletionRows(@Param("since") LocalDateTime since);
 
+	// 수집 중복 제거 인덱스 적재용 (since 이후 촬영된 포인트의 미완료 파손)
 	@Query("""
-			select new com.b201.api.dto.maintenance.CompletionStatsDto(
-					coalesce(sum(case when cd.updatedAt >= :dailyAgo then 1 else 0 end), 0),
-							coalesce(sum(case when cd.updatedAt >= :weeklyAgo then 1 else 0 end), 0),
-									coalesce(sum(case when cd.updatedAt >= :monthlyAgo then 1 else 0 end), 0)
+			select new com.b201.api.dto.point.OpenDamageRowDto(
+				cp.publicId,
+				cp.location,
+				dc.categoryName,
+				cp.captureTimestamp
 			)
-					from CaptureDamage cd
-							where cd.status = 'COMPLETED'
-									and cd.capturePoint.region.parentRegion.regionName = :regionName
-		""")
-	CompletionStatsDto getCompletionStatsByPeriod(@Param("regionName") String regionName,
-		@Param("dailyAgo") LocalDateTime dailyAgo,
-		@Param("weeklyAgo") LocalDateTime weeklyAgo,
-		@Param("monthlyAgo") LocalDateTime monthlyAgo);
-
-	@Query("""
-		select new com.b201.api.dto.maintenance.MonthlyMaintenanceStatusDto(
-				year(cd.createdAt),
-						month(cd.createdAt),
-								sum(case when cd.status = 'REPORTED' then 1 else 0 end),
-										sum(case when cd.status = 'RECEIVED' then 1 else 0 end),
-												sum(case when cd.status = 'IN_PROGRESS' then 1 else 0 end),
-														sum(case when cd.status = 'COMPLETED' then 1 else 0 end)
-		)
-				from CaptureDamage cd
-						where cd.capturePoint.region.parentRegion.regionName = :regionName
-						group by year(cd.createdAt),
-								month(cd.createdAt)
-										order by year(cd.createdAt),
-												month(cd.createdAt)
-		""")
-	List<MonthlyMaintenanceStatusDto> getMonthlyMaintenanceStatsByPeriod(@Param("regionName") String regionName);
-
-	@Query("""
-				select new com.b201.api.dto.maintenance.RegionMaintenanceStatusDto(
-					r.regionName,
-							new com.b201.api.dto.maintenance.MaintenanceStatusDto(
-									coalesce(sum(case when cd.status = 'REPORTED' then 1 else 0 end),0),
-									coalesce(sum(case when cd.status = 'RECEIVED' then 1 else 0 end),0),
-									coalesce(sum(case when cd.status = 'IN_PROGRESS' then 1 else 0 end),0),
-									coalesce(sum(case when cd.status = 'COMPLETED' then 1 else 0 end),0))
-				)
-				from Region r
-						left join CapturePoint cp
-								on cp.region = r
-										left join CaptureDamage cd
-												on cd.capturePoint = cp
-														where r.parentRegion.regionName = :city
-																group by r.regionName
+			from CaptureDamage cd
+			join cd.capturePoint cp
+			join cd.damageCategory dc
+			where cd.status <> 'COMPLETED'
+				and cp.captureTimestamp >= :since
 		""")
-	List<RegionMaintenanceStatusDto> getRegionMaintenanceStatsByPeriod(@Param("city") String city);
+	List<OpenDamageRowDto> findOpenDamageRows(@Param("since") LocalDateTime since);
 
-	// 기준별 심각도 현황
+	// 위험도 히스토그램 적재/보정용 (광역시/도, 구, 0.1 단위 위험도 구간별 파손 건수)
 	@Query("""
-			select new com.b201.api.dto.dashboard.RiskStatusDto(
-					coalesce(sum(case when cd.capturePoint.risk between 0 and 39 then 1 else 0 end),0),
-					coalesce(sum(case when cd.capturePoint.risk between 40 and 59 then 1 else 0 end),0),
-					coalesce(sum(case when cd.capturePoint.risk between 60 and 79 then 1 else 0 end),0),
-					coalesce(sum(case when cd.capturePoint.risk between 80 and 100 then 1 else 0 end),0)
+			select new com.b201.api.dto.dashboard.RiskBinRowDto(
+				pr.regionName,
+				r.regionName,
+				cast(floor(cp.risk * 10) as Integer),
+				count(cd)
 			)
 			from CaptureDamage cd
-					where cd.capturePoint.region.parentRegion.regionName = :regionName
+				join cd.capturePoint cp
+					join cp.region r
+						join r.parentRegion pr
+			where cp.risk is not null
+			group by pr.regionName, r.regionName, cast(floor(cp.risk * 10) as Integer)
 		""")
-	RiskStatusDto getRiskStatusByRegion(@Param("regionName") String regionName);
+	List<RiskBinRowDto> findRiskBinRows();
 }
@@ -1,7 +1,11 @@
 package com.b201.api.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.IntFunction;
+
+import org.locationtech.jts.geom.Envelope;
 
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,14 +15,146 @@ import org.springframework.stereotype.Repository;
 
 import com.b201.api.domain.CapturePoint;
 import com.b201.api.dto.dashboard.DistinctRegionCountDto;
+import com.b201.api.dto.point.CapturePointFeatureRowDto;
+import com.b201.api.dto.point.CapturePointFeatureView;
+import com.b201.api.dto.point.CapturePointLocationView;
+import com.b201.api.dto.point.ClusterPointRowDto;
+import com.b201.api.util.GeoCell;
 
 @Repository
 public interface CapturePointRepository extends JpaRepository<CapturePoint, Integer> {
 
+	// 지도 feature 목록, 표시 여부(미완료 파손 존재)까지 한 쿼리로 계산
+	@Query("""
+		select new com.b201.api.dto.point.CapturePointFeatureRowDto(
+			cp.publicId,
+			cp.location,
+			cp.streetAddress,
+			cp.accuracyMeters,
+			case when exists (
+				select 1 from CaptureDamage cd
+					where cd.capturePoint = cp and cd.status <> 'COMPLETED'
+			) then 1 else 0 end
+		)
+		from CapturePoint cp
+			where cp.region.id in :regionIds
+		""")
+	List<CapturePointFeatureRowDto> findFeatureRowsByRegionIds(@Param("regionIds") List<Integer> regionIds);
+
+	// 증분 동기화용, since 이후 저장되었거나 소속 파손 상태가 바뀐 포인트 (변경 번호 순)
+	@Query("""
+		select new com.b201.api.dto.point.CapturePointFeatureRowDto(
+			cp.publicId,
+			cp.location,
+			cp.streetAddress,
+			cp.accuracyMeters,
+			case when exists (
+				select 1 from CaptureDamage cd
+					where cd.capturePoint = cp and cd.status <> 'COMPLETED'
+			) then 1 else 0 end
+		)
+		from CapturePoint cp
+			where cp.region.id in :regionIds
+				and cp.changeSeq > :since
+			order by cp.changeSeq
+		""")
+	List<CapturePointFeatureRowDto> findFeatureRowsChangedSince(@Param("regionIds") List<Integer> regionIds,
+		@Param("since") long since);
+
+	// 화면 범위(경도 minX~maxX, 위도 minY~maxY) 안의 지도 feature 목록
+	// geo_cell 구간(GeoCell.cover, 최대 4개)으로 idx_capture_point_geo_cell(db/006) 범위 스캔을 한 뒤 MBRContains 로 정확히 거른다
+	// geo_cell 이 아직 채워지지 않은 행(is null)도 같은 인덱스로 함께 읽는다
+	@Query(value = """
+		select cp.public_id as publicId,
+			ST_X(cp.location) as x,
+			ST_Y(cp.location) as y,
+			cp.street_address as streetAddress,
+			cp.accuracy_meters as accuracyMeters,
+			case when exists (
+				select 1 from capture_damage cd
+					where cd.capture_point_id = cp.capture_point_id and cd.status <> 'COMPLETED'
+			) then 1 else 0 end as display
+		from capture_point cp
+			where (cp.geo_cell is null
+					or cp.geo_cell between :cell0Min and :cell0Max
+					or cp.geo_cell between :cell1Min and :cell1Max
+					or cp.geo_cell between :cell2Min and :cell2Max
+					or cp.geo_cell between :cell3Min and :cell3Max)
+				and MBRContains(ST_MakeEnvelope(Point(:minX, :minY), Point(:maxX, :maxY)), cp.location)
+				and cp.region_id in (:regionIds)
+		""", nativeQuery = true)
+	List<CapturePointFeatureView> findFeaturesInBox(@Param("regionIds") List<Integer> regionIds,
+		@Param("minX") double minX, @Param("minY") double minY,
+		@Param("maxX") double maxX, @Param("maxY") double maxY,
+		@Param("cell0Min") long cell0Min, @Param("cell0Max") long cell0Max,
+		@Param("cell1Min") long cell1Min, @Param("cell1Max") long cell1Max,
+		@Param("cell2Min") long cell2Min, @Param("cell2Max") long cell2Max,
+		@Param("cell3Min") long cell3Min, @Param("cell3Max") long cell3Max);
+
+	// 범위(x: 경도, y: 위도)를 덮는 geo_cell 구간을 구해 조회한다 (4개보다 적으면 마지막 구간을 반복)
+	default List<CapturePointFeatureView> findFeaturesInBox(List<Integer> regionIds, Envelope box) {
+		List<GeoCell.Range> cells = GeoCell.cover(box);
+		IntFunction<GeoCell.Range> cell = i -> cells.get(Math.min(i, cells.size() - 1));
+		return findFeaturesInBox(regionIds, box.getMinX(), box.getMinY(), box.getMaxX(), box.getMaxY(),
+			cell.apply(0).min(), cell.apply(0).max(), cell.apply(1).min(), cell.apply(1).max(),
+			cell.apply(2).min(), cell.apply(2).max(), cell.apply(3).min(), cell.apply(3).max());
+	}
+
+	// 수집 중복 확인용: 범위 안에서 since 이후 촬영되고 categoryName 유형 파손이 아직 열려 있는 포인트
+	// 수집 트랜잭션이 칸 잠금을 잡은 뒤 부르므로, 다른 인스턴스의 저장/완료까지 반영된 판정이다
+	// 화면 범위 조회와 같이 geo_cell 구간으로 idx_capture_point_geo_cell(db/006) 범위 스캔을 한 뒤 MBRContains 로 거른다
+	@Query(value = """
+		select distinct cp.public_id as publicId,
+			ST_X(cp.location) as x,
+			ST_Y(cp.location) as y
+		from capture_point cp
+			join capture_damage cd on cd.capture_point_id = cp.capture_point_id
+			join damage_category dc on dc.category_id = cd.category_id
+			where (cp.geo_cell is null
+					or cp.geo_cell between :cell0Min and :cell0Max
+					or cp.geo_cell between :cell1Min and :cell1Max
+					or cp.geo_cell between :cell2Min and :cell2Max
+					or cp.geo_cell between :cell3Min and :cell3Max)
+				and MBRContains(ST_MakeEnvelope(Point(:minX, :minY), Point(:maxX, :maxY)), cp.location)
+				and cd.status <> 'COMPLETED'
+				and dc.category_name = :categoryName
+				and cp.capture_timestamp >= :since
+		""", nativeQuery = true)
+	List<CapturePointLocationView> findOpenDamagePointsInBox(@Param("categoryName") String categoryName,
+		@Param("since") LocalDateTime since,
+		@Param("minX") double minX, @Param("minY") double minY,
+		@Param("maxX") double maxX, @Param("maxY") double maxY,
+		@Param("cell0Min") long cell0Min, @Param("cell0Max") long cell0Max,
+		@Param("cell1Min") long cell1Min, @Param("cell1Max") long cell1Max,
+		@Param("cell2Min") long cell2Min, @Param("cell2Max") long cell2Max,
+		@Param("cell3Min") long cell3Min, @Param("cell3Max") long cell3Max);
+
+	// 범위(x: 경도, y: 위도)를 덮는 geo_cell 구간을 구해 조회한다 (4개보다 적으면 마지막 구간을 반복)
+	default List<CapturePointLocationView> findOpenDamagePointsInBox(String categoryName, LocalDateTime since,
+		Envelope box) {
+		List<GeoCell.Range> cells = GeoCell.cover(box);
+		IntFunction<GeoCell.Range> cell = i -> cells.get(Math.min(i, cells.size() - 1));
+		return findOpenDamagePointsInBox(categoryName, since,
+			box.getMinX(), box.getMinY(), box.getMaxX(), box.getMaxY(),
+			cell.apply(0).min(), cell.apply(0).max(), cell.apply(1).min(), cell.apply(1).max(),
+			cell.apply(2).min(), cell.apply(2).max(), cell.apply(3).min(), cell.apply(3).max());
+	}
+
+	// 클러스터 피라미드(CapturePointClusterIndex) 적재/보정용
 	@Query("""
-		select p from CapturePoint p join p.region r join r.parentRegion pr where pr.regionName = :regionName
+		select new com.b201.api.dto.point.ClusterPointRowDto(
+			pr.regionName,
+			cp.publicId,
+			cp.location,
+			(select count(cd) from CaptureDamage cd
+				where cd.capturePoint = cp and cd.status <> 'COMPLETED'),
+			cp.changeSeq
+		)
+		from CapturePoint cp
+			join cp.region r
+				join r.parentRegion pr
 		""")
-	List<CapturePoint> findAllByRegionName(@Param("regionName") String regionName);
+	List<ClusterPointRowDto> findClusterPointRows();
 
 	// ① Optional 반환으로 null 체크를 안전하게
 	// ② EntityGraph로 연관된 CaptureDamage까지 한 번에 페치
@@ -30,8 +166,15 @@ public interface CapturePointRepository extends JpaRepository<CapturePoint, Inte
 			count(distinct cp.streetAddress)
 		)
 		from CapturePoint cp
-			where cp.region.parentRegion.regionName = :regionName
+			where cp.region.id in :regionIds
+		""")
+	DistinctRegionCountDto getDistinctRegionCountDto(@Param("regionIds") List<Integer> regionIds);
+
+	// 주소 HyperLogLog 초기 적재용
+	@Query("""
+		select distinct cp.streetAddress from CapturePoint cp
+			where cp.region.id in :regionIds and cp.streetAddress is not null
 		""")
-	DistinctRegionCountDto getDistinctRegionCountDto(@Param("regionName") String regionName);
+	List<String> findDistinctStreetAddresses(@Param("regionIds") List<Integer> regionIds);
 }
 
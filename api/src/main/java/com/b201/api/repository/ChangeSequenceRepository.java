@@ -0,0 +1,28 @@
+package com.b201.api.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.b201.api.domain.ChangeSequence;
+
+@Repository
+public interface ChangeSequenceRepository extends JpaRepository<ChangeSequence, String> {
+
+	@Modifying
+	@Query("update ChangeSequence s set s.value = s.value + 1 where s.name = :name")
+	int increment(@Param("name") String name);
+
+	@Query("select s.value from ChangeSequence s where s.name = :name")
+	Long current(@Param("name") String name);
+
+	// 호출한 트랜잭션이 커밋될 때까지 다른 증가 요청은 대기한다
+	default long next(String name) {
+		if (increment(name) == 0) {
+			throw new IllegalStateException("change_sequence 행이 없습니다: " + name);
+		}
+		return current(name);
+	}
+}
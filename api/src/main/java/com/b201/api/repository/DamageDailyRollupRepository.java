@@ -0,0 +1,73 @@
+package com.b201.api.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.b201.api.domain.DamageDailyRollup;
+import com.b201.api.dto.dashboard.DamageCounterRowDto;
+
+@Repository
+public interface DamageDailyRollupRepository extends JpaRepository<DamageDailyRollup, Long> {
+
+	// 롤업 행이 없으면 생성하고, 있으면 delta 만큼 건수를 더한다
+	@Modifying
+	@Query(value = """
+			INSERT INTO damage_daily_rollup
+				(parent_region_id, region_id, category_id, stat_date, status, damage_count)
+			VALUES (:parentRegionId, :regionId, :categoryId, :statDate, :status, :delta)
+			ON DUPLICATE KEY UPDATE damage_count = damage_count + :delta
+		""", nativeQuery = true)
+	int addCount(@Param("parentRegionId") Integer parentRegionId,
+		@Param("regionId") Integer regionId,
+		@Param("categoryId") Integer categoryId,
+		@Param("statDate") LocalDate statDate,
+		@Param("status") String status,
+		@Param("delta") long delta);
+
+	// 롤업 재생성(DamageRollupService.rebuildDay)용: 하루치 롤업 삭제
+	@Modifying
+	@Query(value = "DELETE FROM damage_daily_rollup WHERE stat_date = :statDate", nativeQuery = true)
+	int deleteDay(@Param("statDate") LocalDate statDate);
+
+	// 롤업 재생성용: 하루치 capture_damage 원본을 다시 집계해 넣는다 (상위 지역이 없는 구는 롤업 대상이 아님)
+	@Modifying
+	@Query(value = """
+			INSERT INTO damage_daily_rollup
+				(parent_region_id, region_id, category_id, stat_date, status, damage_count)
+			SELECT r.parent_region_id, r.region_id, cd.category_id, :statDate, cd.status, COUNT(*)
+			FROM capture_damage cd
+				JOIN capture_point cp ON cp.capture_point_id = cd.capture_point_id
+				JOIN region r ON r.region_id = cp.region_id
+			WHERE r.parent_region_id IS NOT NULL
+				AND cp.capture_timestamp >= :start
+				AND cp.capture_timestamp < :end
+			GROUP BY r.parent_region_id, r.region_id, cd.category_id, cd.status
+		""", nativeQuery = true)
+	int insertDayFromSource(@Param("statDate") LocalDate statDate,
+		@Param("start") LocalDateTime start,
+		@Param("end") LocalDateTime end);
+
+	// 메모리 카운터 적재용 전체 롤업
+	@Query("""
+			select new com.b201.api.dto.dashboard.DamageCounterRowDto(
+				pr.regionName,
+				d.regionName,
+				dc.categoryName,
+				r.status,
+				r.statDate,
+				r.damageCount
+			)
+			from DamageDailyRollup r
+				join r.parentRegion pr
+					join r.region d
+						join r.damageCategory dc
+		""")
+	List<DamageCounterRowDto> findCounterRows();
+}
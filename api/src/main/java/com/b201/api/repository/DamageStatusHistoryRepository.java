@@ -0,0 +1,31 @@
+package com.b201.api.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.b201.api.domain.DamageStatusHistory;
+import com.b201.api.dto.maintenance.RepairTimeRowDto;
+
+@Repository
+public interface DamageStatusHistoryRepository extends JpaRepository<DamageStatusHistory, Long> {
+
+	// 처리 소요 시간 분포(RepairTimeRegistry) 적재/보정용
+	@Query("""
+			select new com.b201.api.dto.maintenance.RepairTimeRowDto(
+				pr.regionName,
+				cd.damageId,
+				h.toStatus,
+				cd.createdAt,
+				h.changedAt
+			)
+			from DamageStatusHistory h
+				join h.captureDamage cd
+					join cd.capturePoint cp
+						join cp.region r
+							join r.parentRegion pr
+		""")
+	List<RepairTimeRowDto> findRepairTimeRows();
+}
@@ -23,6 +23,8 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+	private static final String STREAM_URI = "/api/dashboard/stream";
+
 	private final JwtUtil jwtUtil;
 	private final StringRedisTemplate stringRedisTemplate;
 	private final CustomUserDetailsService customUserDetailsService;
@@ -45,8 +47,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		String authHeader = request.getHeader("Authorization");
 		log.debug("[JwtFilter] Authorization 헤더: {}", authHeader);
 
+		// 브라우저 EventSource 는 헤더를 못 보내므로, 대시보드 스트림만 단기 SSE 토큰을 쿼리 파라미터로 받는다
+		String streamToken = STREAM_URI.equals(uri) && authHeader == null ? request.getParameter("token") : null;
+
 		// 헤더가 없거나 Bearer로 시작하지 않으면 다음 필터로 넘김
-		if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+		if (streamToken == null && (authHeader == null || !authHeader.startsWith("Bearer "))) {
 			log.warn("[JwtFilter] Authorization header가 비어있거나 형식이 잘못됨");
 			response.setCharacterEncoding("UTF-8");
 			response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -54,7 +59,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 			return;
 		}
 
-		String token = authHeader.substring(7); // "Bearer " 이후 실제 토큰 값
+		String token = streamToken != null ? streamToken : authHeader.substring(7); // "Bearer " 이후 실제 토큰 값
 		log.debug("[JwtFilter] 추출된 토큰: {}", token);
 
 		if (stringRedisTemplate.hasKey("BL:" + token)) {
@@ -67,7 +72,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 		try {
 			// 추출한 토큰 값을 검증해서 해당 user의 id를 추출
-			String username = jwtUtil.getUsernameFromToken(token);
+			String username = streamToken != null
+				? jwtUtil.getUsernameFromStreamToken(token)
+				: jwtUtil.getUsernameFromToken(token);
 			log.debug("[JwtFilter] 토큰 유효, 사용자: {}", username);
 
 			// username이 존재하고 현재 인증되지 않은 경우
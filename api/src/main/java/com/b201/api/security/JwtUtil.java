@@ -5,6 +5,8 @@ import java.util.Date;
 
 import org.springframework.stereotype.Component;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -19,6 +21,10 @@ public class JwtUtil {
 	private final JwtProperties jwtProperties;
 	private static final long EXPIRATION_TIME = 30 * 60 * 1000; // 30분 (ms 단위)
 	private static final long EXPIRATION_REFRESH_TIME = 14 * 24 * 60 * 60 * 1000; // 2주
+	public static final long EXPIRATION_STREAM_TIME = 60 * 1000; // 1분 (SSE 연결용)
+	// SSE 연결용 토큰 표시 claim (URL 에 실리므로 일반 API 에는 쓸 수 없게 구분)
+	private static final String TYPE_CLAIM = "typ";
+	private static final String STREAM_TYPE = "sse";
 
 	// secretKey 생성 메서드 token 생성,검증에 모두 사용됨.
 	private Key getSigningKey() {
@@ -54,17 +60,44 @@ public class JwtUtil {
 		return refreshToken;
 	}
 
-	// jwt 토큰 검증 메서드
+	// SSE 연결용 단기 토큰 생성 메서드 (EventSource 는 Authorization 헤더를 보낼 수 없어 쿼리 파라미터로 받는다)
+	public String generateStreamToken(String username) {
+		log.info("[generateStreamToken] SSE 토큰 생성, username={}", username);
+		return Jwts.builder()
+			.setSubject(username)
+			.claim(TYPE_CLAIM, STREAM_TYPE)
+			.setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_STREAM_TIME))
+			.signWith(getSigningKey(), SignatureAlgorithm.HS256)
+			.compact();
+	}
+
+	// jwt 토큰 검증 메서드 (SSE 연결용 토큰은 거부)
 	public String getUsernameFromToken(String token) {
 		log.debug("[getUsernameFromToken] 토큰 해석 시작: {}", token);
-		String username = Jwts.parserBuilder()
+		Claims claims = parseClaims(token);
+		if (STREAM_TYPE.equals(claims.get(TYPE_CLAIM))) {
+			throw new JwtException("SSE 연결용 토큰은 API 인증에 사용할 수 없습니다.");
+		}
+		String username = claims.getSubject();
+		log.info("[getUsernameFromToken] 토큰에서 추출된 username={}", username);
+		return username;
+	}
+
+	// SSE 연결용 토큰 검증 메서드
+	public String getUsernameFromStreamToken(String token) {
+		Claims claims = parseClaims(token);
+		if (!STREAM_TYPE.equals(claims.get(TYPE_CLAIM))) {
+			throw new JwtException("SSE 연결용 토큰이 아닙니다.");
+		}
+		return claims.getSubject();
+	}
+
+	private Claims parseClaims(String token) {
+		return Jwts.parserBuilder()
 			.setSigningKey(getSigningKey())
 			.build()
 			.parseClaimsJws(token)
-			.getBody()
-			.getSubject();
-		log.info("[getUsernameFromToken] 토큰에서 추출된 username={}", username);
-		return username;
+			.getBody();
 	}
 
 	public long getExpirationTime(String token) {
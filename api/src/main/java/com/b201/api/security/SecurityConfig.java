@@ -14,6 +14,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -59,6 +60,8 @@ public class SecurityConfig {
 			.authenticationProvider(authenticationProvider())
 			.authorizeHttpRequests(auth -> auth
 				.requestMatchers("/api/users/**", "/api/detect").permitAll()
+				// SSE 응답의 비동기 디스패치는 최초 요청에서 이미 인증되었으므로 다시 검사하지 않음
+				.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 				.anyRequest().authenticated())
 			// JwtAuthenticationFilter를 UsernamePasswordAuthenticationFilter(Spring Security 기본 로그인 필터) 앞에 등록
 			.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -1,26 +1,38 @@
 package com.b201.api.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestClientException;
 
+import com.b201.api.aggregate.OpenDamageSpatialIndex;
 import com.b201.api.domain.CaptureDamage;
 import com.b201.api.domain.CapturePoint;
+import com.b201.api.domain.ChangeSequence;
 import com.b201.api.domain.DamageCategory;
 import com.b201.api.domain.Region;
 import com.b201.api.dto.AiResultDto;
+import com.b201.api.event.CapturePointRecordedEvent;
+import com.b201.api.event.DamageRecordedEvent;
 import com.b201.api.exception.AddressLookupException;
 import com.b201.api.repository.CapturePointRepository;
+import com.b201.api.repository.ChangeSequenceRepository;
 import com.b201.api.repository.DamageCategoryRepository;
+import com.b201.api.util.GeoCell;
 import com.b201.api.util.RegionMapperUtil;
 import com.b201.api.util.VworldAddressUtil;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -29,19 +41,57 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class AiResultService {
 
+	private static final String LOCK_CELL_SQL =
+		"insert into ingest_dedup_lock (cell_key) values (?) on duplicate key update cell_key = cell_key";
+
 	private final VworldAddressUtil addressUtil;
 	private final CapturePointRepository capturePointRepository;
 	private final DamageCategoryRepository damageCategoryRepository;
+	private final ChangeSequenceRepository changeSequenceRepository;
 	private final GeometryFactory geometryFactory;
 	private final RegionMapperUtil regionMapperUtil;
+	private final ApplicationEventPublisher eventPublisher;
+	private final OpenDamageSpatialIndex openDamages;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
 
-	@Transactional
-	@CacheEvict(cacheNames = "capture_points_all", allEntries = true)
 	public void addAiResult(AiResultDto dto) {
 		log.info("[addAiResult] 호출됨, dto = {}", dto);
 
-		// 주소 조회
-		String street = findAddress(dto);
+		// 주소 조회(Vworld HTTP)는 트랜잭션 밖에서 한다 (중복 확인 칸 잠금과 변경 번호 행 잠금을 외부 호출 동안 잡지 않는다)
+		// 메모리 인덱스로 봐서 모든 감지가 중복이면 조회를 건너뛰고, 잠금 아래 DB 확인에서 새 감지가 나오면 그때 조회해 다시 시도한다
+		String street = allDuplicatesInMemory(dto) ? null : findAddress(dto);
+		if (!ingest(dto, street)) {
+			log.info("[addAiResult] 잠금 아래 확인에서 새 감지가 있어 주소 조회 후 다시 시도");
+			ingest(dto, findAddress(dto));
+		}
+	}
+
+	// 한 트랜잭션에서 칸 잠금 → 중복 확인 → 저장, 새 감지가 있는데 주소가 없으면 롤백하고 false
+	private boolean ingest(AiResultDto dto, String street) {
+		return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+			// 중복 확인부터 저장까지 같은 주변 칸의 다른 수집(다른 인스턴스 포함)이 끼어들지 않도록 칸 잠금을 먼저 잡는다
+			lockDedupCells(dto);
+
+			// 같은 위치의 같은 유형 미완료 파손이 이미 있으면 그 감지는 기존 포인트의 재확인으로 기록한다
+			Set<String> sightedPoints = new LinkedHashSet<>();
+			List<AiResultDto.Detection> detections = splitDuplicates(dto, sightedPoints);
+			if (!detections.isEmpty() && street == null) {
+				status.setRollbackOnly();
+				return false;
+			}
+			if (detections.isEmpty()) {
+				log.info("[addAiResult] 모든 감지가 기존 미완료 파손과 중복되어 재확인만 기록");
+				recordSightings(sightedPoints, dto.getCaptureTimestampUtc());
+				return true;
+			}
+			saveCapturePoint(dto, street, detections, sightedPoints);
+			return true;
+		}));
+	}
+
+	private void saveCapturePoint(AiResultDto dto, String street, List<AiResultDto.Detection> detections,
+		Set<String> sightedPoints) {
 		log.debug("[addAiResult] 주소 조회 완료 => {}", street);
 
 		Region region = regionMapperUtil.mapAddressToRegion(street);
@@ -58,13 +108,82 @@ public class AiResultService {
 		log.debug("[addAiResult] CapturePoint 객체 생성 및 Region 설정 => {}", capturePoint);
 
 		// CaptureDamage 리스트 매핑
-		List<CaptureDamage> damages = toCaptureDamages(dto, capturePoint);
+		List<CaptureDamage> damages = toCaptureDamages(detections, capturePoint);
 		log.debug("[addAiResult] CaptureDamage 리스트 생성, 개수 = {}", damages.size());
 
 		damages.forEach(capturePoint::addDamage);
 
+		// 지도 증분 동기화용 변경 번호 (행 잠금을 커밋까지 잡으므로 느린 작업 뒤, 저장 직전에 받는다)
+		recordSightings(sightedPoints, dto.getCaptureTimestampUtc());
+		capturePoint.setChangeSeq(changeSequenceRepository.next(ChangeSequence.CAPTURE_POINT));
+
 		CapturePoint saved = capturePointRepository.save(capturePoint);
 		log.info("[addAiResult] CapturePoint 저장 완료, id = {}", saved.getCapturePointId());
+
+		// 집계 테이블 갱신 등 후속 처리를 위한 이벤트 발행 (같은 트랜잭션)
+		saved.getCaptureDamages().forEach(damage -> eventPublisher.publishEvent(DamageRecordedEvent.from(damage)));
+		eventPublisher.publishEvent(CapturePointRecordedEvent.from(saved));
+	}
+
+	// 잠금 없이 메모리 인덱스만 본 사전 확인, 주소 조회를 건너뛸지만 정한다 (중복 판정은 잠금 아래 DB 확인이 한다)
+	private boolean allDuplicatesInMemory(AiResultDto dto) {
+		if (!openDamages.isEnabled()) {
+			return false;
+		}
+		double x = dto.getLocation().getLongitude();
+		double y = dto.getLocation().getLatitude();
+		return dto.getDetections().stream()
+			.allMatch(detection -> openDamages.findNearby(x, y, detection.getCategoryName(),
+				dto.getCaptureTimestampUtc()).isPresent());
+	}
+
+	// 감지 위치 주변 격자 칸 잠금 행을 오름차순으로 잡는다 (트랜잭션 종료 시 풀림)
+	private void lockDedupCells(AiResultDto dto) {
+		if (!openDamages.isEnabled()) {
+			return;
+		}
+		List<Object[]> cells = openDamages.lockCells(dto.getLocation().getLongitude(), dto.getLocation().getLatitude())
+			.stream()
+			.map(cell -> new Object[] {cell})
+			.toList();
+		jdbcTemplate.batchUpdate(LOCK_CELL_SQL, cells);
+	}
+
+	// 반경 안에 같은 유형의 미완료 파손이 있는 감지는 그 포인트를 sightedPoints 에 모으고, 남은 감지 목록을 돌려준다
+	private List<AiResultDto.Detection> splitDuplicates(AiResultDto dto, Set<String> sightedPoints) {
+		if (!openDamages.isEnabled()) {
+			return dto.getDetections();
+		}
+		double x = dto.getLocation().getLongitude();
+		double y = dto.getLocation().getLatitude();
+		List<AiResultDto.Detection> remaining = new ArrayList<>();
+		for (AiResultDto.Detection detection : dto.getDetections()) {
+			Optional<String> existing = findOpenDamagePoint(x, y, detection.getCategoryName(),
+				dto.getCaptureTimestampUtc());
+			if (existing.isPresent()) {
+				log.info("[splitDuplicates] 중복 감지를 재확인으로 기록, category = {}, 기존 포인트 = {}",
+					detection.getCategoryName(), existing.get());
+				sightedPoints.add(existing.get());
+			} else {
+				remaining.add(detection);
+			}
+		}
+		return remaining;
+	}
+
+	// 칸 잠금 아래에서 DB 로 확인한다 (메모리 인덱스는 이 인스턴스에서 커밋된 완료만 알고 있어 열린 상태가 낡았을 수 있다)
+	private Optional<String> findOpenDamagePoint(double x, double y, String categoryName, LocalDateTime capturedAt) {
+		return openDamages.nearestWithin(x, y, capturePointRepository.findOpenDamagePointsInBox(
+			categoryName, capturedAt.minusDays(openDamages.getWindowDays()), openDamages.searchBox(x, y)));
+	}
+
+	// 재확인 기록과 함께 변경 번호를 새로 받아 지도 증분 동기화에 반영되게 한다
+	private void recordSightings(Set<String> publicIds, LocalDateTime capturedAt) {
+		publicIds.forEach(publicId -> capturePointRepository.findByPublicId(publicId).ifPresent(point -> {
+			point.recordSighting(capturedAt);
+			point.setChangeSeq(changeSequenceRepository.next(ChangeSequence.CAPTURE_POINT));
+			capturePointRepository.save(point);
+		}));
 	}
 
 	// Vworld api를 통해 좌표를 주소값으로 변환.
@@ -103,14 +222,15 @@ public class AiResultService {
 			.imageUrl("https://k12b201.p.ssafy.io/images/" + dto.getImageInfo().getImageUrl() + ".jpg")
 			.location(point)
 			.streetAddress(address)
+			.geoCell(GeoCell.encode(point.getX(), point.getY()))
 			.build();
 		log.debug("[toCapturePoint] 생성된 CapturePoint => {}", cp);
 		return cp;
 	}
 
 	// CaptureDamage 리스트 매핑
-	private List<CaptureDamage> toCaptureDamages(AiResultDto dto, CapturePoint capturePoint) {
-		List<CaptureDamage> list = dto.getDetections().stream()
+	private List<CaptureDamage> toCaptureDamages(List<AiResultDto.Detection> detections, CapturePoint capturePoint) {
+		List<CaptureDamage> list = detections.stream()
 			.map(detection -> {
 				DamageCategory category = damageCategoryRepository
 					.findByCategoryName(detection.getCategoryName())
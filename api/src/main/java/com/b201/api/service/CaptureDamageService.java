@@ -1,13 +1,21 @@
 package com.b201.api.service;
 
+import java.time.LocalDateTime;
+
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.b201.api.domain.CaptureDamage;
 import com.b201.api.domain.CaptureDamage.DamageStatus;
+import com.b201.api.domain.ChangeSequence;
+import com.b201.api.domain.DamageStatusHistory;
+import com.b201.api.event.DamageStatusChangedEvent;
 import com.b201.api.repository.CaptureDamageRepository;
+import com.b201.api.repository.ChangeSequenceRepository;
+import com.b201.api.repository.DamageStatusHistoryRepository;
+import com.b201.api.util.UtcClock;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +27,9 @@ import lombok.extern.slf4j.Slf4j;
 public class CaptureDamageService {
 
 	private final CaptureDamageRepository damageRepo;
+	private final DamageStatusHistoryRepository historyRepo;
+	private final ChangeSequenceRepository changeSequenceRepo;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 특정 파손 건(damageId)의 상태를 변경한다.
@@ -28,10 +39,7 @@ public class CaptureDamageService {
 	 * @throws EntityNotFoundException 해당 ID의 파손 기록이 없으면 예외
 	 */
 	@Transactional
-	@Caching(evict = {
-		@CacheEvict(cacheNames = "capture_damage", key = "#result.capturePoint.publicId"),
-		@CacheEvict(cacheNames = "capture_points_all")
-	})
+	@CacheEvict(cacheNames = "capture_damage", key = "#result.capturePoint.publicId")
 	public CaptureDamage changeStatus(Integer damageId, DamageStatus newStatus) {
 		log.info("[changeStatus] 호출됨, damageId={}, newStatus={}", damageId, newStatus);
 
@@ -41,9 +49,30 @@ public class CaptureDamageService {
 				return new EntityNotFoundException("Damage not found: " + damageId);
 			});
 
+		DamageStatus oldStatus = damage.getStatus();
+		if (oldStatus == newStatus) {
+			log.debug("[changeStatus] 상태 변화 없음, damageId={}, status={}", damageId, newStatus);
+			return damage;
+		}
+
 		damage.setStatus(newStatus);
 		log.debug("[changeStatus] 상태 업데이트 완료, damageId={}, status={}", damageId, newStatus);
 
+		// 지도 증분 동기화에서 이 포인트가 다시 내려가도록 변경 번호 갱신
+		damage.getCapturePoint().setChangeSeq(changeSequenceRepo.next(ChangeSequence.CAPTURE_POINT));
+
+		// 상태 변경 이력 (created_at 과 같은 UTC 기준)
+		LocalDateTime changedAt = UtcClock.now();
+		historyRepo.save(DamageStatusHistory.builder()
+			.captureDamage(damage)
+			.fromStatus(oldStatus)
+			.toStatus(newStatus)
+			.changedAt(changedAt)
+			.build());
+
+		// 집계 테이블 갱신 등 후속 처리를 위한 이벤트 발행 (같은 트랜잭션)
+		eventPublisher.publishEvent(DamageStatusChangedEvent.of(damage, oldStatus, changedAt));
+
 		return damage;
 	}
 }
@@ -1,22 +1,54 @@
 package com.b201.api.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.locationtech.jts.geom.Envelope;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.b201.api.aggregate.CapturePointClusterIndex;
+import com.b201.api.aggregate.OpenCapturePointIndex;
 import com.b201.api.domain.CaptureDamage;
-import com.b201.api.domain.CapturePoint;
+import com.b201.api.domain.ChangeSequence;
 import com.b201.api.dto.AddressDto;
 import com.b201.api.dto.damage.DamageDetailResponseDto;
 import com.b201.api.dto.damage.DamageDto;
+import com.b201.api.dto.point.CapturePointFeatureRowDto;
 import com.b201.api.dto.point.CapturePointResponseDto;
+import com.b201.api.dto.point.ClusterDto;
+import com.b201.api.dto.point.ClusterResponseDto;
 import com.b201.api.dto.point.FeatureDto;
 import com.b201.api.dto.point.GeometryDto;
+import com.b201.api.dto.point.NearbyCapturePointDto;
 import com.b201.api.dto.point.PropertiesDto;
 import com.b201.api.repository.CapturePointRepository;
+import com.b201.api.repository.ChangeSequenceRepository;
+import com.b201.api.util.RegionHierarchyCache;
+import com.b201.api.util.TileMath;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,13 +59,117 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class CapturePointService {
 
+	public static final String FEATURES_CACHE = "capture_points";
+	public static final double MAX_NEARBY_RADIUS_METERS = 5_000;
+	public static final int MAX_NEARBY_COUNT = 100;
+	// 지역별 feature 캐시 항목의 확인 번호 ("항목 cursor:확인 번호"), 항목과 같은 TTL
+	private static final String VERIFIED_KEY_PREFIX = "capture_points:verified:";
+	private static final Duration VERIFIED_TTL = Duration.ofDays(1);
+	private static final Envelope WORLD = new Envelope(-180, 180, -90, 90);
+	// 스트리밍 조회 문장 제한 시간, 응답 전체는 spring.mvc.async.request-timeout 으로 제한한다
+	private static final int STREAM_QUERY_TIMEOUT_SECONDS = 60;
+	private static final String STREAM_FEATURES_SQL = """
+		select cp.public_id,
+			ST_X(cp.location) as x,
+			ST_Y(cp.location) as y,
+			cp.street_address,
+			cp.accuracy_meters,
+			case when exists (
+				select 1 from capture_damage cd
+					where cd.capture_point_id = cp.capture_point_id and cd.status <> 'COMPLETED'
+			) then 1 else 0 end as display
+		from capture_point cp
+			where cp.region_id in (:regionIds)
+		""";
+
 	private final CapturePointRepository capturePointRepository;
+	private final RegionHierarchyCache regionHierarchy;
+	private final CapturePointClusterIndex clusterIndex;
+	private final OpenCapturePointIndex openPointIndex;
+	private final ChangeSequenceRepository changeSequenceRepository;
+	private final JdbcTemplate jdbcTemplate;
+	private final CacheManager cacheManager;
+	private final ObjectMapper objectMapper;
+	private final StringRedisTemplate redisTemplate;
 
-	// @Cacheable(cacheNames = "capture_points_all")
+	/**
+	 * 광역시/도 전체 feature (지역별 캐시)
+	 * 캐시 항목은 만들 때의 cursor(변경 번호)를 함께 가진다. 변경 번호는 모든 지역이 같이 쓰므로, 항목과 별도로
+	 * "이 항목은 몇 번까지 이 지역 변경이 없음을 확인했다"는 번호를 작은 키로 둔다. (VERIFIED_KEY_PREFIX)
+	 * 조회 시 확인된 번호 이후 바뀐 이 지역 포인트만 읽어, 없으면 작은 키만 올리고 있으면 publicId 기준으로 덮어쓴 뒤 다시 저장한다.
+	 * 따라서 쓰기 쪽에서 캐시를 지울 필요가 없고, 다른 지역의 수집 때문에 이 지역의 큰 항목을 다시 쓰지 않는다.
+	 * Redis 입출력이 DB 연결을 붙잡지 않도록 트랜잭션 밖에서 실행한다. (조회마다 각자 읽기 트랜잭션)
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public CapturePointResponseDto findAllFeatures(String regionName) {
 		log.info("[findAllFeatures] 호출됨 : {}", regionName);
 
-		List<FeatureDto> featureDtos = capturePointRepository.findAllByRegionName(regionName).stream()
+		Long current = changeSequenceRepository.current(ChangeSequence.CAPTURE_POINT);
+		Cache cache = cacheManager.getCache(FEATURES_CACHE);
+		CapturePointResponseDto cached = cache != null && current != null
+			? cache.get(regionName, CapturePointResponseDto.class) : null;
+
+		if (cached != null && cached.getCursor() != null && cached.getCursor() <= current) {
+			long verified = Math.max(cached.getCursor(), verifiedCursor(regionName, cached.getCursor()));
+			if (verified >= current) {
+				log.debug("[findAllFeatures] 캐시 적중, cursor={}", current);
+				return withCursor(cached, current);
+			}
+			List<FeatureDto> changed = findChangedFeatureDtos(regionName, verified);
+			if (changed.isEmpty()) {
+				log.debug("[findAllFeatures] 이 지역 변경 없음, 확인 번호만 갱신 {} -> {}", verified, current);
+				saveVerifiedCursor(regionName, cached.getCursor(), current);
+				return withCursor(cached, current);
+			}
+			CapturePointResponseDto merged = mergeChanges(cached, changed, current);
+			cache.put(regionName, merged);
+			saveVerifiedCursor(regionName, current, current);
+			return merged;
+		}
+
+		CapturePointResponseDto loaded = loadAllFeatures(regionName, current);
+		if (cache != null && current != null) {
+			cache.put(regionName, loaded);
+			saveVerifiedCursor(regionName, current, current);
+		}
+		return loaded;
+	}
+
+	// "항목 cursor:확인 번호" 로 저장하므로, 다른 인스턴스가 더 오래된 항목으로 덮어쓴 경우의 확인 번호는 쓰지 않는다
+	private long verifiedCursor(String regionName, long entryCursor) {
+		try {
+			String value = redisTemplate.opsForValue().get(VERIFIED_KEY_PREFIX + regionName);
+			if (value == null) {
+				return entryCursor;
+			}
+			String[] parts = value.split(":");
+			return Long.parseLong(parts[0]) == entryCursor ? Long.parseLong(parts[1]) : entryCursor;
+		} catch (RuntimeException e) {
+			log.warn("[verifiedCursor] 확인 번호 조회 실패, 항목 cursor 부터 다시 확인. regionName={}", regionName, e);
+			return entryCursor;
+		}
+	}
+
+	private void saveVerifiedCursor(String regionName, long entryCursor, long verified) {
+		try {
+			redisTemplate.opsForValue().set(VERIFIED_KEY_PREFIX + regionName, entryCursor + ":" + verified,
+				VERIFIED_TTL);
+		} catch (RuntimeException e) {
+			log.warn("[saveVerifiedCursor] 확인 번호 저장 실패, regionName={}", regionName, e);
+		}
+	}
+
+	private static CapturePointResponseDto withCursor(CapturePointResponseDto response, long cursor) {
+		return CapturePointResponseDto.builder()
+			.features(response.getFeatures())
+			.cursor(cursor)
+			.build();
+	}
+
+	private CapturePointResponseDto loadAllFeatures(String regionName, Long cursor) {
+		// cursor 는 호출 쪽에서 목록보다 먼저 읽은 값 (그 사이 변경분이 다음 증분 요청에서 빠지지 않도록)
+		List<FeatureDto> featureDtos = capturePointRepository.findFeatureRowsByRegionIds(
+				regionHierarchy.resolve(regionName).districtIds()).stream()
 			.map(this::mapToFeatureDto)
 			.toList();
 
@@ -41,46 +177,280 @@ public class CapturePointService {
 
 		return CapturePointResponseDto.builder()
 			.features(featureDtos)   // features가 비어 있으면 []으로 직렬화됨
+			.cursor(cursor)
 			.build();
+	}
 
+	private List<FeatureDto> findChangedFeatureDtos(String regionName, long since) {
+		return capturePointRepository.findFeatureRowsChangedSince(
+				regionHierarchy.resolve(regionName).districtIds(), since).stream()
+			.map(this::mapToFeatureDto)
+			.toList();
 	}
 
-	private FeatureDto mapToFeatureDto(CapturePoint capturePoint) {
-		double longitude = capturePoint.getLocation().getY();
-		double latitude = capturePoint.getLocation().getX();
+	// 캐시된 목록에 바뀐 포인트만 반영 (기존 포인트는 제자리에서 교체, 새 포인트는 뒤에 추가)
+	private CapturePointResponseDto mergeChanges(CapturePointResponseDto cached, List<FeatureDto> changed,
+		long current) {
+		Map<String, FeatureDto> byPublicId = new LinkedHashMap<>();
+		cached.getFeatures().forEach(feature -> byPublicId.put(feature.getProperties().publicId(), feature));
+		changed.forEach(feature -> byPublicId.put(feature.getProperties().publicId(), feature));
+		log.debug("[findAllFeatures] 캐시 갱신, cursor {} -> {}, 변경 {}건", cached.getCursor(), current, changed.size());
+
+		return CapturePointResponseDto.builder()
+			.features(List.copyOf(byPublicId.values()))
+			.cursor(current)
+			.build();
+	}
+
+	/**
+	 * 증분 동기화: since(이전 응답의 cursor) 이후 저장되었거나 파손 상태가 바뀐 포인트만 반환
+	 * 바뀐 포인트는 현재 상태 전체(display 포함)로 다시 내려가므로 클라이언트는 publicId 로 덮어쓰면 된다.
+	 */
+	public CapturePointResponseDto findChangedFeatures(String regionName, long since) {
+		log.info("[findChangedFeatures] 호출됨 : {}, since={}", regionName, since);
+
+		Long cursor = changeSequenceRepository.current(ChangeSequence.CAPTURE_POINT);
+		List<FeatureDto> featureDtos = findChangedFeatureDtos(regionName, since);
+
+		log.debug("[findChangedFeatures] 변경된 feature 개수 = {}", featureDtos.size());
+		return CapturePointResponseDto.builder()
+			.features(featureDtos)
+			.cursor(cursor != null ? Math.max(cursor, since) : since)
+			.build();
+	}
+	/**
+	 * 광역시/도 전체 feature 를 응답 스트림에 바로 쓴다. (findAllFeatures 와 같은 GeoJSON)
+	 * 전방 전용 커서로 한 행씩 읽어 JsonGenerator 로 내보내므로 DTO 목록을 만들지 않고, 힙 사용량이 포인트 수와 무관하다.
+	 */
+	public void writeAllFeatures(String regionName, OutputStream out) throws IOException {
+		log.info("[writeAllFeatures] 호출됨 : {}", regionName);
+		List<Integer> regionIds = regionHierarchy.resolve(regionName).districtIds();
+		Long cursor = changeSequenceRepository.current(ChangeSequence.CAPTURE_POINT);
+
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+			.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false)) {
+			generator.writeStartObject();
+			generator.writeStringField("type", "FeatureCollection");
+			generator.writeArrayFieldStart("features");
+			if (!regionIds.isEmpty()) {
+				streamFeatureRows(regionIds, generator);
+			}
+			generator.writeEndArray();
+			if (cursor != null) {
+				generator.writeNumberField("cursor", cursor);
+			}
+			generator.writeEndObject();
+		}
+	}
+
+	private void streamFeatureRows(List<Integer> regionIds, JsonGenerator generator) {
+		PreparedStatementCreator creator = streamFeaturesStatement(regionIds);
+		long[] written = {0};
+		jdbcTemplate.query(connection -> {
+			PreparedStatement ps = creator.createPreparedStatement(connection);
+			// MySQL Connector/J 는 fetchSize 가 Integer.MIN_VALUE 일 때만 행 단위로 스트리밍한다
+			ps.setFetchSize(Integer.MIN_VALUE);
+			ps.setQueryTimeout(STREAM_QUERY_TIMEOUT_SECONDS);
+			return ps;
+		}, (ResultSet rs) -> {
+			try {
+				writeFeature(generator, rs);
+				written[0]++;
+			} catch (IOException e) {
+				// 클라이언트가 연결을 끊은 경우 등, 커서를 바로 닫도록 예외로 중단
+				throw new UncheckedIOException(e);
+			}
+		});
+		log.debug("[writeAllFeatures] 전송한 feature 개수 = {}", written[0]);
+	}
+
+	// :regionIds 를 목록 길이만큼의 ? 로 펼친 전방 전용, 읽기 전용 문장
+	private static PreparedStatementCreator streamFeaturesStatement(List<Integer> regionIds) {
+		ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(STREAM_FEATURES_SQL);
+		MapSqlParameterSource params = new MapSqlParameterSource("regionIds", regionIds);
+		PreparedStatementCreatorFactory factory = new PreparedStatementCreatorFactory(
+			NamedParameterUtils.substituteNamedParameters(parsedSql, params),
+			NamedParameterUtils.buildSqlParameterList(parsedSql, params));
+		factory.setResultSetType(ResultSet.TYPE_FORWARD_ONLY);
+		factory.setUpdatableResults(false);
+		return factory.newPreparedStatementCreator(NamedParameterUtils.buildValueArray(parsedSql, params, null));
+	}
+
+	// 필드 순서/이름은 FeatureDto, GeometryDto, PropertiesDto, AddressDto 직렬화 결과와 같다
+	private void writeFeature(JsonGenerator generator, ResultSet rs) throws IOException, SQLException {
+		double x = rs.getDouble("x");
+		double y = rs.getDouble("y");
+		double accuracyMeters = rs.getDouble("accuracy_meters");
+		boolean accuracyMissing = rs.wasNull();
+
+		generator.writeStartObject();
+		generator.writeStringField("type", "Feature");
+		generator.writeObjectFieldStart("geometry");
+		generator.writeStringField("type", "Point");
+		generator.writeArrayFieldStart("coordinates");
+		// mapToFeatureDto 와 같은 좌표 순서
+		generator.writeNumber(y);
+		generator.writeNumber(x);
+		generator.writeEndArray();
+		generator.writeEndObject();
+		generator.writeObjectFieldStart("properties");
+		generator.writeStringField("publicId", rs.getString("public_id"));
+		generator.writeNumberField("display", rs.getInt("display"));
+		generator.writeObjectFieldStart("address");
+		generator.writeStringField("street", rs.getString("street_address"));
+		generator.writeEndObject();
+		if (accuracyMissing) {
+			generator.writeNullField("accuracyMeters");
+		} else {
+			generator.writeNumberField("accuracyMeters", accuracyMeters);
+		}
+		generator.writeEndObject();
+		generator.writeEndObject();
+	}
+
+	/**
+	 * 화면 범위(bbox: 최소 경도, 최소 위도, 최대 경도, 최대 위도) 안의 feature 만 조회
+	 * zoom 이 있으면 범위를 해당 줌의 타일 경계까지 넓혀, 조금씩 움직여도 같은 범위로 조회되게 한다.
+	 * bbox 가 없으면 기존처럼 광역시/도 전체를 반환한다.
+	 */
+	public CapturePointResponseDto findFeatures(String regionName, List<Double> bbox, Integer zoom) {
+		if (bbox == null || bbox.isEmpty()) {
+			return findAllFeatures(regionName);
+		}
+		log.info("[findFeatures] 호출됨 : {}, bbox={}, zoom={}", regionName, bbox, zoom);
+		Envelope viewport = toViewport(bbox, zoom);
+		List<Integer> regionIds = regionHierarchy.resolve(regionName).districtIds();
+		// 모르는 지역이면 빈 목록 (네이티브 쿼리의 빈 in () 은 MySQL 문법 오류)
+		if (regionIds.isEmpty()) {
+			return CapturePointResponseDto.builder()
+				.features(List.of())
+				.build();
+		}
+
+		List<FeatureDto> featureDtos = capturePointRepository.findFeaturesInBox(regionIds, viewport).stream()
+			.map(view -> toFeatureDto(view.getPublicId(), view.getX(), view.getY(), view.getStreetAddress(),
+				view.getAccuracyMeters(), view.getDisplay()))
+			.toList();
+
+		log.debug("[findFeatures] 매핑된 feature 개수 = {}", featureDtos.size());
+		return CapturePointResponseDto.builder()
+			.features(featureDtos)
+			.build();
+	}
+
+	/**
+	 * 줌 레벨별 지도 데이터
+	 * POINT_ZOOM 미만이면 미리 쌓아 둔 격자 클러스터(포인트 수, 미완료 파손 수)를, 그 이상이면 화면 범위의 개별 feature 를 반환한다.
+	 */
+	public ClusterResponseDto findClusters(String regionName, List<Double> bbox, int zoom) {
+		log.info("[findClusters] 호출됨 : {}, bbox={}, zoom={}", regionName, bbox, zoom);
+		TileMath.checkZoom(zoom);
+		if (zoom >= CapturePointClusterIndex.POINT_ZOOM) {
+			return ClusterResponseDto.builder()
+				.zoom(zoom)
+				.clustered(false)
+				.features(findFeatures(regionName, bbox, zoom).getFeatures())
+				.build();
+		}
+
+		Envelope viewport = bbox == null || bbox.isEmpty() ? WORLD : toViewport(bbox, null);
+		List<ClusterDto> clusters = clusterIndex.clusters(regionName, viewport, zoom).stream()
+			.map(cluster -> ClusterDto.builder()
+				// feature 와 같은 좌표 순서
+				.geometry(GeometryDto.builder().coordinates(new double[] {cluster.y(), cluster.x()}).build())
+				.count(cluster.count())
+				.openCount(cluster.openCount())
+				.build())
+			.toList();
+
+		log.debug("[findClusters] 클러스터 개수 = {}", clusters.size());
+		return ClusterResponseDto.builder()
+			.zoom(zoom)
+			.clustered(true)
+			.clusters(clusters)
+			.build();
+	}
+
+	/**
+	 * 현장 위치(경도, 위도) 주변의 미완료 파손 포인트, 가까운 순
+	 * radiusMeters 가 있으면 반경 안 전부를, k 가 있으면 가장 가까운 k개를 메모리 STR-tree 에서 찾는다. (둘 중 하나만)
+	 */
+	public List<NearbyCapturePointDto> findNearby(String regionName, double longitude, double latitude,
+		Double radiusMeters, Integer k) {
+		log.info("[findNearby] 호출됨 : {}, [{}, {}], radius={}, k={}", regionName, longitude, latitude, radiusMeters, k);
+		if ((radiusMeters == null) == (k == null)) {
+			throw new IllegalArgumentException("radius 와 k 중 하나만 지정해야 합니다.");
+		}
+		if (radiusMeters != null && (radiusMeters <= 0 || radiusMeters > MAX_NEARBY_RADIUS_METERS)) {
+			throw new IllegalArgumentException("radius 는 0 초과 " + MAX_NEARBY_RADIUS_METERS + " 이하여야 합니다: "
+				+ radiusMeters);
+		}
+		if (k != null && (k <= 0 || k > MAX_NEARBY_COUNT)) {
+			throw new IllegalArgumentException("k 는 1~" + MAX_NEARBY_COUNT + " 사이여야 합니다: " + k);
+		}
+
+		List<OpenCapturePointIndex.Nearby> found = radiusMeters != null
+			? openPointIndex.within(regionName, longitude, latitude, radiusMeters)
+			: openPointIndex.nearest(regionName, longitude, latitude, k);
+		log.debug("[findNearby] 조회된 포인트 개수 = {}", found.size());
+		return found.stream()
+			.map(nearby -> NearbyCapturePointDto.builder()
+				.publicId(nearby.publicId())
+				// feature 와 같은 좌표 순서
+				.geometry(GeometryDto.builder().coordinates(new double[] {nearby.y(), nearby.x()}).build())
+				.openCount(nearby.openDamages())
+				.distanceMeters(nearby.distanceMeters())
+				.build())
+			.toList();
+	}
+
+	private Envelope toViewport(List<Double> bbox, Integer zoom) {
+		if (bbox.size() != 4) {
+			throw new IllegalArgumentException("bbox 는 최소 경도,최소 위도,최대 경도,최대 위도 4개 값이어야 합니다: " + bbox);
+		}
+		double minX = bbox.get(0);
+		double minY = bbox.get(1);
+		double maxX = bbox.get(2);
+		double maxY = bbox.get(3);
+		if (minX > maxX || minY > maxY) {
+			throw new IllegalArgumentException("bbox 의 최소값이 최대값보다 큽니다: " + bbox);
+		}
+		Envelope viewport = new Envelope(minX, maxX, minY, maxY);
+		if (zoom == null) {
+			return viewport;
+		}
+		TileMath.checkZoom(zoom);
+		return TileMath.snap(viewport, zoom);
+	}
+
+	private FeatureDto mapToFeatureDto(CapturePointFeatureRowDto row) {
+		return toFeatureDto(row.getPublicId(), row.getLocation().getX(), row.getLocation().getY(),
+			row.getStreetAddress(), row.getAccuracyMeters(), row.getDisplay());
+	}
+
+	private FeatureDto toFeatureDto(String publicId, double x, double y, String streetAddress,
+		Double accuracyMeters, int display) {
+		double longitude = y;
+		double latitude = x;
 
 		GeometryDto geometryDto = GeometryDto.builder()
 			.coordinates(new double[] {longitude, latitude})
 			.build();
 
 		PropertiesDto propertiesDto = PropertiesDto.builder()
-			.publicId(capturePoint.getPublicId())
-			.display(checkDamageStatus(capturePoint))
-			.address(new AddressDto(capturePoint.getStreetAddress()))
-			.accuracyMeters(capturePoint.getAccuracyMeters())
+			.publicId(publicId)
+			.display(display)
+			.address(new AddressDto(streetAddress))
+			.accuracyMeters(accuracyMeters)
 			.build();
 
-		log.trace("[mapToFeatureDto] publicId={} 변환 완료", capturePoint.getPublicId());
+		log.trace("[toFeatureDto] publicId={} 변환 완료", publicId);
 		return FeatureDto.builder()
 			.geometry(geometryDto)
 			.properties(propertiesDto)
 			.build();
 	}
 
-	public int checkDamageStatus(CapturePoint capturePoint) {
-		log.info("[checkDamageStatus] capturePoint의 하위 데미지들 상태 체크, capturePointId = {}",
-			capturePoint.getCapturePointId());
-		for (CaptureDamage captureDamage : capturePoint.getCaptureDamages()) {
-			log.info("damage status 상태 : {}", captureDamage.getStatus());
-			if (!CaptureDamage.DamageStatus.COMPLETED.equals(captureDamage.getStatus())) {
-				log.info("[checkDamageStauts] return = {}", 1);
-				return 1;
-			}
-		}
-		log.info("[checkDamageStauts] return = {}", 0);
-		return 0;
-	}
-
 	@Cacheable(cacheNames = "capture_damage", key = "#publicId", unless = "#result==null")
 	public Optional<DamageDetailResponseDto> findDamageDetail(String publicId) {
 		log.info("[findDamageDetail] 호출됨, publicId={}", publicId);
@@ -0,0 +1,132 @@
+package com.b201.api.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.locationtech.jts.geom.Envelope;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.b201.api.aggregate.CapturePointClusterIndex;
+import com.b201.api.dto.point.CapturePointFeatureView;
+import com.b201.api.event.CapturePointRecordedEvent;
+import com.b201.api.event.DamageStatusChangedEvent;
+import com.b201.api.repository.CapturePointRepository;
+import com.b201.api.util.MvtEncoder;
+import com.b201.api.util.RegionHierarchyCache;
+import com.b201.api.util.TileMath;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캡처 포인트 벡터 타일(MVT) 생성 및 타일 단위 캐시
+ * POINT_ZOOM 이상은 개별 포인트(publicId, display), 미만은 클러스터 피라미드의 칸(count, openCount)을 담는다.
+ * Redis 캐시에는 DB 에서 읽는 개별 포인트 타일만 넣는다. 클러스터 타일은 인스턴스마다 따로 채워지는 메모리 피라미드에서
+ * 바로 만들므로 공유 캐시에 넣으면 다른 인스턴스가 덜 갱신된 값을 퍼뜨릴 수 있다.
+ * 포인트가 저장되거나 상태가 바뀌면 그 포인트가 들어 있는 줌별 타일의 버전을 올린다. 버전이 캐시 키에 들어가므로
+ * 무효화보다 늦게 도착한 이전 조회의 저장은 다시 읽히지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CapturePointTileService {
+
+	public static final String CACHE_NAME = "capture_point_tiles";
+	private static final String POINT_LAYER = "capture_points";
+	private static final String CLUSTER_LAYER = "capture_point_clusters";
+	private static final String VERSION_KEY_PREFIX = "capture-point-tiles:version:";
+	// 타일 TTL(RedisConfig)보다 길게 두어, 버전 키가 사라져 0으로 돌아가도 그 버전의 옛 타일은 이미 만료되어 있게 한다
+	private static final Duration VERSION_TTL = Duration.ofHours(2);
+
+	private final CapturePointRepository capturePointRepository;
+	private final RegionHierarchyCache regionHierarchy;
+	private final CapturePointClusterIndex clusterIndex;
+	private final StringRedisTemplate redisTemplate;
+
+	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = CACHE_NAME,
+		condition = "#z >= T(com.b201.api.aggregate.CapturePointClusterIndex).POINT_ZOOM",
+		key = "@capturePointTileService.cacheKey(#regionName, #z, #x, #y)")
+	public byte[] getTile(String regionName, int z, int x, int y) {
+		log.info("[getTile] 호출됨 : {}, {}/{}/{}", regionName, z, x, y);
+		TileMath.checkTile(z, x, y);
+		Envelope envelope = TileMath.tileEnvelope(z, x, y);
+
+		MvtEncoder.Layer layer;
+		if (z >= CapturePointClusterIndex.POINT_ZOOM) {
+			layer = new MvtEncoder.Layer(POINT_LAYER, MvtEncoder.DEFAULT_EXTENT);
+			List<Integer> regionIds = regionHierarchy.resolve(regionName).districtIds();
+			// 모르는 지역이면 빈 타일 (네이티브 쿼리의 빈 in () 은 MySQL 문법 오류)
+			List<CapturePointFeatureView> views = regionIds.isEmpty()
+				? List.of() : capturePointRepository.findFeaturesInBox(regionIds, envelope);
+			for (CapturePointFeatureView view : views) {
+				layer.addPoint(pixelX(view.getX(), z, x), pixelY(view.getY(), z, y),
+					Map.of("publicId", view.getPublicId(), "display", view.getDisplay()));
+			}
+		} else {
+			layer = new MvtEncoder.Layer(CLUSTER_LAYER, MvtEncoder.DEFAULT_EXTENT);
+			clusterIndex.clusters(regionName, envelope, z).forEach(cluster ->
+				layer.addPoint(pixelX(cluster.x(), z, x), pixelY(cluster.y(), z, y),
+					Map.of("count", cluster.count(), "openCount", cluster.openCount())));
+		}
+
+		byte[] tile = MvtEncoder.encode(List.of(layer));
+		log.debug("[getTile] 타일 크기 = {} bytes", tile.length);
+		return tile;
+	}
+
+	@TransactionalEventListener
+	public void onCapturePointRecorded(CapturePointRecordedEvent event) {
+		if (event.parentRegionName() == null) {
+			return;
+		}
+		evictTiles(event.parentRegionName(), event.x(), event.y());
+	}
+
+	@TransactionalEventListener
+	public void onDamageStatusChanged(DamageStatusChangedEvent event) {
+		if (event.parentRegionName() == null) {
+			return;
+		}
+		// 좌표는 이벤트에 실려 오므로 이 인스턴스가 포인트를 아직 적재하지 않았어도 무효화된다
+		evictTiles(event.parentRegionName(), event.x(), event.y());
+	}
+
+	// 캐시 키 SpEL 에서 사용, 타일 버전을 붙인다
+	public String cacheKey(String regionName, int z, int x, int y) {
+		String tile = tileId(regionName, z, x, y);
+		String version = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + tile);
+		return tile + ":v" + (version != null ? version : "0");
+	}
+
+	// 캐시하는 줌마다 포인트가 들어 있는 타일 하나씩 버전을 올린다 (이미 커밋된 뒤이므로 Redis 오류는 기록만 하고 TTL 로 정리)
+	private void evictTiles(String regionName, double longitude, double latitude) {
+		try {
+			for (int z = CapturePointClusterIndex.POINT_ZOOM; z <= TileMath.MAX_ZOOM; z++) {
+				String versionKey = VERSION_KEY_PREFIX
+					+ tileId(regionName, z, TileMath.tileX(longitude, z), TileMath.tileY(latitude, z));
+				redisTemplate.opsForValue().increment(versionKey);
+				redisTemplate.expire(versionKey, VERSION_TTL);
+			}
+		} catch (RuntimeException e) {
+			log.error("[evictTiles] 타일 캐시 무효화 실패, regionName={}", regionName, e);
+		}
+	}
+
+	private static String tileId(String regionName, int z, int x, int y) {
+		return regionName + ":" + z + "/" + x + "/" + y;
+	}
+
+	private static int pixelX(double longitude, int z, int x) {
+		return (int)Math.floor((TileMath.fractionalX(longitude, z) - x) * MvtEncoder.DEFAULT_EXTENT);
+	}
+
+	private static int pixelY(double latitude, int z, int y) {
+		return (int)Math.floor((TileMath.fractionalY(latitude, z) - y) * MvtEncoder.DEFAULT_EXTENT);
+	}
+}
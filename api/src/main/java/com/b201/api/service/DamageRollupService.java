@@ -0,0 +1,64 @@
+package com.b201.api.service;
+
+import java.time.LocalDate;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.b201.api.event.DamageRecordedEvent;
+import com.b201.api.event.DamageStatusChangedEvent;
+import com.b201.api.repository.DamageDailyRollupRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파손 저장/상태 변경 이벤트를 받아 damage_daily_rollup 을 갱신한다.
+ * 커밋 직전(BEFORE_COMMIT) 리스너이므로 이벤트를 발행한 트랜잭션 안에서 함께 커밋/롤백된다.
+ * 트랜잭션 밖에서 다시 발행되는 다른 인스턴스의 이벤트(ClusterEventRelay)는 받지 않아 두 번 더하지 않는다.
+ * DamageCounterReconciler 가 원본과 어긋난 날짜를 찾으면 rebuildDay 로 다시 만든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DamageRollupService {
+
+	private final DamageDailyRollupRepository rollupRepo;
+
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+	@Transactional
+	public void onDamageRecorded(DamageRecordedEvent event) {
+		if (event.parentRegionId() == null) {
+			log.debug("[onDamageRecorded] 상위 지역이 없어 롤업 제외, damageId={}", event.damageId());
+			return;
+		}
+		rollupRepo.addCount(event.parentRegionId(), event.regionId(), event.categoryId(),
+			event.day(), event.status().name(), 1);
+		log.debug("[onDamageRecorded] 롤업 +1, damageId={}, day={}", event.damageId(), event.day());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+	@Transactional
+	public void onDamageStatusChanged(DamageStatusChangedEvent event) {
+		if (event.parentRegionId() == null) {
+			log.debug("[onDamageStatusChanged] 상위 지역이 없어 롤업 제외, damageId={}", event.damageId());
+			return;
+		}
+		rollupRepo.addCount(event.parentRegionId(), event.regionId(), event.categoryId(),
+			event.day(), event.oldStatus().name(), -1);
+		rollupRepo.addCount(event.parentRegionId(), event.regionId(), event.categoryId(),
+			event.day(), event.newStatus().name(), 1);
+		log.debug("[onDamageStatusChanged] 롤업 이동 {} -> {}, damageId={}",
+			event.oldStatus(), event.newStatus(), event.damageId());
+	}
+
+	// 하루치 롤업을 capture_damage 원본으로 다시 만든다
+	@Transactional
+	public void rebuildDay(LocalDate day) {
+		int deleted = rollupRepo.deleteDay(day);
+		int inserted = rollupRepo.insertDayFromSource(day, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+		log.warn("[rebuildDay] 롤업 재생성, day={}, deleted={}, inserted={}", day, deleted, inserted);
+	}
+}
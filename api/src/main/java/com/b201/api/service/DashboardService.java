@@ -4,32 +4,46 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import org.springframework.data.domain.PageRequest;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import com.b201.api.aggregate.DamageCounterRegistry;
+import com.b201.api.aggregate.DistinctAddressSketch;
+import com.b201.api.aggregate.RiskHistogramRegistry;
+import com.b201.api.domain.CaptureDamage.DamageStatus;
 import com.b201.api.dto.dashboard.CategoryCountDto;
 import com.b201.api.dto.dashboard.DailyStatusDto;
+import com.b201.api.dto.dashboard.DashboardSummaryDto;
 import com.b201.api.dto.dashboard.DistinctRegionCountDto;
 import com.b201.api.dto.dashboard.MonthlyDamageSummaryDto;
 import com.b201.api.dto.dashboard.MonthlyStatusDto;
 import com.b201.api.dto.dashboard.RegionCountDto;
 import com.b201.api.dto.dashboard.RegionNameWithCountDto;
+import com.b201.api.dto.dashboard.RiskDistributionDto;
 import com.b201.api.dto.dashboard.RiskStatusDto;
+import com.b201.api.dto.dashboard.TimeBucket;
+import com.b201.api.dto.dashboard.TimeSeriesDto;
 import com.b201.api.dto.dashboard.TopRegionDto;
 import com.b201.api.dto.dashboard.WeeklyStatusDto;
-import com.b201.api.repository.CaptureDamageRepository;
 import com.b201.api.repository.CapturePointRepository;
-import com.b201.api.repository.RegionRepository;
+import com.b201.api.util.RegionHierarchyCache;
+import com.b201.api.util.RegionHierarchyCache.RegionScope;
+import com.b201.api.util.UtcClock;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,19 +53,33 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class DashboardService {
 
-	private final CaptureDamageRepository damageRepo;
+	private static final String CRACK = "도로균열";
+	private static final String HOLE = "도로 홀";
+	// 시계열 최대 조회 기간 (약 10년)
+	private static final int MAX_SERIES_DAYS = 3660;
+	// 기본 심각도 구간 경계 (RiskStatusDto 4단계)
+	private static final List<Double> DEFAULT_RISK_BANDS = List.of(0.0, 40.0, 60.0, 80.0, 100.0);
+
 	private final CapturePointRepository capturePointRepo;
-	private final RegionRepository regionRepo;
+	private final RegionHierarchyCache regionHierarchy;
+	private final DamageCounterRegistry counters;
+	private final DistinctAddressSketch addressSketch;
+	private final RiskHistogramRegistry riskHistograms;
 
 	// 유형별 도로 파손 분포 수
-	@Transactional(readOnly = true)
 	public List<CategoryCountDto> getCategoryDistribution(String regionName) {
 		log.info("[getCategoryDistribution] 호출됨, regionName={}", regionName);
-		List<CategoryCountDto> list = damageRepo.countByCategoryName(regionName);
+		List<CategoryCountDto> list = toCategoryCounts(counters.countByCategory(regionName));
 		log.debug("[getCategoryDistribution] 분류 개수={}", list.size());
 		return list;
 	}
 
+	private List<CategoryCountDto> toCategoryCounts(Map<String, Long> byCategory) {
+		return new TreeMap<>(byCategory).entrySet().stream()
+			.map(e -> new CategoryCountDto(e.getKey(), e.getValue()))
+			.toList();
+	}
+
 	private double calculateRate(long current, long previous) {
 		if (previous > 0) {
 			return BigDecimal.valueOf((current - previous) * 100.0 / previous)
@@ -64,145 +92,147 @@ public class DashboardService {
 		throw new ArithmeticException("기준 값(이전 기간) 데이터가 없습니다.");
 	}
 
+	// 기간 파손 건수, 닫힌 기간도 메모리 카운터에서 바로 구한다 (늦게 도착한 파손과 보정이 곧바로 반영된다)
+	private long countBetween(String regionName, LocalDate start, LocalDate end) {
+		return counters.countBetween(regionName, start, end);
+	}
+
 	// 오늘자 파손 건수 + 전일 대비 증감율
-	@Transactional(readOnly = true)
 	public DailyStatusDto getDailyStatusWithChangeRate(String regionName) {
 		log.info("[getDailyStatusWithChangeRate] 호출됨, regionName={}", regionName);
 
-		LocalDate today = LocalDate.now();
+		LocalDate today = UtcClock.today();
 		LocalDate yesterday = today.minusDays(1);
 
-		// 1) 오늘 0시부터 지금까지
-		LocalDateTime todayStart = today.atStartOfDay();
-		LocalDateTime now = LocalDateTime.now();
-		long todayCount = damageRepo.countBetween(
-			regionName,
-			todayStart,
-			now
-		);
+		// 1) 오늘
+		long todayCount = counters.countBetween(regionName, today, today);
 
-		// 2) 어제 0시부터 오늘 0시까지
-		LocalDateTime yesterdayStart = yesterday.atStartOfDay();
-		long yesterdayCount = damageRepo.countBetween(
-			regionName,
-			yesterdayStart,
-			todayStart
-		);
+		// 2) 어제
+		long yesterdayCount = countBetween(regionName, yesterday, yesterday);
+
+		// 3) 증감율 계산
+		return toDailyStatus(today, todayCount, yesterdayCount);
+	}
 
+	private DailyStatusDto toDailyStatus(LocalDate today, long todayCount, long yesterdayCount) {
 		try {
-			// 3) 증감율 계산
 			double rate = calculateRate(todayCount, yesterdayCount);
 
-			log.debug("[getDailyStatusWithChangeRate] todayCount={}, yesterdayCount={}, rate={}",
+			log.debug("[toDailyStatus] todayCount={}, yesterdayCount={}, rate={}",
 				todayCount, yesterdayCount, rate);
 			return new DailyStatusDto(today, todayCount, rate);
 		} catch (ArithmeticException e) {
-			log.warn("[getDailyStatusWithChangeRate] 0으로 나누기 감지");
+			log.warn("[toDailyStatus] 0으로 나누기 감지");
 			// 0으로 나눈 경우: todayCount를 음수로 바꿔 리턴
 			return new DailyStatusDto(today, -todayCount, 0.0);
 		}
 	}
 
 	// 이번 주(월요일~) 파손 건수 합계 + 전주 대비 증감율
-	@Transactional(readOnly = true)
 	public WeeklyStatusDto getWeeklyStatusWithChangeRate(String regionName) {
 		log.info("[getWeeklyStatusWithChangeRate] 호출됨, regionName={}", regionName);
-		LocalDate today = LocalDate.now();
+		LocalDate today = UtcClock.today();
 		LocalDate thisMon = today.with(DayOfWeek.MONDAY);
 		LocalDate lastMon = thisMon.minusWeeks(1);
 
-		long thisWeekSum = damageRepo.countBetween(regionName, thisMon.atStartOfDay(), LocalDateTime.now());
+		long thisWeekSum = counters.countBetween(regionName, thisMon, today);
 
-		long lastWeekSum = damageRepo.countBetween(regionName, lastMon.atStartOfDay(), thisMon.atStartOfDay());
+		long lastWeekSum = countBetween(regionName, lastMon, thisMon.minusDays(1));
+
+		return toWeeklyStatus(thisMon, thisWeekSum, lastWeekSum);
+	}
 
+	private WeeklyStatusDto toWeeklyStatus(LocalDate thisMon, long thisWeekSum, long lastWeekSum) {
 		try {
 			double rate = calculateRate(thisWeekSum, lastWeekSum);
 
-			log.debug("[getWeeklyStatusWithChangeRate] thisWeekSum={}, lastWeekSum={}, rate={}",
+			log.debug("[toWeeklyStatus] thisWeekSum={}, lastWeekSum={}, rate={}",
 				thisWeekSum, lastWeekSum, rate);
 			return new WeeklyStatusDto(thisMon, thisWeekSum, rate);
 		} catch (ArithmeticException e) {
-			log.warn("[getWeeklyStatusWithChangeRate] 0으로 나누기 감지");
+			log.warn("[toWeeklyStatus] 0으로 나누기 감지");
 			return new WeeklyStatusDto(thisMon, -thisWeekSum, 0.0);
 		}
-
 	}
 
 	// 이번 달 파손 건수 합계 + 전월 대비 증감율
-	@Transactional(readOnly = true)
 	public MonthlyStatusDto getMonthlyStatusWithChangeRate(String regionName) {
 		log.info("[getMonthlyStatusWithChangeRate] 호출됨, regionName={}", regionName);
 
-		LocalDate today = LocalDate.now();
+		LocalDate today = UtcClock.today();
 		LocalDate firstDayThisMon = today.withDayOfMonth(1);
 		LocalDate firstDayLastMon = firstDayThisMon.minusMonths(1);
 
-		// 이번 달: 1일 0시부터 지금까지
-		LocalDateTime thisStart = firstDayThisMon.atStartOfDay();
-		LocalDateTime now = LocalDateTime.now();
-		long thisMonthCount = damageRepo.countBetween(
-			regionName,
-			thisStart,
-			now
-		);
+		// 이번 달: 1일부터 오늘까지
+		long thisMonthCount = counters.countBetween(regionName, firstDayThisMon, today);
 
-		// 지난 달: 지난달 1일 0시부터 이번 달 1일 0시까지
-		LocalDateTime lastStart = firstDayLastMon.atStartOfDay();
-		LocalDateTime lastEnd = firstDayThisMon.atStartOfDay();
-		long lastMonthCount = damageRepo.countBetween(
-			regionName,
-			lastStart,
-			lastEnd
-		);
+		// 지난 달: 지난달 1일부터 말일까지
+		long lastMonthCount = countBetween(regionName, firstDayLastMon, firstDayThisMon.minusDays(1));
 
+		return toMonthlyStatus(YearMonth.from(firstDayThisMon), thisMonthCount, lastMonthCount);
+	}
+
+	private MonthlyStatusDto toMonthlyStatus(YearMonth thisMonth, long thisMonthCount, long lastMonthCount) {
 		try {
 			double rate = calculateRate(thisMonthCount, lastMonthCount);
 
-			log.debug("[getMonthlyStatusWithChangeRate] thisMonthCount={}, lastMonthCount={}, rate={}",
+			log.debug("[toMonthlyStatus] thisMonthCount={}, lastMonthCount={}, rate={}",
 				thisMonthCount, lastMonthCount, rate);
 
-			return new MonthlyStatusDto(YearMonth.from(firstDayThisMon), thisMonthCount, rate);
+			return new MonthlyStatusDto(thisMonth, thisMonthCount, rate);
 		} catch (ArithmeticException e) {
-			log.warn("[getMonthlyStatusWithChangeRate] 0으로 나누기 감지");
-			return new MonthlyStatusDto(YearMonth.from(firstDayThisMon), -thisMonthCount, 0.0);
+			log.warn("[toMonthlyStatus] 0으로 나누기 감지");
+			return new MonthlyStatusDto(thisMonth, -thisMonthCount, 0.0);
 		}
-
 	}
 
 	/**
 	 * 월별 도로파손 누적 탐지 현황
 	 */
-	@Transactional(readOnly = true)
 	public List<MonthlyDamageSummaryDto> getMonthlyDamageSummary(String regionName) {
 		log.info("[getMonthlyDamageSummary] 호출됨, regionName={}", regionName);
 
 		// 1) 조회 기간 설정
-		LocalDateTime today = LocalDateTime.now();
-		LocalDateTime start = LocalDate
-			.of(today.getYear(), Month.JANUARY, 1)
-			.atStartOfDay();
+		LocalDate today = UtcClock.today();
+		LocalDate start = LocalDate.of(today.getYear(), Month.JANUARY, 1);
 		log.debug("[getMonthlyDamageSummary] 조회기간 start={} ~ end={}", start, today);
 
 		// 2) 실제 데이터가 있는 달만 조회
-		List<MonthlyDamageSummaryDto> rawList =
-			damageRepo.findMonthlyDamageSummary(regionName, start, today);
+		List<MonthlyDamageSummaryDto> rawList = toMonthlySummaries(regionName, YearMonth.from(start),
+			YearMonth.from(today));
 		log.debug("[getMonthlyDamageSummary] rawList.size={} → months={}",
 			rawList.size(),
 			rawList.stream().map(MonthlyDamageSummaryDto::getMonth).collect(Collectors.toList())
 		);
 
-		// 3) 조회된 DTO들을 YearMonth 키로 맵핑
+		return fillMonthlyGaps(rawList, YearMonth.of(today.getYear(), Month.JANUARY), YearMonth.from(today));
+	}
+
+	// 메모리 카운터의 월×유형 집계 중 [ymStart, ymEnd] 범위만 DTO 로 변환
+	private List<MonthlyDamageSummaryDto> toMonthlySummaries(String regionName, YearMonth ymStart,
+		YearMonth ymEnd) {
+		return new TreeMap<>(counters.countByMonthAndCategory(regionName)).entrySet().stream()
+			.filter(e -> !e.getKey().isBefore(ymStart) && !e.getKey().isAfter(ymEnd))
+			.map(e -> {
+				Map<String, Long> byCategory = e.getValue();
+				long total = byCategory.values().stream().mapToLong(Long::longValue).sum();
+				return new MonthlyDamageSummaryDto(e.getKey().getYear(), e.getKey().getMonthValue(),
+					byCategory.getOrDefault(CRACK, 0L), byCategory.getOrDefault(HOLE, 0L), total);
+			})
+			.toList();
+	}
+
+	// ymStart부터 ymEnd까지 순회하며, 데이터가 없는 달은 0으로 채운다
+	private List<MonthlyDamageSummaryDto> fillMonthlyGaps(List<MonthlyDamageSummaryDto> rawList,
+		YearMonth ymStart, YearMonth ymEnd) {
+		// 조회된 DTO들을 YearMonth 키로 맵핑
 		Map<YearMonth, MonthlyDamageSummaryDto> mapByMonth = rawList.stream()
 			.collect(Collectors.toMap(
 				MonthlyDamageSummaryDto::getMonth,
 				Function.identity()
 			));
 
-		// 4) 1월부터 현재월까지 순회하며, 없으면 0으로 채워서 fullList 구성
 		List<MonthlyDamageSummaryDto> fullList = new ArrayList<>();
-		YearMonth ymStart = YearMonth.of(today.getYear(), Month.JANUARY);
-		YearMonth ymEnd = YearMonth.from(today);
-
 		for (YearMonth ym = ymStart; !ym.isAfter(ymEnd); ym = ym.plusMonths(1)) {
 			if (mapByMonth.containsKey(ym)) {
 				MonthlyDamageSummaryDto dto = mapByMonth.get(ym);
@@ -221,60 +251,300 @@ public class DashboardService {
 			}
 		}
 
-		log.debug("[getMonthlyDamageSummary] 전체 summary 개수 = {}", fullList.size());
+		log.debug("[fillMonthlyGaps] 전체 summary 개수 = {}", fullList.size());
 		return fullList;
 	}
 
 	/**
 	 * 특정 광역시의 구 단위 파손 분포
 	 */
-	@Transactional(readOnly = true)
 	public RegionNameWithCountDto getDistrictDistribution(String cityName) {
 		log.info("[getDistrictDistribution] 호출됨, regionName={}", cityName);
 
-		log.info("[getDistrictDistribution] cityId : {}", regionRepo.findByRegionName(cityName).toString());
-		Integer cityId = regionRepo.findByRegionName(cityName).getId();
+		RegionScope city = regionHierarchy.resolve(cityName);
+		log.info("[getDistrictDistribution] cityId : {}", city.parentId());
 
-		List<RegionCountDto> list = damageRepo.countByCity(cityName);
+		List<RegionCountDto> list = toDistrictCounts(city).entrySet().stream()
+			.map(e -> new RegionCountDto(e.getKey(), e.getValue()[0]))
+			.toList();
 		log.debug("[getDistrictDistribution] 구 단위 분포 개수 = {}", list.size());
 
 		return RegionNameWithCountDto.builder()
-			.regionId(cityId)
+			.regionId(city.parentId())
 			.destrictions(list)
 			.build();
 	}
 
+	// 구별 [전체, 균열, 홀] — 파손이 없는 구도 0으로 포함
+	private Map<String, long[]> toDistrictCounts(RegionScope city) {
+		Map<String, long[]> byDistrict = new LinkedHashMap<>();
+		city.districts().values().forEach(name -> byDistrict.put(name, new long[3]));
+		counters.countByDistrictAndCategory(city.parentName()).forEach((district, byCategory) -> {
+			long[] counts = byDistrict.computeIfAbsent(district, k -> new long[3]);
+			counts[0] += byCategory.values().stream().mapToLong(Long::longValue).sum();
+			counts[1] += byCategory.getOrDefault(CRACK, 0L);
+			counts[2] += byCategory.getOrDefault(HOLE, 0L);
+		});
+		return byDistrict;
+	}
+
 	/**
 	 * 상위 3개 지역의 도로파손 통계
 	 */
-	@Transactional(readOnly = true)
 	public List<TopRegionDto> getTop3Regions(String regionName) {
 		log.info("[getTop3Regions] 호출됨, regionName={}", regionName);
-		List<TopRegionDto> list = damageRepo.findTopRegions(regionName, PageRequest.of(0, 3));
-		log.debug("[getTop3Regions] top regions 개수 = {}", list.size());
+		return getTopRegions(regionName, 3);
+	}
+
+	/**
+	 * 누적 파손 건수 상위 limit 개 구 (전체 건수 내림차순, 동률이면 이름순)
+	 * 메모리 카운터가 유지하는 구 순위에서 바로 꺼내므로 전체 구 정렬이 없다.
+	 * 순위에는 건수가 0인 구가 없으므로, 모자라면 기존처럼 파손이 없는 구를 이름순으로 0건으로 채운다.
+	 */
+	public List<TopRegionDto> getTopRegions(String regionName, int limit) {
+		List<TopRegionDto> list = new ArrayList<>(counters.topDistricts(regionName, limit).stream()
+			.map(d -> new TopRegionDto(d.regionName(), d.total(), d.count(CRACK), d.count(HOLE)))
+			.toList());
+		if (list.size() < limit) {
+			Set<String> ranked = list.stream().map(TopRegionDto::getRegionName).collect(Collectors.toSet());
+			regionHierarchy.resolve(regionName).districts().values().stream()
+				.filter(district -> !ranked.contains(district))
+				.sorted()
+				.limit(limit - list.size())
+				.forEach(district -> list.add(new TopRegionDto(district, 0L, 0L, 0L)));
+		}
+		log.debug("[getTopRegions] top regions 개수 = {}", list.size());
 		return list;
 	}
 
 	/**
-	 * 도로균열 기준별 심각도 현황
+	 * 도로균열 기준별 심각도 현황 (0~40 / 40~60 / 60~80 / 80~100)
 	 */
-	@Transactional(readOnly = true)
 	public RiskStatusDto getRiskStatus(String regionName) {
 		log.info("[getRiskStatus] 호출됨, regionName={}", regionName);
-		RiskStatusDto riskStatusDto = damageRepo.getRiskStatusByRegion(regionName);
+		long[] counts = toBandCounts(sumBins(riskHistograms.snapshot(regionName).values()), DEFAULT_RISK_BANDS);
+		RiskStatusDto riskStatusDto = new RiskStatusDto(counts[0], counts[1], counts[2], counts[3]);
 		log.debug("[getRiskStatus] riskStatusDto={}", riskStatusDto);
 		return riskStatusDto;
 	}
 
+	/**
+	 * 위험도 분포: 구간별 건수 + p50/p90/p99
+	 * 메모리 히스토그램(0.1 단위)에서 계산하므로 구간 경계도 0.1 단위로 맞춰진다.
+	 *
+	 * @param bands      구간 경계 (오름차순, 0~100). 비어 있으면 기본 심각도 구간
+	 * @param byDistrict true 면 구별 분포도 함께 (파손이 없는 구도 포함)
+	 * @throws IllegalArgumentException 경계가 2개 미만이거나 범위를 벗어나거나 오름차순이 아닌 경우
+	 */
+	public RiskDistributionDto getRiskDistribution(String regionName, List<Double> bands, boolean byDistrict) {
+		log.info("[getRiskDistribution] 호출됨, regionName={}, bands={}, byDistrict={}", regionName, bands, byDistrict);
+		List<Double> bounds = bands.isEmpty() ? DEFAULT_RISK_BANDS : bands;
+		validateRiskBands(bounds);
+
+		Map<String, long[]> binsByDistrict = new TreeMap<>(riskHistograms.snapshot(regionName));
+		List<RiskDistributionDto> districts = null;
+		if (byDistrict) {
+			regionHierarchy.resolve(regionName).districts().values()
+				.forEach(name -> binsByDistrict.putIfAbsent(name, new long[RiskHistogramRegistry.BINS]));
+			districts = binsByDistrict.entrySet().stream()
+				.map(e -> toRiskDistribution(e.getKey(), e.getValue(), bounds, null))
+				.toList();
+		}
+		return toRiskDistribution(null, sumBins(binsByDistrict.values()), bounds, districts);
+	}
+
+	private void validateRiskBands(List<Double> bounds) {
+		if (bounds.size() < 2) {
+			throw new IllegalArgumentException("위험도 구간 경계는 2개 이상이어야 합니다: " + bounds);
+		}
+		for (int i = 0; i < bounds.size(); i++) {
+			double bound = bounds.get(i);
+			if (bound < 0 || bound > RiskHistogramRegistry.MAX_RISK || (i > 0 && bound <= bounds.get(i - 1))) {
+				throw new IllegalArgumentException("위험도 구간 경계는 0~100 오름차순이어야 합니다: " + bounds);
+			}
+		}
+	}
+
+	private RiskDistributionDto toRiskDistribution(String name, long[] bins, List<Double> bounds,
+		List<RiskDistributionDto> districts) {
+		long[] counts = toBandCounts(bins, bounds);
+		List<RiskDistributionDto.Band> bandList = new ArrayList<>();
+		for (int i = 0; i < counts.length; i++) {
+			bandList.add(new RiskDistributionDto.Band(bounds.get(i), bounds.get(i + 1), counts[i]));
+		}
+		long total = Arrays.stream(bins).sum();
+		return new RiskDistributionDto(name, total,
+			percentile(bins, total, 0.50), percentile(bins, total, 0.90), percentile(bins, total, 0.99),
+			bandList, districts);
+	}
+
+	private long[] sumBins(Collection<long[]> histograms) {
+		long[] sum = new long[RiskHistogramRegistry.BINS];
+		histograms.forEach(bins -> {
+			for (int i = 0; i < sum.length; i++) {
+				sum[i] += bins[i];
+			}
+		});
+		return sum;
+	}
+
+	// 구간 [bounds[i], bounds[i+1]) 별 건수, 마지막 구간은 상한 포함
+	private long[] toBandCounts(long[] bins, List<Double> bounds) {
+		long[] counts = new long[bounds.size() - 1];
+		for (int i = 0; i < counts.length; i++) {
+			int from = (int)Math.round(bounds.get(i) * 10);
+			int to = i == counts.length - 1
+				? (int)Math.round(bounds.get(i + 1) * 10) + 1
+				: (int)Math.round(bounds.get(i + 1) * 10);
+			for (int bin = from; bin < Math.min(to, bins.length); bin++) {
+				counts[i] += bins[bin];
+			}
+		}
+		return counts;
+	}
+
+	// nearest-rank 백분위 (구간 하한값, 0.1 단위)
+	private Double percentile(long[] bins, long total, double q) {
+		if (total == 0) {
+			return null;
+		}
+		long rank = (long)Math.ceil(q * total);
+		long cumulative = 0;
+		for (int bin = 0; bin < bins.length; bin++) {
+			cumulative += bins[bin];
+			if (cumulative >= rank) {
+				return RiskHistogramRegistry.fromBin(bin);
+			}
+		}
+		return RiskHistogramRegistry.MAX_RISK;
+	}
+
 	/**
 	 * 도로파손 감지된 주소 개수
+	 * exact 가 true(기본)면 DB count(distinct) 결과 (버전 캐시 적용), false 면 HyperLogLog 근사치(O(1))
 	 */
-	@Transactional(readOnly = true)
-	public DistinctRegionCountDto getDistinctRegionCount(String regionName) {
-		log.info("[getDistinctRegionCount] 호출됨, regionName={}", regionName);
-		DistinctRegionCountDto distinctRegionCountDto = capturePointRepo.getDistinctRegionCountDto(regionName);
+	@Cacheable(cacheNames = "dashboard_region_count", condition = "#exact",
+		key = "#regionName + ':' + @dashboardCacheVersion.current(#regionName)")
+	public DistinctRegionCountDto getDistinctRegionCount(String regionName, boolean exact) {
+		log.info("[getDistinctRegionCount] 호출됨, regionName={}, exact={}", regionName, exact);
+		DistinctRegionCountDto distinctRegionCountDto = exact
+			? countDistinctAddresses(regionName)
+			: estimateDistinctAddresses(regionName);
 		log.info("[getDistinctRegionCount] 완료. regionName={}, count={}",
 			regionName, distinctRegionCountDto.getRegionCount());
 		return distinctRegionCountDto;
 	}
+
+	private DistinctRegionCountDto countDistinctAddresses(String regionName) {
+		return capturePointRepo.getDistinctRegionCountDto(regionHierarchy.resolve(regionName).districtIds());
+	}
+
+	// Redis 를 쓸 수 없거나 아직 초기 적재 중이면 정확한 DB 집계로 대신한다
+	private DistinctRegionCountDto estimateDistinctAddresses(String regionName) {
+		try {
+			OptionalLong estimate = addressSketch.count(regionName);
+			if (estimate.isPresent()) {
+				return new DistinctRegionCountDto(estimate.getAsLong());
+			}
+			log.debug("[estimateDistinctAddresses] HLL 초기 적재 중, DB 집계로 대체. regionName={}", regionName);
+			return countDistinctAddresses(regionName);
+		} catch (RuntimeException e) {
+			log.warn("[estimateDistinctAddresses] HLL 조회 실패, DB 집계로 대체. regionName={}", regionName, e);
+			return countDistinctAddresses(regionName);
+		}
+	}
+
+	/**
+	 * 기간 [from, to] 파손 건수 시계열
+	 * 일/주 구간은 일 단위, 월/분기 구간은 월 단위 메모리 집계로 묶고, 데이터가 없는 구간은 0으로 채운다.
+	 * 첫/마지막 구간이 기간 밖으로 걸치면 기간 안의 날짜만 센다.
+	 *
+	 * @param categories 파손 유형 필터 (비어 있으면 전체)
+	 * @param statuses   처리 상태 필터 (비어 있으면 전체)
+	 * @throws IllegalArgumentException 기간이 뒤집혔거나 최대 조회 기간을 넘는 경우
+	 */
+	public TimeSeriesDto getTimeSeries(String regionName, LocalDate from, LocalDate to, TimeBucket bucket,
+		Set<String> categories, Set<DamageStatus> statuses) {
+		log.info("[getTimeSeries] 호출됨, regionName={}, from={}, to={}, bucket={}, categories={}, statuses={}",
+			regionName, from, to, bucket, categories, statuses);
+		if (from.isAfter(to)) {
+			throw new IllegalArgumentException("조회 시작일이 종료일보다 늦습니다: " + from + " ~ " + to);
+		}
+		if (ChronoUnit.DAYS.between(from, to) >= MAX_SERIES_DAYS) {
+			throw new IllegalArgumentException("최대 조회 기간(" + MAX_SERIES_DAYS + "일)을 넘었습니다: " + from + " ~ " + to);
+		}
+
+		List<TimeSeriesDto.Point> points = new ArrayList<>();
+		if (bucket == TimeBucket.DAY || bucket == TimeBucket.WEEK) {
+			long[] daily = counters.dailyCounts(regionName, from, to, categories, statuses);
+			for (LocalDate start = bucket.floor(from); !start.isAfter(to); start = bucket.next(start)) {
+				int first = (int)Math.max(0, ChronoUnit.DAYS.between(from, start));
+				int last = (int)Math.min(daily.length - 1, ChronoUnit.DAYS.between(from, bucket.next(start)) - 1);
+				long count = 0;
+				for (int i = first; i <= last; i++) {
+					count += daily[i];
+				}
+				points.add(new TimeSeriesDto.Point(start, count));
+			}
+		} else {
+			// 월/분기 구간은 월 단위 집계로 세고, 기간에 걸친 첫/마지막 달만 날짜별로 더한다
+			for (LocalDate start = bucket.floor(from); !start.isAfter(to); start = bucket.next(start)) {
+				LocalDate first = start.isBefore(from) ? from : start;
+				LocalDate last = bucket.next(start).minusDays(1);
+				points.add(new TimeSeriesDto.Point(start, counters.countBetween(regionName, first,
+					last.isAfter(to) ? to : last, categories, statuses)));
+			}
+		}
+		log.debug("[getTimeSeries] 구간 개수 = {}", points.size());
+		return new TimeSeriesDto(bucket, from, to, points);
+	}
+
+	/**
+	 * 대시보드 전체 패널 요약
+	 * 주소 개수만 DB에서 정확히 세고, 나머지 패널은 메모리 카운터/위험도 히스토그램에서 계산한다.
+	 * 오늘 기준 값이 들어가므로 캐시 키에 날짜도 포함한다.
+	 */
+	@Cacheable(cacheNames = "dashboard_summary",
+		key = "#regionName + ':' + T(com.b201.api.util.UtcClock).today() + ':' + @dashboardCacheVersion.current(#regionName)")
+	public DashboardSummaryDto getDashboardSummary(String regionName) {
+		log.info("[getDashboardSummary] 호출됨, regionName={}", regionName);
+
+		LocalDate today = UtcClock.today();
+		LocalDate yesterday = today.minusDays(1);
+		LocalDate thisMon = today.with(DayOfWeek.MONDAY);
+		LocalDate lastMon = thisMon.minusWeeks(1);
+		LocalDate firstDayThisMon = today.withDayOfMonth(1);
+		LocalDate firstDayLastMon = firstDayThisMon.minusMonths(1);
+		YearMonth ymStart = YearMonth.of(today.getYear(), Month.JANUARY);
+
+		RegionScope city = regionHierarchy.resolve(regionName);
+		Map<String, long[]> byDistrict = toDistrictCounts(city);
+
+		DashboardSummaryDto summary = DashboardSummaryDto.builder()
+			.type(toCategoryCounts(counters.countByCategory(regionName)))
+			.daily(toDailyStatus(today,
+				counters.countBetween(regionName, today, today),
+				countBetween(regionName, yesterday, yesterday)))
+			.weekly(toWeeklyStatus(thisMon,
+				counters.countBetween(regionName, thisMon, today),
+				countBetween(regionName, lastMon, thisMon.minusDays(1))))
+			.monthly(toMonthlyStatus(YearMonth.from(firstDayThisMon),
+				counters.countBetween(regionName, firstDayThisMon, today),
+				countBetween(regionName, firstDayLastMon, firstDayThisMon.minusDays(1))))
+			.monthlySummary(fillMonthlyGaps(toMonthlySummaries(regionName, ymStart, YearMonth.from(today)),
+				ymStart, YearMonth.from(today)))
+			.districts(RegionNameWithCountDto.builder()
+				.regionId(city.parentId())
+				.destrictions(byDistrict.entrySet().stream()
+					.map(e -> new RegionCountDto(e.getKey(), e.getValue()[0]))
+					.toList())
+				.build())
+			.top3(getTopRegions(regionName, 3))
+			.risk(getRiskStatus(regionName))
+			.regionCount(countDistinctAddresses(regionName))
+			.build();
+
+		log.debug("[getDashboardSummary] 완료, regionName={}, districts={}", regionName, byDistrict.size());
+		return summary;
+	}
 }
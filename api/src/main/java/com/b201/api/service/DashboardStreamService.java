@@ -0,0 +1,226 @@
+package com.b201.api.service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.b201.api.dto.dashboard.DashboardDeltaDto;
+import com.b201.api.dto.dashboard.TopRegionDto;
+import com.b201.api.event.DamageRecordedEvent;
+import com.b201.api.event.DamageStatusChangedEvent;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대시보드 SSE 구독 관리 및 변경분 전송
+ * 커밋된 파손 저장/상태 변경 이벤트를 해당 광역시/도 구독자에게 한 번씩만 밀어준다.
+ * 다른 인스턴스에서 커밋된 이벤트도 ClusterEventRelay 가 트랜잭션 밖에서 다시 발행하므로(fallbackExecution) 함께 보낸다.
+ * 구독자마다 크기가 정해진 전송 대기열을 두고 가상 스레드에서 차례로 보내므로, 느린 클라이언트는 자기 전송만 늦어지고
+ * 저장 트랜잭션 스레드(Kafka 리스너 등)나 다른 구독자를 붙잡지 않는다. 대기열이 넘치면 그 구독은 끊는다. (EventSource 가 다시 연결)
+ */
+@Slf4j
+@Service
+public class DashboardStreamService {
+
+	private final DashboardService dashboardService;
+	private final long timeoutMillis;
+
+	// 구독자 한 명이 밀려 있을 수 있는 최대 이벤트 수
+	static final int QUEUE_CAPACITY = 256;
+
+	private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+	// 지역별 마지막으로 보낸 상위 3개 구 (바뀐 경우에만 TOP3 전송)
+	private final Map<String, List<TopRegionDto>> lastTop3 = new ConcurrentHashMap<>();
+	// 전송(emitter.send)은 느린 클라이언트에서 막힐 수 있으므로 구독자별 가상 스레드에서 한다
+	private final ExecutorService sender = Executors.newThreadPerTaskExecutor(
+		Thread.ofVirtual().name("dashboard-sse-", 0).factory());
+
+	public DashboardStreamService(DashboardService dashboardService,
+		@Value("${dashboard.stream.timeout-ms:1800000}") long timeoutMillis) {
+		this.dashboardService = dashboardService;
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	public SseEmitter subscribe(String regionName) {
+		log.info("[subscribe] 호출됨, regionName={}", regionName);
+		SseEmitter emitter = new SseEmitter(timeoutMillis);
+		Subscriber subscriber = new Subscriber(regionName, emitter);
+		subscribers.compute(regionName, (k, set) -> {
+			Set<Subscriber> next = set != null ? set : ConcurrentHashMap.newKeySet();
+			next.add(subscriber);
+			return next;
+		});
+
+		emitter.onCompletion(() -> remove(subscriber));
+		emitter.onTimeout(() -> remove(subscriber));
+		emitter.onError(e -> remove(subscriber));
+
+		// 연결 직후 한 번 보내야 프록시/브라우저가 스트림을 열린 것으로 본다
+		subscriber.offer(SseEmitter.event().name("connect").data("connected"));
+		return emitter;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onDamageRecorded(DamageRecordedEvent event) {
+		if (event.parentRegionName() == null) {
+			return;
+		}
+		publish(event.parentRegionName(), DashboardDeltaDto.builder()
+			.type(DashboardDeltaDto.Type.CATEGORY)
+			.regionName(event.regionName())
+			.categoryName(event.categoryName())
+			.day(event.day())
+			.toStatus(event.status())
+			.delta(1L)
+			.build());
+		publishTop3IfChanged(event.parentRegionName());
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onDamageStatusChanged(DamageStatusChangedEvent event) {
+		if (event.parentRegionName() == null) {
+			return;
+		}
+		publish(event.parentRegionName(), DashboardDeltaDto.builder()
+			.type(DashboardDeltaDto.Type.STATUS)
+			.regionName(event.regionName())
+			.categoryName(event.categoryName())
+			.day(event.day())
+			.fromStatus(event.oldStatus())
+			.toStatus(event.newStatus())
+			.build());
+	}
+
+	// 메모리 카운터는 이 리스너보다 먼저 갱신되므로 바로 새 순위를 계산할 수 있다
+	private void publishTop3IfChanged(String parentRegionName) {
+		if (!subscribers.containsKey(parentRegionName)) {
+			return;
+		}
+		List<TopRegionDto> top3 = dashboardService.getTop3Regions(parentRegionName);
+		List<String> names = top3.stream().map(TopRegionDto::getRegionName).toList();
+		List<TopRegionDto> previous = lastTop3.put(parentRegionName, top3);
+		if (previous != null && previous.stream().map(TopRegionDto::getRegionName).toList().equals(names)) {
+			return;
+		}
+		publish(parentRegionName, DashboardDeltaDto.builder()
+			.type(DashboardDeltaDto.Type.TOP3)
+			.top3(top3)
+			.build());
+	}
+
+	private void publish(String parentRegionName, DashboardDeltaDto delta) {
+		Set<Subscriber> targets = subscribers.get(parentRegionName);
+		if (targets == null) {
+			return;
+		}
+		log.debug("[publish] regionName={}, type={}, subscribers={}",
+			parentRegionName, delta.getType(), targets.size());
+		broadcast(targets, () -> SseEmitter.event().name(delta.getType().name()).data(delta));
+	}
+
+	// 끊긴 연결 정리 및 프록시 유휴 타임아웃 방지용 주기 전송
+	@Scheduled(fixedDelayString = "${dashboard.stream.heartbeat-ms:30000}")
+	public void heartbeat() {
+		subscribers.values().forEach(targets -> broadcast(targets, () -> SseEmitter.event().comment("ping")));
+	}
+
+	// SseEventBuilder 는 스레드 안전하지 않으므로 구독자마다 새로 만든다
+	private void broadcast(Set<Subscriber> targets, Supplier<SseEmitter.SseEventBuilder> event) {
+		targets.forEach(subscriber -> subscriber.offer(event.get()));
+	}
+
+	// 마지막 구독자가 빠지면 지역 키도 지워, 구독자 없는 지역의 TOP3 재계산을 멈춘다
+	private void remove(Subscriber subscriber) {
+		subscribers.computeIfPresent(subscriber.regionName, (k, set) -> {
+			set.remove(subscriber);
+			if (set.isEmpty()) {
+				lastTop3.remove(k);
+				return null;
+			}
+			return set;
+		});
+	}
+
+	int subscriberRegionCount() {
+		return subscribers.size();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		sender.shutdownNow();
+		subscribers.values().forEach(targets -> targets.forEach(subscriber -> subscriber.emitter.complete()));
+	}
+
+	/**
+	 * 구독 하나와 그 전송 대기열
+	 * 대기열에 넣을 때 전송 작업이 없으면 하나 띄우고, 작업은 대기열이 빌 때까지 순서대로 보낸다. (구독자당 작업 최대 1개)
+	 */
+	private final class Subscriber {
+
+		private final String regionName;
+		private final SseEmitter emitter;
+		private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+		private final AtomicBoolean draining = new AtomicBoolean();
+
+		Subscriber(String regionName, SseEmitter emitter) {
+			this.regionName = regionName;
+			this.emitter = emitter;
+		}
+
+		void offer(SseEmitter.SseEventBuilder event) {
+			if (!queue.offer(event)) {
+				log.warn("[offer] 전송 대기열 초과로 구독 종료, regionName={}", regionName);
+				remove(this);
+				emitter.complete();
+				return;
+			}
+			scheduleDrain();
+		}
+
+		private void scheduleDrain() {
+			if (draining.compareAndSet(false, true)) {
+				try {
+					sender.execute(this::drain);
+				} catch (RuntimeException e) {
+					// 종료 중(shutdownNow 이후)
+					draining.set(false);
+				}
+			}
+		}
+
+		private void drain() {
+			try {
+				SseEmitter.SseEventBuilder event;
+				while ((event = queue.poll()) != null) {
+					emitter.send(event);
+				}
+			} catch (IOException | IllegalStateException e) {
+				log.debug("[drain] 끊긴 구독 제거: {}", e.getMessage());
+				queue.clear();
+				remove(this);
+				return;
+			} finally {
+				draining.set(false);
+			}
+			// 마지막 poll 과 draining 해제 사이에 들어온 이벤트
+			if (!queue.isEmpty()) {
+				scheduleDrain();
+			}
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package com.b201.api.service;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.b201.api.util.GeoCell;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * geo_cell 이 비어 있는 기존 capture_point 를 기동 후 배치 단위로 채운다. (db/006 적용 직후 한 번 일하고, 이후에는 조회 한 번으로 끝난다)
+ * 값은 수집 시와 같은 GeoCell.encode 로 계산해야 하므로 SQL 이 아닌 애플리케이션에서 채운다.
+ * 다 채워지기 전까지 화면 범위 조회는 geo_cell is null 행을 함께 읽으므로 결과는 그대로다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GeoCellBackfillService {
+
+	private static final int BATCH_SIZE = 1000;
+	private static final String SELECT_SQL = """
+		select capture_point_id, ST_X(location) as x, ST_Y(location) as y
+		from capture_point
+			where geo_cell is null
+		limit ?
+		""";
+	private static final String UPDATE_SQL = "update capture_point set geo_cell = ? where capture_point_id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfill() {
+		int total = 0;
+		try {
+			List<Object[]> batch;
+			do {
+				batch = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new Object[] {
+					GeoCell.encode(rs.getDouble("x"), rs.getDouble("y")), rs.getInt("capture_point_id")
+				}, BATCH_SIZE);
+				if (!batch.isEmpty()) {
+					jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+					total += batch.size();
+				}
+			} while (batch.size() == BATCH_SIZE);
+		} catch (DataAccessException e) {
+			// 채우지 못한 행은 조회에 그대로 포함되므로 기록만 하고 다음 기동 때 이어서 채운다
+			log.error("[backfill] geo_cell 채우기 실패, 채운 행 = {}", total, e);
+			return;
+		}
+		if (total > 0) {
+			log.info("[backfill] geo_cell 채우기 완료, 행 = {}", total);
+		}
+	}
+}
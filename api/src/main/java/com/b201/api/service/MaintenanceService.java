@@ -1,16 +1,22 @@
 package com.b201.api.service;
 
-import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import com.b201.api.aggregate.CompletionWindowRegistry;
+import com.b201.api.aggregate.DamageCounterRegistry;
+import com.b201.api.aggregate.RepairTimeRegistry;
 import com.b201.api.dto.maintenance.CompletionStatsDto;
 import com.b201.api.dto.maintenance.MaintenanceStatusDto;
 import com.b201.api.dto.maintenance.MonthlyMaintenanceStatusDto;
 import com.b201.api.dto.maintenance.RegionMaintenanceStatusDto;
-import com.b201.api.repository.CaptureDamageRepository;
+import com.b201.api.dto.maintenance.RepairTimeStatsDto;
+import com.b201.api.util.RegionHierarchyCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,43 +26,62 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class MaintenanceService {
 
-	private final CaptureDamageRepository captureDamageRepository;
+	private final RegionHierarchyCache regionHierarchy;
+	private final DamageCounterRegistry counters;
+	private final RepairTimeRegistry repairTimes;
+	private final CompletionWindowRegistry completions;
 
-	@Transactional(readOnly = true)
 	public MaintenanceStatusDto getMaintenanceStatus(String regionName) {
 		log.info("[getMaintenanceStatus] 호출됨");
-		MaintenanceStatusDto status = captureDamageRepository.countByStauts(regionName);
+		MaintenanceStatusDto status = toStatusDto(counters.countByStatus(regionName));
 		log.debug("[getMaintenanceStatus] result = {}", status);
 		return status;
 	}
 
-	@Transactional(readOnly = true)
 	public CompletionStatsDto getCompletionStats(String regionName) {
 		log.info("[getCompletionStats] 호출됨");
-		LocalDateTime now = LocalDateTime.now();
-		CompletionStatsDto stats = captureDamageRepository.getCompletionStatsByPeriod(
-			regionName,
-			now.minusDays(1),
-			now.minusWeeks(1),
-			now.minusMonths(1)
-		);
+		CompletionStatsDto stats = completions.stats(regionName);
 		log.debug("[getCompletionStats] result = {}", stats);
 		return stats;
 	}
 
-	@Transactional(readOnly = true)
 	public List<MonthlyMaintenanceStatusDto> getMonthlyMaintenanceStatus(String regionName) {
 		log.info("[getMonthlyMaintenanceStatus] 호출됨");
-		List<MonthlyMaintenanceStatusDto> list = captureDamageRepository.getMonthlyMaintenanceStatsByPeriod(regionName);
+		Map<YearMonth, long[]> byMonth = new TreeMap<>(counters.countByMonthAndStatus(regionName));
+		List<MonthlyMaintenanceStatusDto> list = byMonth.entrySet().stream()
+			.filter(e -> e.getValue()[0] + e.getValue()[1] + e.getValue()[2] + e.getValue()[3] > 0)
+			.map(e -> new MonthlyMaintenanceStatusDto(e.getKey().getYear(), e.getKey().getMonthValue(),
+				e.getValue()[0], e.getValue()[1], e.getValue()[2], e.getValue()[3]))
+			.toList();
 		log.debug("[getMonthlyMaintenanceStatus] entries = {}", list.size());
 		return list;
 	}
 
-	@Transactional(readOnly = true)
 	public List<RegionMaintenanceStatusDto> getRegionMaintenanceStatus(String regionName) {
 		log.info("[getRegionMaintenanceStatus] 호출됨");
-		List<RegionMaintenanceStatusDto> list = captureDamageRepository.getRegionMaintenanceStatsByPeriod(regionName);
+		// 파손이 없는 구도 0으로 포함
+		Map<String, long[]> byDistrict = new LinkedHashMap<>();
+		regionHierarchy.resolve(regionName).districts().values()
+			.forEach(name -> byDistrict.put(name, new long[4]));
+		byDistrict.putAll(counters.countByDistrictAndStatus(regionName));
+
+		List<RegionMaintenanceStatusDto> list = byDistrict.entrySet().stream()
+			.map(e -> new RegionMaintenanceStatusDto(e.getKey(), toStatusDto(e.getValue())))
+			.toList();
 		log.debug("[getRegionMaintenanceStatus] entries = {}", list.size());
 		return list;
 	}
+
+	// 접수/공사 시작/완료까지 걸린 시간 분포 (MTTR)
+	public List<RepairTimeStatsDto> getRepairTimeStats(String regionName) {
+		log.info("[getRepairTimeStats] 호출됨");
+		List<RepairTimeStatsDto> list = repairTimes.stats(regionName);
+		log.debug("[getRepairTimeStats] result = {}", list);
+		return list;
+	}
+
+	// 상태 번호(DamageStatus.number) 순서의 건수 배열 → DTO
+	private MaintenanceStatusDto toStatusDto(long[] byStatus) {
+		return new MaintenanceStatusDto(byStatus[0], byStatus[1], byStatus[2], byStatus[3]);
+	}
 }
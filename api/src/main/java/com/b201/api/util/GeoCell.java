@@ -0,0 +1,112 @@
+package com.b201.api.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * 정수 지오해시 (capture_point.geo_cell)
+ * 경도/위도를 각각 26비트 격자 번호(약 0.6m)로 나눈 뒤 경도 비트부터 번갈아 섞은 52비트 값이다.
+ * 앞쪽 2d 비트가 같으면 같은 깊이 d 칸 안에 있으므로, 칸 하나는 연속된 정수 구간 하나가 되고
+ * 화면 범위는 B-tree 인덱스 구간 몇 개(cover)로 먼저 좁힌 뒤 정확한 좌표 검사를 하면 된다.
+ */
+public final class GeoCell {
+
+	public static final int BITS_PER_AXIS = 26;
+	// cover 가 돌려주는 구간 최대 개수 (findFeaturesInBox 의 between 자리 수)
+	public static final int MAX_RANGES = 4;
+	private static final long AXIS_CELLS = 1L << BITS_PER_AXIS;
+
+	private GeoCell() {
+	}
+
+	// 좌표(x: 경도, y: 위도)의 셀 값
+	public static long encode(double x, double y) {
+		return interleave(lonIndex(x), latIndex(y));
+	}
+
+	/**
+	 * 범위(x: 경도, y: 위도)를 덮는 셀 값 구간들 (최대 MAX_RANGES 개), 오름차순이고 이어지는 구간은 합친다.
+	 */
+	public static List<Range> cover(Envelope envelope) {
+		long minLon = lonIndex(envelope.getMinX());
+		long maxLon = lonIndex(envelope.getMaxX());
+		long minLat = latIndex(envelope.getMinY());
+		long maxLat = latIndex(envelope.getMaxY());
+
+		// shift = 26 - d, 칸 번호 = 격자 번호 >> shift
+		// 각 축으로 칸 2개 이내(구간 최대 4개)가 되는 가장 깊은 d 에서 시작해, 합친 구간 수가 MAX_RANGES 를 넘지 않는 한 더 깊이 내려간다
+		int shift = 0;
+		while ((maxLon >> shift) - (minLon >> shift) > 1 || (maxLat >> shift) - (minLat >> shift) > 1) {
+			shift++;
+		}
+		List<Range> ranges = ranges(minLon, maxLon, minLat, maxLat, shift);
+		while (shift > 0) {
+			List<Range> finer = ranges(minLon, maxLon, minLat, maxLat, shift - 1);
+			if (finer.size() > MAX_RANGES) {
+				break;
+			}
+			ranges = finer;
+			shift--;
+		}
+		return ranges;
+	}
+
+	private static List<Range> ranges(long minLon, long maxLon, long minLat, long maxLat, int shift) {
+		List<Range> ranges = new ArrayList<>();
+		for (long cellX = minLon >> shift; cellX <= maxLon >> shift; cellX++) {
+			for (long cellY = minLat >> shift; cellY <= maxLat >> shift; cellY++) {
+				long prefix = interleave(cellX, cellY);
+				ranges.add(new Range(prefix << (2 * shift), ((prefix + 1) << (2 * shift)) - 1));
+			}
+		}
+		ranges.sort(Comparator.comparingLong(Range::min));
+
+		List<Range> merged = new ArrayList<>(ranges.size());
+		for (Range range : ranges) {
+			Range last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+			if (last != null && last.max() + 1 == range.min()) {
+				merged.set(merged.size() - 1, new Range(last.min(), range.max()));
+			} else {
+				merged.add(range);
+			}
+		}
+		return merged;
+	}
+
+	private static long lonIndex(double longitude) {
+		return index((longitude + 180.0) / 360.0);
+	}
+
+	private static long latIndex(double latitude) {
+		return index((latitude + 90.0) / 180.0);
+	}
+
+	private static long index(double fraction) {
+		return Math.max(0, Math.min(AXIS_CELLS - 1, (long)Math.floor(fraction * AXIS_CELLS)));
+	}
+
+	// 경도 비트가 위, 위도 비트가 아래인 쌍으로 섞는다
+	private static long interleave(long lon, long lat) {
+		return (spread(lon) << 1) | spread(lat);
+	}
+
+	// 32비트 이하 값의 비트 사이에 0을 하나씩 끼운다
+	private static long spread(long value) {
+		long v = value & 0xffffffffL;
+		v = (v | (v << 16)) & 0x0000ffff0000ffffL;
+		v = (v | (v << 8)) & 0x00ff00ff00ff00ffL;
+		v = (v | (v << 4)) & 0x0f0f0f0f0f0f0f0fL;
+		v = (v | (v << 2)) & 0x3333333333333333L;
+		v = (v | (v << 1)) & 0x5555555555555555L;
+		return v;
+	}
+
+	/**
+	 * 셀 값 닫힌 구간 [min, max]
+	 */
+	public record Range(long min, long max) {
+	}
+}
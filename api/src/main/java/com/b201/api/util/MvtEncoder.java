@@ -0,0 +1,146 @@
+package com.b201.api.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mapbox Vector Tile(2.1) 포인트 레이어 인코더
+ * 포인트 feature 만 쓰므로 protobuf 라이브러리 없이 필요한 필드만 직접 직렬화한다.
+ * 속성 값은 String, Integer/Long, Double, Boolean 을 지원한다.
+ */
+public final class MvtEncoder {
+
+	public static final int DEFAULT_EXTENT = 4096;
+
+	// protobuf wire type
+	private static final int VARINT = 0;
+	private static final int FIXED64 = 1;
+	private static final int LENGTH_DELIMITED = 2;
+
+	private static final int GEOM_POINT = 1;
+	private static final int CMD_MOVE_TO = 1;
+
+	private MvtEncoder() {
+	}
+
+	public static byte[] encode(List<Layer> layers) {
+		ByteArrayOutputStream tile = new ByteArrayOutputStream();
+		for (Layer layer : layers) {
+			if (!layer.isEmpty()) {
+				writeBytes(tile, 3, layer.encode());
+			}
+		}
+		return tile.toByteArray();
+	}
+
+	/**
+	 * 레이어 하나 (이름, extent, 포인트 feature 목록)
+	 * 좌표는 타일 왼쪽 위가 (0, 0)인 extent 단위 정수이고, 범위 밖 포인트는 버린다.
+	 */
+	public static final class Layer {
+
+		private final String name;
+		private final int extent;
+		private final Map<String, Integer> keys = new LinkedHashMap<>();
+		private final Map<Object, Integer> values = new LinkedHashMap<>();
+		private final ByteArrayOutputStream features = new ByteArrayOutputStream();
+		private int featureCount;
+
+		public Layer(String name, int extent) {
+			this.name = name;
+			this.extent = extent;
+		}
+
+		public void addPoint(int x, int y, Map<String, ?> attributes) {
+			if (x < 0 || x >= extent || y < 0 || y >= extent) {
+				return;
+			}
+			ByteArrayOutputStream tags = new ByteArrayOutputStream();
+			attributes.forEach((key, value) -> {
+				if (value == null) {
+					return;
+				}
+				writeVarint(tags, keys.computeIfAbsent(key, k -> keys.size()));
+				writeVarint(tags, values.computeIfAbsent(value, v -> values.size()));
+			});
+
+			ByteArrayOutputStream geometry = new ByteArrayOutputStream();
+			writeVarint(geometry, (CMD_MOVE_TO & 0x7) | (1 << 3));
+			writeVarint(geometry, zigzag(x));
+			writeVarint(geometry, zigzag(y));
+
+			ByteArrayOutputStream feature = new ByteArrayOutputStream();
+			writeBytes(feature, 2, tags.toByteArray());
+			writeTag(feature, 3, VARINT);
+			writeVarint(feature, GEOM_POINT);
+			writeBytes(feature, 4, geometry.toByteArray());
+
+			writeBytes(features, 2, feature.toByteArray());
+			featureCount++;
+		}
+
+		public boolean isEmpty() {
+			return featureCount == 0;
+		}
+
+		private byte[] encode() {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			writeTag(out, 15, VARINT);
+			writeVarint(out, 2);
+			writeBytes(out, 1, name.getBytes(StandardCharsets.UTF_8));
+			out.writeBytes(features.toByteArray());
+			keys.keySet().forEach(key -> writeBytes(out, 3, key.getBytes(StandardCharsets.UTF_8)));
+			values.keySet().forEach(value -> writeBytes(out, 4, encodeValue(value)));
+			writeTag(out, 5, VARINT);
+			writeVarint(out, extent);
+			return out.toByteArray();
+		}
+	}
+
+	private static byte[] encodeValue(Object value) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		if (value instanceof String s) {
+			writeBytes(out, 1, s.getBytes(StandardCharsets.UTF_8));
+		} else if (value instanceof Double d) {
+			writeTag(out, 3, FIXED64);
+			long bits = Double.doubleToLongBits(d);
+			for (int i = 0; i < 8; i++) {
+				out.write((int)(bits >>> (8 * i)) & 0xff);
+			}
+		} else if (value instanceof Integer || value instanceof Long) {
+			writeTag(out, 6, VARINT);
+			writeVarint(out, zigzag(((Number)value).longValue()));
+		} else if (value instanceof Boolean b) {
+			writeTag(out, 7, VARINT);
+			writeVarint(out, b ? 1 : 0);
+		} else {
+			throw new IllegalArgumentException("지원하지 않는 속성 타입: " + value.getClass());
+		}
+		return out.toByteArray();
+	}
+
+	private static void writeBytes(ByteArrayOutputStream out, int field, byte[] bytes) {
+		writeTag(out, field, LENGTH_DELIMITED);
+		writeVarint(out, bytes.length);
+		out.writeBytes(bytes);
+	}
+
+	private static void writeTag(ByteArrayOutputStream out, int field, int wireType) {
+		writeVarint(out, ((long)field << 3) | wireType);
+	}
+
+	private static void writeVarint(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int)((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int)value);
+	}
+
+	private static long zigzag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+}
@@ -0,0 +1,92 @@
+package com.b201.api.util;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.b201.api.domain.Region;
+import com.b201.api.repository.RegionRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 광역시/도 → 소속 구 계층 메모리 캐시
+ * 사용자 지역명을 상위 지역 id 와 하위 구 id 목록으로 한 번에 풀어, 조회 쿼리가 region 조인 없이
+ * capture_point.region_id IN (...) 으로 걸러지도록 한다.
+ * region 테이블은 거의 바뀌지 않으므로 기동 시 적재 후 주기적으로(또는 refresh() 호출 시) 통째로 교체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegionHierarchyCache {
+
+	private final RegionRepository regionRepository;
+
+	private volatile Map<String, RegionScope> scopes = Map.of();
+
+	@PostConstruct
+	@Scheduled(
+		initialDelayString = "${region.hierarchy.refresh-interval-ms:600000}",
+		fixedDelayString = "${region.hierarchy.refresh-interval-ms:600000}"
+	)
+	public void refresh() {
+		List<Region> all = regionRepository.findAll();
+
+		Map<Integer, Map<Integer, String>> districtsByParent = new HashMap<>();
+		all.stream()
+			.filter(r -> r.getParentRegion() != null)
+			.sorted(Comparator.comparing(Region::getId))
+			.forEach(r -> districtsByParent
+				.computeIfAbsent(r.getParentRegion().getId(), k -> new LinkedHashMap<>())
+				.put(r.getId(), r.getRegionName()));
+
+		Map<String, RegionScope> next = new HashMap<>();
+		all.stream()
+			.filter(r -> r.getParentRegion() == null)
+			.forEach(p -> {
+				Map<Integer, String> districts = districtsByParent.getOrDefault(p.getId(), Map.of());
+				next.put(p.getRegionName(), new RegionScope(p.getId(), p.getRegionName(),
+					List.copyOf(districts.keySet()), Collections.unmodifiableMap(districts)));
+			});
+
+		scopes = next;
+		log.info("[refresh] 지역 계층 적재 완료, parents={}, regions={}", next.size(), all.size());
+	}
+
+	/**
+	 * 광역시/도 이름으로 계층을 찾는다. 없는 이름이면 하위 구가 없는 빈 범위를 돌려준다.
+	 */
+	public RegionScope resolve(String parentRegionName) {
+		RegionScope scope = scopes.get(parentRegionName);
+		if (scope == null) {
+			log.debug("[resolve] 등록되지 않은 지역명: {}", parentRegionName);
+			return RegionScope.empty(parentRegionName);
+		}
+		return scope;
+	}
+
+	/**
+	 * @param parentId    광역시/도 region_id (모르는 이름이면 null)
+	 * @param districtIds 소속 구 region_id 목록 (region_id 오름차순)
+	 * @param districts   구 region_id → 구 이름 (region_id 오름차순)
+	 */
+	public record RegionScope(Integer parentId, String parentName, List<Integer> districtIds,
+							  Map<Integer, String> districts) {
+
+		static RegionScope empty(String parentName) {
+			return new RegionScope(null, parentName, List.of(), Map.of());
+		}
+
+		public boolean isEmpty() {
+			return districtIds.isEmpty();
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package com.b201.api.util;
+
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * 웹 메르카토르(XYZ) 타일 좌표 계산
+ * 경도/위도와 줌 레벨 z 의 타일 번호(x, y)를 서로 변환한다. (y 는 북쪽이 0)
+ */
+public final class TileMath {
+
+	public static final int MAX_ZOOM = 22;
+	// 웹 메르카토르가 표현할 수 있는 위도 한계
+	private static final double MAX_LATITUDE = 85.05112878;
+
+	private TileMath() {
+	}
+
+	public static int tileX(double longitude, int zoom) {
+		return clamp((int)Math.floor(fractionalX(longitude, zoom)), 1 << zoom);
+	}
+
+	public static int tileY(double latitude, int zoom) {
+		return clamp((int)Math.floor(fractionalY(latitude, zoom)), 1 << zoom);
+	}
+
+	// 소수점까지의 타일 좌표 (정수부: 타일 번호, 소수부: 타일 안 위치)
+	public static double fractionalX(double longitude, int zoom) {
+		return (longitude + 180.0) / 360.0 * (1 << zoom);
+	}
+
+	public static double fractionalY(double latitude, int zoom) {
+		double lat = Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude)));
+		return (1 - Math.log(Math.tan(lat) + 1 / Math.cos(lat)) / Math.PI) / 2 * (1 << zoom);
+	}
+
+	// 타일 (z, x, y) 의 경도/위도 범위 (x: 경도, y: 위도)
+	public static Envelope tileEnvelope(int zoom, int x, int y) {
+		return new Envelope(longitude(x, zoom), longitude(x + 1, zoom), latitude(y + 1, zoom), latitude(y, zoom));
+	}
+
+	// 범위를 줌 레벨 z 의 타일 경계까지 바깥으로 넓힌다
+	public static Envelope snap(Envelope envelope, int zoom) {
+		int minX = tileX(envelope.getMinX(), zoom);
+		int maxX = tileX(envelope.getMaxX(), zoom);
+		int minY = tileY(envelope.getMaxY(), zoom);
+		int maxY = tileY(envelope.getMinY(), zoom);
+		return new Envelope(longitude(minX, zoom), longitude(maxX + 1, zoom),
+			latitude(maxY + 1, zoom), latitude(minY, zoom));
+	}
+
+	public static void checkZoom(int zoom) {
+		if (zoom < 0 || zoom > MAX_ZOOM) {
+			throw new IllegalArgumentException("zoom 은 0~" + MAX_ZOOM + " 사이여야 합니다: " + zoom);
+		}
+	}
+
+	public static void checkTile(int zoom, int x, int y) {
+		checkZoom(zoom);
+		int n = 1 << zoom;
+		if (x < 0 || x >= n || y < 0 || y >= n) {
+			throw new IllegalArgumentException("타일 번호가 범위를 벗어났습니다: " + zoom + "/" + x + "/" + y);
+		}
+	}
+
+	private static double longitude(int x, int zoom) {
+		return x / (double)(1 << zoom) * 360.0 - 180.0;
+	}
+
+	private static double latitude(int y, int zoom) {
+		double n = Math.PI - 2.0 * Math.PI * y / (1 << zoom);
+		return Math.toDegrees(Math.atan(Math.sinh(n)));
+	}
+
+	private static int clamp(int tile, int n) {
+		return Math.max(0, Math.min(n - 1, tile));
+	}
+}
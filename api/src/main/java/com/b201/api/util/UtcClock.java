@@ -0,0 +1,24 @@
+package com.b201.api.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 서버 공통 기준 시각 (UTC)
+ * capture_timestamp / created_at 이 UTC 로 들어오므로 날짜 경계(오늘, 지난 기간), 상태 변경 시각,
+ * 감사 시각(updated_at)도 모두 UTC 로 맞춘다. 배포 환경마다 다른 JVM 기본 시간대는 쓰지 않는다.
+ */
+public final class UtcClock {
+
+	private UtcClock() {
+	}
+
+	public static LocalDate today() {
+		return LocalDate.now(ZoneOffset.UTC);
+	}
+
+	public static LocalDateTime now() {
+		return LocalDateTime.now(ZoneOffset.UTC);
+	}
+}
@@ -0,0 +1,30 @@
+-- 대시보드 집계용 일 단위 롤업 테이블
+-- ddl-auto 가 none 이므로 배포 전에 운영 DB에 1회 직접 적용한다.
+CREATE TABLE IF NOT EXISTS damage_daily_rollup
+(
+    rollup_id        BIGINT      NOT NULL AUTO_INCREMENT,
+    parent_region_id INT         NOT NULL,
+    region_id        INT         NOT NULL,
+    category_id      INT         NOT NULL,
+    stat_date        DATE        NOT NULL,
+    status           VARCHAR(20) NOT NULL,
+    damage_count     BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (rollup_id),
+    UNIQUE KEY uk_damage_daily_rollup (parent_region_id, region_id, category_id, stat_date, status),
+    KEY idx_damage_daily_rollup_parent_date (parent_region_id, stat_date)
+);
+
+-- 기존 capture_damage 이력 백필 (이미 있는 키는 건너뛰므로 재실행해도 중복 집계되지 않음)
+INSERT IGNORE INTO damage_daily_rollup
+    (parent_region_id, region_id, category_id, stat_date, status, damage_count)
+SELECT r.parent_region_id,
+       r.region_id,
+       cd.category_id,
+       DATE(cp.capture_timestamp),
+       cd.status,
+       COUNT(*)
+FROM capture_damage cd
+         JOIN capture_point cp ON cp.capture_point_id = cd.capture_point_id
+         JOIN region r ON r.region_id = cp.region_id
+WHERE r.parent_region_id IS NOT NULL
+GROUP BY r.parent_region_id, r.region_id, cd.category_id, DATE(cp.capture_timestamp), cd.status;
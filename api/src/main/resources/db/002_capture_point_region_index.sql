@@ -0,0 +1,3 @@
+-- 지역 필터를 region 조인 대신 capture_point.region_id IN (...) 로 바꾸면서 필요한 인덱스
+-- region_id 에 FK 로 자동 생성된 인덱스가 이미 있다면(SHOW INDEX FROM capture_point) 적용하지 않아도 된다.
+CREATE INDEX idx_capture_point_region ON capture_point (region_id);
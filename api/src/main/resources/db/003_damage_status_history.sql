@@ -0,0 +1,14 @@
+-- 파손 상태 변경 이력 (추가 전용)
+-- ddl-auto 가 none 이므로 배포 전에 운영 DB에 1회 직접 적용한다.
+-- 기존 데이터는 변경 이력이 없으므로 백필하지 않는다. (적용 이후의 상태 변경부터 쌓인다)
+CREATE TABLE IF NOT EXISTS damage_status_history
+(
+    history_id  BIGINT      NOT NULL AUTO_INCREMENT,
+    damage_id   INT         NOT NULL,
+    from_status VARCHAR(20) NOT NULL,
+    to_status   VARCHAR(20) NOT NULL,
+    changed_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (history_id),
+    KEY idx_damage_status_history_damage (damage_id, changed_at),
+    CONSTRAINT fk_damage_status_history_damage FOREIGN KEY (damage_id) REFERENCES capture_damage (damage_id)
+);
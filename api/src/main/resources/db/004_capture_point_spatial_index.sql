@@ -0,0 +1,5 @@
+-- 지도 화면 범위(bbox) 조회(MBRContains)용 공간 인덱스
+-- MySQL 8 은 컬럼에 SRID 속성이 있어야 공간 인덱스를 사용한다. 좌표는 JTS 기본값(SRID 0)으로 저장되어 있다.
+-- SPATIAL 인덱스 컬럼은 NOT NULL 이어야 한다. (엔티티에서 이미 nullable = false)
+ALTER TABLE capture_point MODIFY location POINT NOT NULL SRID 0;
+CREATE SPATIAL INDEX idx_capture_point_location ON capture_point (location);
@@ -0,0 +1,17 @@
+-- 지도 증분 동기화(?since=)용 변경 번호
+-- capture_point 가 저장되거나 소속 파손 상태가 바뀔 때마다 change_sequence 에서 새 번호를 받아 change_seq 에 기록한다.
+CREATE TABLE change_sequence
+(
+    name      VARCHAR(50) NOT NULL PRIMARY KEY,
+    seq_value BIGINT      NOT NULL
+);
+
+ALTER TABLE capture_point ADD COLUMN change_seq BIGINT NULL;
+
+-- 기존 포인트는 id 순서대로 번호를 매기고, 시퀀스는 그 다음부터 시작
+UPDATE capture_point SET change_seq = capture_point_id;
+ALTER TABLE capture_point MODIFY change_seq BIGINT NOT NULL;
+INSERT INTO change_sequence (name, seq_value)
+SELECT 'capture_point', COALESCE(MAX(capture_point_id), 0) FROM capture_point;
+
+CREATE INDEX idx_capture_point_region_change_seq ON capture_point (region_id, change_seq);
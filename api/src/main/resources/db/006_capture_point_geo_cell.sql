@@ -0,0 +1,5 @@
+-- 화면 범위 조회의 인덱스 구간 필터용 정수 지오해시 (util/GeoCell, 경도/위도 26비트씩 섞은 52비트)
+-- 새 포인트는 수집 시 채우고, 기존 행은 애플리케이션 기동 후 GeoCellBackfillService 가 배치로 채운다.
+-- 채워지기 전의 NULL 행도 같은 인덱스로 읽으므로 적용 순서와 무관하게 조회 결과는 같다.
+ALTER TABLE capture_point ADD COLUMN geo_cell BIGINT NULL;
+CREATE INDEX idx_capture_point_geo_cell ON capture_point (geo_cell);
@@ -0,0 +1,11 @@
+-- 수집 중복 감지를 버리지 않고 기존 포인트의 재확인으로 기록한다 (AiResultService)
+-- last_seen_at: 마지막으로 다시 촬영된 시각(UTC), sighting_count: 처음 저장을 포함한 확인 횟수
+ALTER TABLE capture_point ADD COLUMN last_seen_at DATETIME NULL;
+ALTER TABLE capture_point ADD COLUMN sighting_count INT NOT NULL DEFAULT 1;
+
+-- 중복 확인 ~ 저장을 격자 칸 단위로 직렬화하기 위한 잠금 행 (OpenDamageSpatialIndex.lockCells)
+-- 수집 트랜잭션이 주변 칸 행을 insert ... on duplicate key update 로 잠그고 커밋/롤백 때 푼다.
+CREATE TABLE ingest_dedup_lock
+(
+    cell_key BIGINT NOT NULL PRIMARY KEY
+);
@@ -0,0 +1,76 @@
+package com.b201.api.aggregate;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+import com.b201.api.dto.point.ClusterPointRowDto;
+import com.b201.api.event.CapturePointRecordedEvent;
+import com.b201.api.event.DamageStatusChangedEvent;
+
+class CapturePointClusterIndexTest {
+
+	private static final String DAEJEON = "대전광역시";
+	private static final Envelope DAEJEON_BOX = new Envelope(127.2, 127.6, 36.2, 36.5);
+	private static final GeometryFactory GEOMETRY = new GeometryFactory();
+
+	private final CapturePointClusterIndex index = new CapturePointClusterIndex();
+
+	@Test
+	void 모든_줌의_칸_합은_포인트_수와_같다() {
+		for (int i = 0; i < 50; i++) {
+			index.onCapturePointRecorded(recorded("p" + i, 127.3 + i * 0.003, 36.3 + i * 0.002, 1));
+		}
+		index.onDamageStatusChanged(changed("p0", DamageStatus.REPORTED, DamageStatus.COMPLETED, 2L));
+
+		for (int zoom = 0; zoom < CapturePointClusterIndex.POINT_ZOOM; zoom++) {
+			List<CapturePointClusterIndex.Cluster> clusters = index.clusters(DAEJEON, DAEJEON_BOX, zoom);
+			assertThat(clusters.stream().mapToLong(CapturePointClusterIndex.Cluster::count).sum()).isEqualTo(50);
+			assertThat(clusters.stream().mapToLong(CapturePointClusterIndex.Cluster::openCount).sum())
+				.isEqualTo(49);
+		}
+	}
+
+	@Test
+	void 다시_채우는_동안의_이벤트는_스냅샷에_없을_때만_다시_적용한다() {
+		index.onCapturePointRecorded(recorded("a", 127.3, 36.3, 1));
+		index.onCapturePointRecorded(recorded("b", 127.4, 36.4, 1));
+
+		index.beginReload();
+		// 조회 전에 커밋됨 (스냅샷의 a 는 이미 완료, change_seq 5)
+		index.onDamageStatusChanged(changed("a", DamageStatus.REPORTED, DamageStatus.COMPLETED, 5L));
+		List<ClusterPointRowDto> snapshot = List.of(row("a", 127.3, 36.3, 0, 5L), row("b", 127.4, 36.4, 1, 3L));
+		// 조회 뒤에 커밋됨
+		index.onDamageStatusChanged(changed("b", DamageStatus.REPORTED, DamageStatus.COMPLETED, 6L));
+		index.onCapturePointRecorded(recorded("c", 127.5, 36.45, 2));
+		index.reload(snapshot);
+
+		List<CapturePointClusterIndex.Cluster> clusters = index.clusters(DAEJEON, DAEJEON_BOX, 0);
+		assertThat(clusters.stream().mapToLong(CapturePointClusterIndex.Cluster::count).sum()).isEqualTo(3);
+		assertThat(clusters.stream().mapToLong(CapturePointClusterIndex.Cluster::openCount).sum()).isEqualTo(2);
+	}
+
+	private static ClusterPointRowDto row(String publicId, double x, double y, long open, long changeSeq) {
+		return new ClusterPointRowDto(DAEJEON, publicId, GEOMETRY.createPoint(new Coordinate(x, y)), open,
+			changeSeq);
+	}
+
+	private static CapturePointRecordedEvent recorded(String publicId, double x, double y, long open) {
+		return new CapturePointRecordedEvent(publicId, DAEJEON, x, y, open, Set.of("도로균열"), LocalDateTime.now());
+	}
+
+	private static DamageStatusChangedEvent changed(String publicId, DamageStatus from, DamageStatus to,
+		long changeSeq) {
+		LocalDateTime now = LocalDateTime.now();
+		return new DamageStatusChangedEvent(1, publicId, 1, DAEJEON, 2, "유성구", 1, "도로균열", now.toLocalDate(),
+			from, to, now, now, changeSeq, 127.38, 36.35);
+	}
+}
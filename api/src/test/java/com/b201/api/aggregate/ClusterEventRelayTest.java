@@ -0,0 +1,98 @@
+package com.b201.api.aggregate;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+import com.b201.api.event.CapturePointRecordedEvent;
+import com.b201.api.event.DamageRecordedEvent;
+import com.b201.api.event.DamageStatusChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+class ClusterEventRelayTest {
+
+	private static final String DAEJEON = "대전광역시";
+
+	private final ObjectMapper objectMapper = new ObjectMapper()
+		.registerModule(new JavaTimeModule())
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+	private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+
+	private final ApplicationEventPublisher senderPublisher = mock(ApplicationEventPublisher.class);
+	private final ApplicationEventPublisher receiverPublisher = mock(ApplicationEventPublisher.class);
+	private final ClusterEventRelay sender = new ClusterEventRelay(redisTemplate, senderPublisher, objectMapper);
+	private final ClusterEventRelay receiver = new ClusterEventRelay(redisTemplate, receiverPublisher, objectMapper);
+
+	@Test
+	void 다른_인스턴스의_이벤트는_같은_값으로_다시_발행한다() {
+		DamageRecordedEvent recorded = new DamageRecordedEvent(1, 1, DAEJEON, 2, "유성구", 1, "도로균열",
+			LocalDate.of(2025, 5, 1), DamageStatus.REPORTED, "대전광역시 유성구 대학로 99", 42.3);
+		DamageStatusChangedEvent changed = new DamageStatusChangedEvent(1, "p-1", 1, DAEJEON, 2, "유성구", 1, "도로균열",
+			LocalDate.of(2025, 5, 1), DamageStatus.REPORTED, DamageStatus.COMPLETED,
+			LocalDateTime.of(2025, 5, 1, 9, 0), LocalDateTime.of(2025, 5, 3, 10, 30), 7L, 127.38, 36.35);
+		CapturePointRecordedEvent point = new CapturePointRecordedEvent("p-1", DAEJEON, 127.38, 36.35, 1,
+			Set.of("도로균열"), LocalDateTime.of(2025, 5, 1, 9, 0));
+
+		sender.onDamageRecorded(recorded);
+		sender.onDamageStatusChanged(changed);
+		sender.onCapturePointRecorded(point);
+		sent().forEach(body -> receiver.onMessage(message(body), null));
+
+		then(receiverPublisher).should().publishEvent(recorded);
+		then(receiverPublisher).should().publishEvent(changed);
+		then(receiverPublisher).should().publishEvent(point);
+	}
+
+	@Test
+	void 자기가_보낸_메시지는_다시_발행하지_않는다() {
+		sender.onCapturePointRecorded(new CapturePointRecordedEvent("p-1", DAEJEON, 127.38, 36.35, 0, Set.of(),
+			LocalDateTime.of(2025, 5, 1, 9, 0)));
+
+		sender.onMessage(message(sent().get(0)), null);
+
+		then(senderPublisher).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void 해석할_수_없는_메시지는_버린다() {
+		receiver.onMessage(message("{\"origin\":\"x\",\"type\":\"Unknown\",\"payload\":{}}"), null);
+		receiver.onMessage(message("not json"), null);
+
+		then(receiverPublisher).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void Redis_전송_실패는_호출자에게_번지지_않는다() {
+		willThrow(new IllegalStateException("redis down")).given(redisTemplate).convertAndSend(anyString(), anyString());
+
+		assertThatCode(() -> sender.onCapturePointRecorded(new CapturePointRecordedEvent("p-1", DAEJEON, 127.38,
+			36.35, 0, Set.of(), LocalDateTime.of(2025, 5, 1, 9, 0)))).doesNotThrowAnyException();
+	}
+
+	private List<String> sent() {
+		ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+		then(redisTemplate).should(atLeastOnce()).convertAndSend(eq(ClusterEventRelay.CHANNEL), body.capture());
+		return body.getAllValues();
+	}
+
+	private static DefaultMessage message(String body) {
+		return new DefaultMessage(ClusterEventRelay.CHANNEL.getBytes(StandardCharsets.UTF_8),
+			body.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,97 @@
+package com.b201.api.aggregate;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+import com.b201.api.dto.maintenance.CompletionRowDto;
+import com.b201.api.event.DamageStatusChangedEvent;
+import com.b201.api.util.UtcClock;
+
+class CompletionWindowRegistryTest {
+
+	private static final String DAEJEON = "대전광역시";
+
+	private final CompletionWindowRegistry registry = new CompletionWindowRegistry();
+
+	@Test
+	void 완료_이벤트는_최근_창에_모두_잡힌다() {
+		registry.onDamageStatusChanged(completed(1, UtcClock.now()));
+		registry.onDamageStatusChanged(completed(2, UtcClock.now().minusDays(3)));
+
+		assertThat(registry.stats(DAEJEON).getDaily()).isEqualTo(1);
+		assertThat(registry.stats(DAEJEON).getWeekly()).isEqualTo(2);
+		assertThat(registry.stats(DAEJEON).getMonthly()).isEqualTo(2);
+	}
+
+	@Test
+	void 다시_채우는_동안_커밋된_완료는_잃지_않고_두_번_세지도_않는다() {
+		LocalDateTime now = UtcClock.now();
+		registry.onDamageStatusChanged(completed(1, now.minusHours(2)));
+
+		registry.beginReload();
+		// 조회 전에 커밋되어 스냅샷에도 들어간 완료
+		registry.onDamageStatusChanged(completed(2, now.minusHours(1)));
+		List<CompletionRowDto> snapshot = List.of(
+			new CompletionRowDto(DAEJEON, 1, now.minusHours(2)),
+			new CompletionRowDto(DAEJEON, 2, now.minusHours(1)));
+		// 조회 뒤, 교체 전에 커밋된 완료
+		registry.onDamageStatusChanged(completed(3, now));
+		registry.reload(snapshot);
+
+		assertThat(registry.stats(DAEJEON).getDaily()).isEqualTo(3);
+	}
+
+	@Test
+	void 완료를_되돌리면_올렸던_칸을_내린다() {
+		LocalDateTime now = UtcClock.now();
+		registry.onDamageStatusChanged(completed(1, now.minusDays(3)));
+		registry.onDamageStatusChanged(completed(2, now));
+
+		registry.onDamageStatusChanged(reopened(1, now));
+
+		assertThat(registry.stats(DAEJEON).getDaily()).isEqualTo(1);
+		assertThat(registry.stats(DAEJEON).getMonthly()).isEqualTo(1);
+	}
+
+	@Test
+	void 다시_채우는_동안의_되돌림도_새_버퍼에_반영된다() {
+		LocalDateTime now = UtcClock.now();
+		registry.beginReload();
+		registry.onDamageStatusChanged(reopened(1, now));
+		// 조회 뒤 다시 완료
+		registry.onDamageStatusChanged(completed(2, now));
+		registry.onDamageStatusChanged(reopened(2, now));
+		registry.reload(List.of(
+			new CompletionRowDto(DAEJEON, 1, now.minusHours(5)),
+			new CompletionRowDto(DAEJEON, 3, now.minusHours(5))));
+
+		assertThat(registry.stats(DAEJEON).getDaily()).isEqualTo(1);
+	}
+
+	@Test
+	void 스냅샷에_없는_지역은_비운다() {
+		registry.onDamageStatusChanged(completed(1, UtcClock.now()));
+
+		registry.beginReload();
+		registry.reload(List.of());
+
+		assertThat(registry.stats(DAEJEON).getDaily()).isZero();
+	}
+
+	private static DamageStatusChangedEvent reopened(int damageId, LocalDateTime changedAt) {
+		return new DamageStatusChangedEvent(damageId, "p" + damageId, 1, DAEJEON, 2, "유성구", 1, "도로균열",
+			changedAt.toLocalDate(), DamageStatus.COMPLETED, DamageStatus.IN_PROGRESS, changedAt.minusDays(1),
+			changedAt, (long)damageId, 127.38, 36.35);
+	}
+
+	private static DamageStatusChangedEvent completed(int damageId, LocalDateTime changedAt) {
+		return new DamageStatusChangedEvent(damageId, "p" + damageId, 1, DAEJEON, 2, "유성구", 1, "도로균열",
+			changedAt.toLocalDate(), DamageStatus.IN_PROGRESS, DamageStatus.COMPLETED, changedAt.minusDays(1),
+			changedAt, (long)damageId, 127.38, 36.35);
+	}
+}
@@ -0,0 +1,105 @@
+package com.b201.api.aggregate;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+import com.b201.api.dto.dashboard.DamageCounterRowDto;
+import com.b201.api.repository.CaptureDamageRepository;
+import com.b201.api.repository.CapturePointRepository;
+import com.b201.api.repository.DamageDailyRollupRepository;
+import com.b201.api.repository.DamageStatusHistoryRepository;
+import com.b201.api.service.DamageRollupService;
+
+@ExtendWith(MockitoExtension.class)
+class DamageCounterReconcilerTest {
+
+	private static final String DAEJEON = "대전광역시";
+	private static final String SEJONG = "세종특별자치시";
+
+	@Mock
+	private DamageCounterRegistry registry;
+	@Mock
+	private DamageDailyRollupRepository rollupRepo;
+	@Mock
+	private CaptureDamageRepository damageRepo;
+	@Mock
+	private RiskHistogramRegistry riskHistograms;
+	@Mock
+	private RepairTimeRegistry repairTimes;
+	@Mock
+	private DamageStatusHistoryRepository historyRepo;
+	@Mock
+	private CompletionWindowRegistry completions;
+	@Mock
+	private CapturePointClusterIndex clusters;
+	@Mock
+	private OpenCapturePointIndex openPoints;
+	@Mock
+	private CapturePointRepository capturePointRepo;
+	@Mock
+	private OpenDamageSpatialIndex openDamages;
+	@Mock
+	private DashboardCacheVersion cacheVersion;
+	@Mock
+	private DamageRollupService rollupService;
+
+	@InjectMocks
+	private DamageCounterReconciler reconciler;
+
+	@Test
+	void 보정된_지역만_대시보드_캐시_버전을_올린다() {
+		given(registry.reconcile(anyList())).willReturn(Set.of(DAEJEON));
+		given(riskHistograms.reconcile(anyList())).willReturn(Set.of(DAEJEON, SEJONG));
+
+		reconciler.reconcile();
+
+		then(cacheVersion).should().bump(DAEJEON);
+		then(cacheVersion).should().bump(SEJONG);
+		then(cacheVersion).shouldHaveNoMoreInteractions();
+	}
+
+	@Test
+	void 어긋난_셀이_없으면_버전을_올리지_않는다() {
+		given(registry.reconcile(anyList())).willReturn(Set.of());
+		given(riskHistograms.reconcile(anyList())).willReturn(Set.of());
+
+		reconciler.reconcile();
+
+		then(cacheVersion).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void 원본과_어긋난_날짜의_롤업만_다시_만든다() {
+		LocalDate day = LocalDate.of(2025, 5, 1);
+		given(damageRepo.findCounterRows()).willReturn(List.of(
+			row("유성구", DamageStatus.REPORTED, day, 3),
+			row("유성구", DamageStatus.REPORTED, day.plusDays(1), 2)));
+		// 첫날은 한 건이 빠졌고, 둘째 날은 0건 행이 남아 있어도 합이 같다
+		given(rollupRepo.findCounterRows()).willReturn(List.of(
+			row("유성구", DamageStatus.REPORTED, day, 2),
+			row("유성구", DamageStatus.REPORTED, day.plusDays(1), 2),
+			row("유성구", DamageStatus.RECEIVED, day.plusDays(1), 0)));
+		given(registry.reconcile(anyList())).willReturn(Set.of());
+		given(riskHistograms.reconcile(anyList())).willReturn(Set.of());
+
+		reconciler.reconcile();
+
+		then(rollupService).should().rebuildDay(day);
+		then(rollupService).shouldHaveNoMoreInteractions();
+	}
+
+	private static DamageCounterRowDto row(String regionName, DamageStatus status, LocalDate day, long count) {
+		return new DamageCounterRowDto(DAEJEON, regionName, "도로균열", status, day, count);
+	}
+}
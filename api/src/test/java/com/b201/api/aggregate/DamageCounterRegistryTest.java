@@ -0,0 +1,135 @@
+package com.b201.api.aggregate;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+import com.b201.api.dto.dashboard.DamageCounterRowDto;
+import com.b201.api.event.DamageRecordedEvent;
+import com.b201.api.event.DamageStatusChangedEvent;
+
+class DamageCounterRegistryTest {
+
+	private static final String DAEJEON = "대전광역시";
+	private static final LocalDate DAY = LocalDate.of(2025, 5, 1);
+
+	private final DamageCounterRegistry registry = new DamageCounterRegistry();
+
+	@Test
+	void 저장_이벤트는_모든_보조_집계에_반영된다() {
+		registry.onDamageRecorded(recorded("유성구", "도로균열", DAY));
+		registry.onDamageRecorded(recorded("유성구", "도로 홀", DAY));
+		registry.onDamageRecorded(recorded("서구", "도로균열", DAY.plusDays(1)));
+
+		assertThat(registry.countBetween(DAEJEON, DAY, DAY.plusDays(1))).isEqualTo(3);
+		assertThat(registry.countByCategory(DAEJEON)).containsEntry("도로균열", 2L).containsEntry("도로 홀", 1L);
+		assertThat(registry.countByMonthAndCategory(DAEJEON).get(YearMonth.of(2025, 5)))
+			.containsEntry("도로균열", 2L);
+		assertThat(registry.countByStatus(DAEJEON)[DamageStatus.REPORTED.getNumber()]).isEqualTo(3);
+		assertThat(registry.dailyCounts(DAEJEON, DAY, DAY.plusDays(1), Set.of("도로균열"), Set.of()))
+			.containsExactly(1, 1);
+		assertThat(registry.topDistricts(DAEJEON, 3)).extracting(DistrictCount::regionName)
+			.containsExactly("유성구", "서구");
+	}
+
+	@Test
+	void 상태_변경은_이전_상태에서_새_상태로_옮긴다() {
+		registry.onDamageRecorded(recorded("유성구", "도로균열", DAY));
+		registry.onDamageStatusChanged(changed("유성구", "도로균열", DamageStatus.REPORTED, DamageStatus.COMPLETED));
+
+		long[] byStatus = registry.countByStatus(DAEJEON);
+		assertThat(byStatus[DamageStatus.REPORTED.getNumber()]).isZero();
+		assertThat(byStatus[DamageStatus.COMPLETED.getNumber()]).isEqualTo(1);
+		assertThat(registry.countBetween(DAEJEON, DAY, DAY)).isEqualTo(1);
+	}
+
+	@Test
+	void 기동_적재는_차이를_바로_반영한다() {
+		int loaded = registry.load(List.of(row("유성구", DamageStatus.REPORTED, 5)));
+
+		assertThat(loaded).isEqualTo(1);
+		assertThat(registry.countBetween(DAEJEON, DAY, DAY)).isEqualTo(5);
+	}
+
+	@Test
+	void 주기_보정은_같은_차이가_두_번_연속일_때만_고친다() {
+		registry.load(List.of(row("유성구", DamageStatus.REPORTED, 5)));
+		registry.add(key("유성구", DamageStatus.REPORTED), 2);   // 실제로 어긋난 값 (DB 는 5)
+
+		assertThat(registry.reconcile(List.of(row("유성구", DamageStatus.REPORTED, 5)))).isEmpty();
+		assertThat(registry.count(key("유성구", DamageStatus.REPORTED))).isEqualTo(7);
+
+		assertThat(registry.reconcile(List.of(row("유성구", DamageStatus.REPORTED, 5)))).containsExactly(DAEJEON);
+		assertThat(registry.count(key("유성구", DamageStatus.REPORTED))).isEqualTo(5);
+	}
+
+	@Test
+	void 스냅샷_뒤에_커밋된_이벤트는_되돌리지_않는다() {
+		registry.load(List.of(row("유성구", DamageStatus.REPORTED, 5)));
+
+		// DB 스냅샷(5건)을 읽은 뒤 비교 전에 새 파손 커밋 이벤트가 먼저 반영된 경우
+		registry.onDamageRecorded(recorded("유성구", "도로균열", DAY));
+		registry.reconcile(List.of(row("유성구", DamageStatus.REPORTED, 5)));
+		// 다음 보정 때는 DB 에도 6건
+		registry.reconcile(List.of(row("유성구", DamageStatus.REPORTED, 6)));
+
+		assertThat(registry.count(key("유성구", DamageStatus.REPORTED))).isEqualTo(6);
+	}
+
+	@Test
+	void DB에_없는_칸은_두_번_확인_후_0으로_맞춘다() {
+		registry.add(key("서구", DamageStatus.RECEIVED), 3);
+
+		registry.reconcile(List.of());
+		registry.reconcile(List.of());
+
+		assertThat(registry.count(key("서구", DamageStatus.RECEIVED))).isZero();
+		assertThat(registry.topDistricts(DAEJEON, 3)).isEmpty();
+	}
+
+	@Test
+	void 월_단위_구간_합은_일별_합과_같다() {
+		LocalDate start = LocalDate.of(2025, 3, 20);
+		for (int i = 0; i < 120; i += 3) {
+			registry.onDamageRecorded(recorded(i % 2 == 0 ? "유성구" : "서구", i % 5 == 0 ? "도로 홀" : "도로균열",
+				start.plusDays(i)));
+		}
+		registry.onDamageStatusChanged(changed("유성구", "도로균열", DamageStatus.REPORTED, DamageStatus.COMPLETED));
+
+		LocalDate from = LocalDate.of(2025, 3, 25);
+		LocalDate to = LocalDate.of(2025, 7, 3);
+		for (Set<String> categories : List.of(Set.<String>of(), Set.of("도로균열"))) {
+			for (Set<DamageStatus> statuses : List.of(Set.<DamageStatus>of(), Set.of(DamageStatus.REPORTED))) {
+				long expected = Arrays.stream(
+					registry.dailyCounts(DAEJEON, from, to, categories, statuses)).sum();
+				assertThat(registry.countBetween(DAEJEON, from, to, categories, statuses)).isEqualTo(expected);
+			}
+		}
+	}
+
+	private static DamageCounterKey key(String district, DamageStatus status) {
+		return new DamageCounterKey(DAEJEON, district, "도로균열", status, DAY);
+	}
+
+	private static DamageCounterRowDto row(String district, DamageStatus status, long count) {
+		return new DamageCounterRowDto(DAEJEON, district, "도로균열", status, DAY, count);
+	}
+
+	private static DamageRecordedEvent recorded(String district, String category, LocalDate day) {
+		return new DamageRecordedEvent(1, 1, DAEJEON, 2, district, 1, category, day, DamageStatus.REPORTED,
+			"대전광역시 " + district, 50.0);
+	}
+
+	private static DamageStatusChangedEvent changed(String district, String category, DamageStatus from,
+		DamageStatus to) {
+		return new DamageStatusChangedEvent(1, "p1", 1, DAEJEON, 2, district, 1, category, DAY, from, to,
+			DAY.atStartOfDay(), DAY.atStartOfDay().plusHours(1), 1L, 127.38, 36.35);
+	}
+}
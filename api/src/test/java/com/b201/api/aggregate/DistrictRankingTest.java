@@ -0,0 +1,60 @@
+package com.b201.api.aggregate;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class DistrictRankingTest {
+
+	private final DistrictRanking ranking = new DistrictRanking();
+
+	@Test
+	void 건수_내림차순_같으면_이름순() {
+		ranking.add("유성구", "도로균열", 2);
+		ranking.add("서구", "도로 홀", 3);
+		ranking.add("동구", "도로균열", 2);
+
+		assertThat(ranking.top(3)).extracting(DistrictCount::regionName).containsExactly("서구", "동구", "유성구");
+		assertThat(ranking.top(1).get(0).count("도로 홀")).isEqualTo(3);
+	}
+
+	@Test
+	void 건수가_바뀐_구만_자리를_옮기고_0건이면_빠진다() {
+		ranking.add("유성구", "도로균열", 1);
+		ranking.add("서구", "도로균열", 2);
+
+		ranking.add("유성구", "도로 홀", 5);
+		assertThat(ranking.top(2)).extracting(DistrictCount::regionName).containsExactly("유성구", "서구");
+
+		ranking.add("서구", "도로균열", -2);
+		assertThat(ranking.top(3)).extracting(DistrictCount::regionName).containsExactly("유성구");
+	}
+
+	@Test
+	void 임의의_증감_뒤에도_전체_정렬과_같다() {
+		Random random = new Random(7);
+		List<String> districts = List.of("유성구", "서구", "동구", "중구", "대덕구");
+		Map<String, Long> totals = new HashMap<>();
+		for (int i = 0; i < 2_000; i++) {
+			String district = districts.get(random.nextInt(districts.size()));
+			long delta = totals.getOrDefault(district, 0L) > 0 && random.nextInt(3) == 0 ? -1 : 1;
+			ranking.add(district, random.nextBoolean() ? "도로균열" : "도로 홀", delta);
+			totals.merge(district, delta, Long::sum);
+		}
+
+		List<String> expected = totals.entrySet().stream()
+			.filter(e -> e.getValue() > 0)
+			.sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+			.map(Map.Entry::getKey)
+			.limit(3)
+			.toList();
+		assertThat(ranking.top(3)).extracting(DistrictCount::regionName).containsExactlyElementsOf(expected);
+		assertThat(ranking.top(3)).allSatisfy(count ->
+			assertThat(count.total()).isEqualTo(count.byCategory().values().stream().mapToLong(Long::longValue).sum()));
+	}
+}
@@ -0,0 +1,34 @@
+package com.b201.api.aggregate;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class DriftConfirmationTest {
+
+	private final DriftConfirmation<String> drift = new DriftConfirmation<>();
+
+	@Test
+	void 연속_두_번_같은_차이만_보정한다() {
+		assertThat(drift.confirm("a", 2)).isFalse();
+		assertThat(drift.confirm("b", 1)).isFalse();
+		assertThat(drift.finish()).isEqualTo(2);
+
+		assertThat(drift.confirm("a", 2)).isTrue();
+		// 차이가 달라졌으면 다시 기다린다
+		assertThat(drift.confirm("b", 3)).isFalse();
+		assertThat(drift.finish()).isEqualTo(1);
+
+		assertThat(drift.confirm("b", 3)).isTrue();
+	}
+
+	@Test
+	void 한_번_건너뛴_차이는_처음부터_다시_본다() {
+		drift.confirm("a", 2);
+		drift.finish();
+		// 이번 보정에서는 차이가 없었다 (이벤트가 DB 에도 반영됨)
+		drift.finish();
+
+		assertThat(drift.confirm("a", 2)).isFalse();
+	}
+}
@@ -0,0 +1,52 @@
+package com.b201.api.aggregate;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class DurationHistogramTest {
+
+	@Test
+	void 백분위는_정확한_값보다_크지_않고_상대_오차_안이다() {
+		Random random = new Random(9);
+		DurationHistogram histogram = new DurationHistogram();
+		long[] samples = new long[5_000];
+		long sum = 0;
+		for (int i = 0; i < samples.length; i++) {
+			// 몇 분부터 수십 일까지 로그 스케일로 퍼진 값
+			samples[i] = (long)Math.exp(random.nextDouble() * 11);
+			histogram.record(samples[i]);
+			sum += samples[i];
+		}
+		Arrays.sort(samples);
+
+		assertThat(histogram.count()).isEqualTo(samples.length);
+		assertThat(histogram.meanMinutes()).isCloseTo((double)sum / samples.length, within(1e-9));
+		for (double q : new double[] {0.01, 0.5, 0.9, 0.99, 1.0}) {
+			long exact = samples[(int)Math.ceil(q * samples.length) - 1];
+			long estimate = histogram.percentileMinutes(q);
+			assertThat(estimate).isLessThanOrEqualTo(exact);
+			assertThat((double)(exact - estimate)).isLessThanOrEqualTo(exact * 0.125);
+		}
+	}
+
+	@Test
+	void 칸의_하한은_그_칸에_들어간다() {
+		for (long minutes = 0; minutes < 1_000_000; minutes = minutes < 64 ? minutes + 1 : minutes * 9 / 8) {
+			int index = DurationHistogram.indexOf(minutes);
+			assertThat(DurationHistogram.lowerBound(index)).isLessThanOrEqualTo(minutes);
+			assertThat(DurationHistogram.indexOf(DurationHistogram.lowerBound(index))).isEqualTo(index);
+		}
+	}
+
+	@Test
+	void 비어_있으면_값이_없다() {
+		DurationHistogram histogram = new DurationHistogram();
+
+		assertThat(histogram.meanMinutes()).isNull();
+		assertThat(histogram.percentileMinutes(0.5)).isNull();
+	}
+}
@@ -0,0 +1,161 @@
+package com.b201.api.aggregate;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+import com.b201.api.dto.point.ClusterPointRowDto;
+import com.b201.api.event.CapturePointRecordedEvent;
+import com.b201.api.event.DamageStatusChangedEvent;
+
+/**
+ * 반경/최근접 조회를 전체 포인트 전수 비교와 맞춰 본다. (트리 밖 대기/닫힘 상태와 재생성 이후 모두)
+ */
+class OpenCapturePointIndexTest {
+
+	private static final String DAEJEON = "대전광역시";
+	private static final double METERS_PER_DEGREE = 111_320.0;
+	private static final GeometryFactory GEOMETRY = new GeometryFactory();
+
+	private final OpenCapturePointIndex index = new OpenCapturePointIndex();
+	private final Random random = new Random(5);
+	// 전수 비교용 포인트 상태 (publicId → 좌표, 미완료 건수)
+	private final Map<String, Point> points = new LinkedHashMap<>();
+
+	@Test
+	void 적재_직후_조회는_전수_비교와_같다() {
+		index.reload(initialRows(400));
+
+		assertMatchesBruteForce(referenceY());
+	}
+
+	@Test
+	void 추가와_완료가_쌓여_재생성된_뒤에도_전수_비교와_같다() {
+		index.reload(initialRows(400));
+		double referenceY = referenceY();
+
+		for (int step = 0; step < 300; step++) {
+			int action = random.nextInt(3);
+			if (action == 0) {
+				String publicId = "new" + step;
+				Point point = new Point(randomX(), randomY(), 1 + random.nextInt(2));
+				points.put(publicId, point);
+				index.onCapturePointRecorded(new CapturePointRecordedEvent(publicId, DAEJEON, point.x, point.y,
+					point.open, Set.of("도로균열"), LocalDateTime.now()));
+			} else {
+				String publicId = new ArrayList<>(points.keySet()).get(random.nextInt(points.size()));
+				Point point = points.get(publicId);
+				boolean close = action == 1 && point.open > 0;
+				point.open += close ? -1 : 1;
+				index.onDamageStatusChanged(changed(publicId, close ? DamageStatus.REPORTED : DamageStatus.COMPLETED,
+					close ? DamageStatus.COMPLETED : DamageStatus.RECEIVED));
+			}
+			if (step % 25 == 0) {
+				assertMatchesBruteForce(referenceY);
+			}
+		}
+		assertMatchesBruteForce(referenceY);
+	}
+
+	@Test
+	void 다른_지역은_비어_있다() {
+		index.reload(initialRows(10));
+
+		assertThat(index.within("세종특별자치시", 127.38, 36.35, 10_000)).isEmpty();
+		assertThat(index.nearest("세종특별자치시", 127.38, 36.35, 3)).isEmpty();
+	}
+
+	private void assertMatchesBruteForce(double referenceY) {
+		for (int i = 0; i < 30; i++) {
+			double x = randomX();
+			double y = randomY();
+			double radius = 50 + random.nextDouble() * 3_000;
+			int k = 1 + random.nextInt(20);
+
+			List<Expected> open = points.entrySet().stream()
+				.filter(entry -> entry.getValue().open > 0)
+				.map(entry -> new Expected(entry.getKey(), entry.getValue().open,
+					distance(referenceY, x, y, entry.getValue())))
+				.sorted(Comparator.comparingDouble(Expected::meters))
+				.toList();
+
+			List<OpenCapturePointIndex.Nearby> within = index.within(DAEJEON, x, y, radius);
+			assertThat(within).extracting(OpenCapturePointIndex.Nearby::publicId)
+				.containsExactlyElementsOf(open.stream()
+					.filter(expected -> expected.meters() <= radius)
+					.map(Expected::publicId)
+					.toList());
+
+			List<OpenCapturePointIndex.Nearby> nearest = index.nearest(DAEJEON, x, y, k);
+			List<Expected> expectedNearest = open.subList(0, Math.min(k, open.size()));
+			assertThat(nearest).hasSameSizeAs(expectedNearest);
+			for (int j = 0; j < nearest.size(); j++) {
+				assertThat(nearest.get(j).distanceMeters()).isCloseTo(expectedNearest.get(j).meters(), within(1e-6));
+				assertThat(nearest.get(j).openDamages()).isEqualTo(points.get(nearest.get(j).publicId()).open);
+			}
+		}
+	}
+
+	private List<ClusterPointRowDto> initialRows(int count) {
+		List<ClusterPointRowDto> rows = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Point point = new Point(randomX(), randomY(), random.nextInt(3));
+			points.put("p" + i, point);
+			rows.add(new ClusterPointRowDto(DAEJEON, "p" + i, GEOMETRY.createPoint(new Coordinate(point.x, point.y)),
+				point.open, i + 1L));
+		}
+		return rows;
+	}
+
+	// 적재 시 지역 기준 위도는 포인트 위도 평균이다
+	private double referenceY() {
+		return points.values().stream().mapToDouble(point -> point.y).average().orElse(0);
+	}
+
+	private static double distance(double referenceY, double x, double y, Point point) {
+		double dx = (point.x - x) * METERS_PER_DEGREE * Math.cos(Math.toRadians(referenceY));
+		double dy = (point.y - y) * METERS_PER_DEGREE;
+		return Math.sqrt(dx * dx + dy * dy);
+	}
+
+	private double randomX() {
+		return 127.30 + random.nextDouble() * 0.15;
+	}
+
+	private double randomY() {
+		return 36.28 + random.nextDouble() * 0.12;
+	}
+
+	private static DamageStatusChangedEvent changed(String publicId, DamageStatus from, DamageStatus to) {
+		LocalDateTime now = LocalDateTime.now();
+		return new DamageStatusChangedEvent(1, publicId, 1, DAEJEON, 2, "유성구", 1, "도로균열", now.toLocalDate(),
+			from, to, now, now, 1L, 127.38, 36.35);
+	}
+
+	private static final class Point {
+		final double x;
+		final double y;
+		long open;
+
+		Point(double x, double y, long open) {
+			this.x = x;
+			this.y = y;
+			this.open = open;
+		}
+	}
+
+	private record Expected(String publicId, long open, double meters) {
+	}
+}
@@ -0,0 +1,111 @@
+package com.b201.api.aggregate;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+import com.b201.api.dto.point.CapturePointLocationView;
+import com.b201.api.dto.point.OpenDamageRowDto;
+import com.b201.api.event.CapturePointRecordedEvent;
+import com.b201.api.event.DamageStatusChangedEvent;
+
+class OpenDamageSpatialIndexTest {
+
+	private static final double METERS_PER_DEGREE = 111_320.0;
+	private static final String DAEJEON = "대전광역시";
+	private static final GeometryFactory GEOMETRY = new GeometryFactory();
+
+	private final OpenDamageSpatialIndex index = new OpenDamageSpatialIndex(5, 30);
+
+	@Test
+	void 반경_안의_두_감지는_잠금_칸을_공유한다() {
+		Random random = new Random(7);
+		for (int i = 0; i < 10_000; i++) {
+			double x = 126 + random.nextDouble() * 3;
+			double y = 33 + random.nextDouble() * 5;
+			// 반경(5m) 안의 임의 방향 위치
+			double meters = random.nextDouble() * 5;
+			double angle = random.nextDouble() * 2 * Math.PI;
+			double otherX = x + meters * Math.cos(angle) / (METERS_PER_DEGREE * Math.cos(Math.toRadians(y)));
+			double otherY = y + meters * Math.sin(angle) / METERS_PER_DEGREE;
+
+			Set<Long> shared = new HashSet<>(index.lockCells(x, y));
+			shared.retainAll(index.lockCells(otherX, otherY));
+			assertThat(shared).isNotEmpty();
+		}
+	}
+
+	@Test
+	void 다시_채우는_동안_커밋된_완료는_새_격자에도_반영된다() {
+		LocalDateTime capturedAt = LocalDateTime.of(2025, 3, 1, 9, 0);
+		index.onCapturePointRecorded(new CapturePointRecordedEvent("p1", DAEJEON, 127.38, 36.35, 1,
+			Set.of("도로균열"), capturedAt));
+
+		index.beginReload();
+		// 스냅샷 조회 뒤에 커밋된 완료 (스냅샷에는 아직 열려 있다)
+		index.onDamageStatusChanged(completed("p1"));
+		// 스냅샷 조회 뒤에 저장된 포인트
+		index.onCapturePointRecorded(new CapturePointRecordedEvent("p2", DAEJEON, 127.39, 36.36, 1,
+			Set.of("포트홀"), capturedAt));
+		index.reload(List.of(new OpenDamageRowDto("p1", GEOMETRY.createPoint(new Coordinate(127.38, 36.35)),
+			"도로균열", capturedAt)));
+
+		assertThat(index.findNearby(127.38, 36.35, "도로균열", capturedAt)).isEmpty();
+		assertThat(index.findNearby(127.39, 36.36, "포트홀", capturedAt)).contains("p2");
+	}
+
+	@Test
+	void 잠금_칸은_오름차순이다() {
+		List<Long> cells = index.lockCells(-0.00001, 36.35);
+		assertThat(cells).isSorted().doesNotHaveDuplicates();
+	}
+
+	@Test
+	void 후보_중_반경_안의_가장_가까운_포인트를_고른다() {
+		double x = 127.38;
+		double y = 36.35;
+		double meterX = 1 / (METERS_PER_DEGREE * Math.cos(Math.toRadians(y)));
+		List<CapturePointLocationView> candidates = List.of(
+			location("far", x + 6 * meterX, y),
+			location("near", x + 2 * meterX, y),
+			location("mid", x, y + 4 / METERS_PER_DEGREE));
+
+		assertThat(index.nearestWithin(x, y, candidates)).contains("near");
+		assertThat(index.nearestWithin(x, y, List.of(candidates.get(0)))).isEmpty();
+		assertThat(index.searchBox(x, y).contains(x + 4.9 * meterX, y - 4.9 / METERS_PER_DEGREE)).isTrue();
+	}
+
+	private static DamageStatusChangedEvent completed(String publicId) {
+		LocalDateTime now = LocalDateTime.now();
+		return new DamageStatusChangedEvent(1, publicId, 1, DAEJEON, 2, "유성구", 1, "도로균열", now.toLocalDate(),
+			DamageStatus.REPORTED, DamageStatus.COMPLETED, now, now, 1L, 127.38, 36.35);
+	}
+
+	private static CapturePointLocationView location(String publicId, double x, double y) {
+		return new CapturePointLocationView() {
+			@Override
+			public String getPublicId() {
+				return publicId;
+			}
+
+			@Override
+			public double getX() {
+				return x;
+			}
+
+			@Override
+			public double getY() {
+				return y;
+			}
+		};
+	}
+}
@@ -0,0 +1,64 @@
+package com.b201.api.aggregate;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+import com.b201.api.dto.maintenance.RepairTimeRowDto;
+import com.b201.api.dto.maintenance.RepairTimeStatsDto;
+import com.b201.api.dto.maintenance.RepairTimeStatsDto.Stage;
+import com.b201.api.event.DamageStatusChangedEvent;
+
+class RepairTimeRegistryTest {
+
+	private static final String DAEJEON = "대전광역시";
+	private static final LocalDateTime CREATED = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+	private final RepairTimeRegistry registry = new RepairTimeRegistry();
+
+	@Test
+	void 다시_채우는_동안의_변경은_스냅샷에_없을_때만_다시_기록한다() {
+		registry.onDamageStatusChanged(changed(1, DamageStatus.RECEIVED, CREATED.plusMinutes(10)));
+
+		registry.beginReload();
+		// 조회 전에 커밋되어 스냅샷에 들어간 변경 (DB 는 초 단위로 잘린다)
+		registry.onDamageStatusChanged(changed(2, DamageStatus.RECEIVED, CREATED.plusMinutes(20).plusNanos(400_000_000)));
+		// 조회 뒤에 커밋되어 스냅샷에 없는 변경
+		registry.onDamageStatusChanged(changed(3, DamageStatus.RECEIVED, CREATED.plusMinutes(30)));
+		registry.reload(List.of(
+			new RepairTimeRowDto(DAEJEON, 1, DamageStatus.RECEIVED, CREATED, CREATED.plusMinutes(10)),
+			new RepairTimeRowDto(DAEJEON, 2, DamageStatus.RECEIVED, CREATED, CREATED.plusMinutes(20))));
+
+		assertThat(stage(Stage.RECEIVE).getCount()).isEqualTo(3);
+
+		// 교체 뒤의 변경은 새 분포에 바로 들어간다
+		registry.onDamageStatusChanged(changed(1, DamageStatus.COMPLETED, CREATED.plusDays(2)));
+		assertThat(stage(Stage.COMPLETE).getCount()).isEqualTo(1);
+	}
+
+	@Test
+	void 다시_채우면_이전_값은_버린다() {
+		registry.onDamageStatusChanged(changed(1, DamageStatus.RECEIVED, CREATED.plusMinutes(10)));
+
+		registry.beginReload();
+		registry.reload(List.of());
+
+		assertThat(stage(Stage.RECEIVE).getCount()).isZero();
+	}
+
+	private RepairTimeStatsDto stage(Stage stage) {
+		return registry.stats(DAEJEON).stream()
+			.filter(stats -> stats.getStage() == stage)
+			.findFirst()
+			.orElseThrow();
+	}
+
+	private static DamageStatusChangedEvent changed(int damageId, DamageStatus to, LocalDateTime changedAt) {
+		return new DamageStatusChangedEvent(damageId, "p" + damageId, 1, DAEJEON, 2, "유성구", 1, "도로균열",
+			CREATED.toLocalDate(), DamageStatus.REPORTED, to, CREATED, changedAt, 1L, 127.38, 36.35);
+	}
+}
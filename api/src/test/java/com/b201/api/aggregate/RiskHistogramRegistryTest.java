@@ -0,0 +1,63 @@
+package com.b201.api.aggregate;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+import com.b201.api.dto.dashboard.RiskBinRowDto;
+import com.b201.api.event.DamageRecordedEvent;
+
+class RiskHistogramRegistryTest {
+
+	private static final String DAEJEON = "대전광역시";
+
+	private final RiskHistogramRegistry registry = new RiskHistogramRegistry();
+
+	@Test
+	void 저장_이벤트는_위험도_구간에_쌓인다() {
+		registry.onDamageRecorded(recorded(42.37));
+		registry.onDamageRecorded(recorded(100.0));
+
+		long[] bins = registry.snapshot(DAEJEON).get("유성구");
+		assertThat(bins[RiskHistogramRegistry.toBin(42.37)]).isEqualTo(1);
+		assertThat(bins[RiskHistogramRegistry.BINS - 1]).isEqualTo(1);
+	}
+
+	@Test
+	void 기동_적재는_차이를_바로_반영한다() {
+		assertThat(registry.load(List.of(new RiskBinRowDto(DAEJEON, "유성구", 423, 3)))).isEqualTo(1);
+
+		assertThat(registry.snapshot(DAEJEON).get("유성구")[423]).isEqualTo(3);
+	}
+
+	@Test
+	void 스냅샷_뒤에_커밋된_이벤트는_되돌리지_않는다() {
+		registry.load(List.of(new RiskBinRowDto(DAEJEON, "유성구", 423, 1)));
+		// DB 조회(1건) 뒤에 커밋된 저장 이벤트가 메모리에 먼저 반영된 경우
+		List<RiskBinRowDto> staleSnapshot = List.of(new RiskBinRowDto(DAEJEON, "유성구", 423, 1));
+		registry.onDamageRecorded(recorded(42.3));
+
+		assertThat(registry.reconcile(staleSnapshot)).isEmpty();
+		assertThat(registry.reconcile(List.of(new RiskBinRowDto(DAEJEON, "유성구", 423, 2)))).isEmpty();
+		assertThat(registry.snapshot(DAEJEON).get("유성구")[423]).isEqualTo(2);
+	}
+
+	@Test
+	void 같은_차이가_두_번_연속이면_보정한다() {
+		registry.onDamageRecorded(recorded(10.0));
+		List<RiskBinRowDto> rows = List.of();
+
+		assertThat(registry.reconcile(rows)).isEmpty();
+		assertThat(registry.reconcile(rows)).containsExactly(DAEJEON);
+		assertThat(registry.snapshot(DAEJEON).get("유성구")[100]).isZero();
+	}
+
+	private static DamageRecordedEvent recorded(double risk) {
+		return new DamageRecordedEvent(1, 1, DAEJEON, 2, "유성구", 1, "도로균열", LocalDate.of(2025, 5, 1),
+			DamageStatus.REPORTED, "대전광역시 유성구", risk);
+	}
+}
@@ -0,0 +1,143 @@
+package com.b201.api.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.b201.api.dto.AddressDto;
+import com.b201.api.dto.point.CapturePointResponseDto;
+import com.b201.api.dto.point.FeatureDto;
+import com.b201.api.dto.point.GeometryDto;
+import com.b201.api.dto.point.PropertiesDto;
+
+/**
+ * 클래스 문서의 형식대로 다시 읽어 원래 feature 목록과 같은지 확인한다.
+ */
+class CapturePointBinaryMessageConverterTest {
+
+	private static final double COORDINATE_SCALE = 1e7;
+
+	@Test
+	void 인코딩한_목록을_그대로_복원한다() throws IOException {
+		Random random = new Random(11);
+		List<String> streets = List.of("대전광역시 유성구 대학로 99", "대전광역시 서구 둔산로 100",
+			"세종특별자치시 한누리대로 2130");
+		List<FeatureDto> features = new ArrayList<>();
+		for (int i = 0; i < 37; i++) {
+			String street = i % 5 == 0 ? null : streets.get(random.nextInt(streets.size()));
+			Double accuracy = i % 3 == 0 ? null : (double)random.nextInt(200) / 8;
+			features.add(feature(36 + random.nextDouble(), 127 + random.nextDouble(), random.nextBoolean() ? 1 : 0,
+				street, accuracy));
+		}
+		CapturePointResponseDto body = CapturePointResponseDto.builder().features(features).cursor(12345L).build();
+
+		Decoded decoded = decode(CapturePointBinaryMessageConverter.encode(body));
+
+		assertThat(decoded.cursor()).isEqualTo(12345L);
+		assertThat(decoded.features()).hasSameSizeAs(features);
+		for (int i = 0; i < features.size(); i++) {
+			FeatureDto expected = features.get(i);
+			FeatureDto actual = decoded.features().get(i);
+			assertThat(actual.getGeometry().getCoordinates())
+				.containsExactly(expected.getGeometry().getCoordinates(), within(1 / COORDINATE_SCALE));
+			assertThat(actual.getProperties()).isEqualTo(expected.getProperties());
+		}
+	}
+
+	@Test
+	void 커서가_없고_비어_있는_목록() throws IOException {
+		CapturePointResponseDto body = CapturePointResponseDto.builder().features(List.of()).build();
+
+		Decoded decoded = decode(CapturePointBinaryMessageConverter.encode(body));
+
+		assertThat(decoded.cursor()).isNull();
+		assertThat(decoded.features()).isEmpty();
+	}
+
+	private static FeatureDto feature(double first, double second, int display, String street, Double accuracy) {
+		return FeatureDto.builder()
+			.geometry(GeometryDto.builder().coordinates(new double[] {first, second}).build())
+			.properties(new PropertiesDto(UUID.randomUUID().toString(), display,
+				street != null ? new AddressDto(street) : null, accuracy))
+			.build();
+	}
+
+	private static Decoded decode(byte[] bytes) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+		byte[] magic = new byte[4];
+		in.readFully(magic);
+		assertThat(new String(magic, StandardCharsets.US_ASCII)).isEqualTo("YMRP");
+		assertThat(in.readUnsignedByte()).isEqualTo(1);
+		int flags = in.readUnsignedByte();
+		Long cursor = (flags & 1) != 0 ? in.readLong() : null;
+		int n = in.readInt();
+
+		double[][] coordinates = new double[n][2];
+		for (int axis = 0; axis < 2; axis++) {
+			for (int i = 0; i < n; i++) {
+				coordinates[i][axis] = in.readInt() / COORDINATE_SCALE;
+			}
+		}
+		byte[] display = new byte[(n + 7) / 8];
+		byte[] hasAccuracy = new byte[(n + 7) / 8];
+		in.readFully(display);
+		in.readFully(hasAccuracy);
+		Double[] accuracy = new Double[n];
+		for (int i = 0; i < n; i++) {
+			if (bit(hasAccuracy, i)) {
+				accuracy[i] = (double)in.readFloat();
+			}
+		}
+		String[] publicIds = new String[n];
+		for (int i = 0; i < n; i++) {
+			publicIds[i] = new UUID(in.readLong(), in.readLong()).toString();
+		}
+		int dictionarySize = readVarint(in);
+		List<String> dictionary = new ArrayList<>();
+		for (int i = 0; i < dictionarySize; i++) {
+			byte[] utf8 = new byte[readVarint(in)];
+			in.readFully(utf8);
+			dictionary.add(new String(utf8, StandardCharsets.UTF_8));
+		}
+
+		List<FeatureDto> features = new ArrayList<>();
+		for (int i = 0; i < n; i++) {
+			int addressIndex = readVarint(in);
+			String street = addressIndex == 0 ? null : dictionary.get(addressIndex - 1);
+			features.add(FeatureDto.builder()
+				.geometry(GeometryDto.builder().coordinates(coordinates[i]).build())
+				.properties(new PropertiesDto(publicIds[i], bit(display, i) ? 1 : 0,
+					street != null ? new AddressDto(street) : null, accuracy[i]))
+				.build());
+		}
+		assertThat(in.read()).as("남은 바이트 없음").isEqualTo(-1);
+		return new Decoded(cursor, features);
+	}
+
+	private static boolean bit(byte[] bits, int i) {
+		return (bits[i >> 3] & (1 << (i & 7))) != 0;
+	}
+
+	private static int readVarint(DataInputStream in) throws IOException {
+		int value = 0;
+		for (int shift = 0; ; shift += 7) {
+			int b = in.readUnsignedByte();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+	}
+
+	private record Decoded(Long cursor, List<FeatureDto> features) {
+	}
+}
@@ -0,0 +1,34 @@
+package com.b201.api.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.JwtException;
+
+class JwtUtilTest {
+
+	private final JwtUtil jwtUtil = new JwtUtil(properties());
+
+	@Test
+	void SSE_토큰은_스트림_인증에만_쓸_수_있다() {
+		String streamToken = jwtUtil.generateStreamToken("user1");
+
+		assertThat(jwtUtil.getUsernameFromStreamToken(streamToken)).isEqualTo("user1");
+		assertThatThrownBy(() -> jwtUtil.getUsernameFromToken(streamToken)).isInstanceOf(JwtException.class);
+	}
+
+	@Test
+	void 일반_토큰은_쿼리_파라미터로_스트림에_쓸_수_없다() {
+		String accessToken = jwtUtil.generateAccessToken("user1");
+
+		assertThat(jwtUtil.getUsernameFromToken(accessToken)).isEqualTo("user1");
+		assertThatThrownBy(() -> jwtUtil.getUsernameFromStreamToken(accessToken)).isInstanceOf(JwtException.class);
+	}
+
+	private static JwtProperties properties() {
+		JwtProperties properties = new JwtProperties();
+		properties.setSecret("test-secret-test-secret-test-secret-0123456789");
+		return properties;
+	}
+}
@@ -0,0 +1,325 @@
+package com.b201.api.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.b201.api.aggregate.CapturePointClusterIndex;
+import com.b201.api.aggregate.OpenCapturePointIndex;
+import com.b201.api.domain.ChangeSequence;
+import com.b201.api.dto.AddressDto;
+import com.b201.api.dto.point.CapturePointFeatureRowDto;
+import com.b201.api.dto.point.CapturePointFeatureView;
+import com.b201.api.dto.point.CapturePointResponseDto;
+import com.b201.api.dto.point.FeatureDto;
+import com.b201.api.dto.point.GeometryDto;
+import com.b201.api.dto.point.PropertiesDto;
+import com.b201.api.repository.CapturePointRepository;
+import com.b201.api.repository.ChangeSequenceRepository;
+import com.b201.api.util.RegionHierarchyCache;
+import com.b201.api.util.RegionHierarchyCache.RegionScope;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 지역별 feature 캐시(findAllFeatures)의 cursor 비교와 변경분 병합을 Redis/DB 없이 확인한다.
+ */
+class CapturePointServiceTest {
+
+	private static final String DAEJEON = "대전광역시";
+	private static final List<Integer> DISTRICT_IDS = List.of(2, 3);
+	private static final String VERIFIED_KEY = "capture_points:verified:" + DAEJEON;
+	private static final GeometryFactory GEOMETRY = new GeometryFactory();
+
+	private final CapturePointRepository capturePointRepository = mock(CapturePointRepository.class);
+	private final RegionHierarchyCache regionHierarchy = mock(RegionHierarchyCache.class);
+	private final ChangeSequenceRepository changeSequenceRepository = mock(ChangeSequenceRepository.class);
+	private final CacheManager cacheManager = mock(CacheManager.class);
+	private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final ValueOperations<String, String> valueOps = mock(ValueOperations.class);
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+	private final Cache cache = spy(new ConcurrentMapCache(CapturePointService.FEATURES_CACHE));
+
+	private final CapturePointService service = new CapturePointService(capturePointRepository, regionHierarchy,
+		mock(CapturePointClusterIndex.class), mock(OpenCapturePointIndex.class), changeSequenceRepository,
+		jdbcTemplate, cacheManager, new ObjectMapper(), redisTemplate);
+
+	@BeforeEach
+	void setUp() {
+		given(regionHierarchy.resolve(DAEJEON)).willReturn(new RegionScope(1, DAEJEON, DISTRICT_IDS,
+			Map.of(2, "유성구", 3, "서구")));
+		given(cacheManager.getCache(CapturePointService.FEATURES_CACHE)).willReturn(cache);
+		given(redisTemplate.opsForValue()).willReturn(valueOps);
+	}
+
+	@Test
+	void 캐시가_없으면_전체를_읽어_현재_cursor_로_저장한다() {
+		given(changeSequenceRepository.current(ChangeSequence.CAPTURE_POINT)).willReturn(10L);
+		given(capturePointRepository.findFeatureRowsByRegionIds(DISTRICT_IDS))
+			.willReturn(List.of(row("a", 1), row("b", 0)));
+
+		CapturePointResponseDto response = service.findAllFeatures(DAEJEON);
+
+		assertThat(response.getCursor()).isEqualTo(10L);
+		assertThat(publicIds(response)).containsExactly("a", "b");
+		assertThat(cached().getCursor()).isEqualTo(10L);
+		then(valueOps).should().set(VERIFIED_KEY, "10:10", Duration.ofDays(1));
+	}
+
+	@Test
+	void 확인_번호가_현재_cursor_면_DB_를_읽지_않는다() {
+		cache.put(DAEJEON, response(10L, row("a", 1)));
+		given(changeSequenceRepository.current(ChangeSequence.CAPTURE_POINT)).willReturn(15L);
+		given(valueOps.get(VERIFIED_KEY)).willReturn("10:15");
+
+		CapturePointResponseDto response = service.findAllFeatures(DAEJEON);
+
+		assertThat(response.getCursor()).isEqualTo(15L);
+		assertThat(publicIds(response)).containsExactly("a");
+		then(capturePointRepository).shouldHaveNoInteractions();
+		then(valueOps).should(never()).set(anyString(), anyString(), any(Duration.class));
+	}
+
+	@Test
+	void 이_지역_변경이_없으면_항목은_그대로_두고_확인_번호만_올린다() {
+		cache.put(DAEJEON, response(10L, row("a", 1)));
+		clearInvocations(cache);
+		given(changeSequenceRepository.current(ChangeSequence.CAPTURE_POINT)).willReturn(12L);
+		given(valueOps.get(VERIFIED_KEY)).willReturn("10:11");
+		given(capturePointRepository.findFeatureRowsChangedSince(DISTRICT_IDS, 11L)).willReturn(List.of());
+
+		CapturePointResponseDto response = service.findAllFeatures(DAEJEON);
+
+		assertThat(response.getCursor()).isEqualTo(12L);
+		assertThat(publicIds(response)).containsExactly("a");
+		then(cache).should(never()).put(any(), any());
+		assertThat(cached().getCursor()).isEqualTo(10L);
+		then(valueOps).should().set(VERIFIED_KEY, "10:12", Duration.ofDays(1));
+		then(capturePointRepository).should(never()).findFeatureRowsByRegionIds(any());
+	}
+
+	@Test
+	void 바뀐_포인트는_제자리에서_덮어쓰고_새_포인트는_뒤에_붙인다() {
+		cache.put(DAEJEON, response(10L, row("a", 1), row("b", 1)));
+		clearInvocations(cache);
+		given(changeSequenceRepository.current(ChangeSequence.CAPTURE_POINT)).willReturn(12L);
+		given(capturePointRepository.findFeatureRowsChangedSince(DISTRICT_IDS, 10L))
+			.willReturn(List.of(row("a", 0), row("c", 1)));
+
+		CapturePointResponseDto response = service.findAllFeatures(DAEJEON);
+
+		assertThat(response.getCursor()).isEqualTo(12L);
+		assertThat(publicIds(response)).containsExactly("a", "b", "c");
+		assertThat(response.getFeatures()).extracting(feature -> feature.getProperties().display())
+			.containsExactly(0, 1, 1);
+		then(cache).should().put(eq(DAEJEON), any(CapturePointResponseDto.class));
+		assertThat(cached().getCursor()).isEqualTo(12L);
+		then(valueOps).should().set(VERIFIED_KEY, "12:12", Duration.ofDays(1));
+	}
+
+	@Test
+	void 다른_항목의_확인_번호는_쓰지_않는다() {
+		// 다른 인스턴스가 더 오래된 항목(cursor 8)으로 덮어쓰기 전에 남긴 확인 번호
+		cache.put(DAEJEON, response(10L, row("a", 1)));
+		given(changeSequenceRepository.current(ChangeSequence.CAPTURE_POINT)).willReturn(20L);
+		given(valueOps.get(VERIFIED_KEY)).willReturn("8:20");
+		given(capturePointRepository.findFeatureRowsChangedSince(DISTRICT_IDS, 10L)).willReturn(List.of());
+
+		service.findAllFeatures(DAEJEON);
+
+		then(capturePointRepository).should().findFeatureRowsChangedSince(DISTRICT_IDS, 10L);
+	}
+
+	@Test
+	void 확인_번호_조회가_실패하면_항목_cursor_부터_다시_확인한다() {
+		cache.put(DAEJEON, response(10L, row("a", 1)));
+		given(changeSequenceRepository.current(ChangeSequence.CAPTURE_POINT)).willReturn(12L);
+		given(valueOps.get(VERIFIED_KEY)).willThrow(new IllegalStateException("redis down"));
+		given(capturePointRepository.findFeatureRowsChangedSince(DISTRICT_IDS, 10L)).willReturn(List.of());
+
+		CapturePointResponseDto response = service.findAllFeatures(DAEJEON);
+
+		assertThat(response.getCursor()).isEqualTo(12L);
+		then(capturePointRepository).should().findFeatureRowsChangedSince(DISTRICT_IDS, 10L);
+	}
+
+	@Test
+	void 전체_조회와_범위_조회는_같은_프로젝션_값으로_같은_feature_를_만든다() throws Exception {
+		given(changeSequenceRepository.current(ChangeSequence.CAPTURE_POINT)).willReturn(10L);
+		given(cacheManager.getCache(CapturePointService.FEATURES_CACHE)).willReturn(null);
+		CapturePointFeatureRowDto row = row("a", 1);
+		given(capturePointRepository.findFeatureRowsByRegionIds(DISTRICT_IDS)).willReturn(List.of(row));
+		CapturePointFeatureView view = view(row);
+		given(capturePointRepository.findFeaturesInBox(eq(DISTRICT_IDS), any(Envelope.class)))
+			.willReturn(List.of(view));
+
+		FeatureDto fromRow = service.findAllFeatures(DAEJEON).getFeatures().get(0);
+		FeatureDto fromView = service.findFeatures(DAEJEON, List.of(36.0, 127.0, 37.0, 128.0), null)
+			.getFeatures().get(0);
+
+		// feature 좌표는 저장된 location 의 (y, x) 순서
+		assertThat(fromRow.getGeometry().getCoordinates()).containsExactly(127.38, 36.35);
+		assertThat(fromRow.getProperties().address().street()).isEqualTo("대전광역시 유성구 대학로 99");
+		assertThat(fromRow.getProperties().accuracyMeters()).isEqualTo(4.5);
+		ObjectMapper mapper = new ObjectMapper();
+		assertThat(mapper.writeValueAsString(fromView)).isEqualTo(mapper.writeValueAsString(fromRow));
+	}
+
+	@Test
+	void 증분_조회는_since_이후_바뀐_포인트와_현재_cursor_를_준다() {
+		given(changeSequenceRepository.current(ChangeSequence.CAPTURE_POINT)).willReturn(15L);
+		given(capturePointRepository.findFeatureRowsChangedSince(DISTRICT_IDS, 10L))
+			.willReturn(List.of(row("b", 0), row("c", 1)));
+
+		CapturePointResponseDto response = service.findChangedFeatures(DAEJEON, 10L);
+
+		assertThat(response.getCursor()).isEqualTo(15L);
+		assertThat(publicIds(response)).containsExactly("b", "c");
+	}
+
+	@Test
+	void 증분_cursor_는_요청한_since_보다_뒤로_가지_않는다() {
+		given(capturePointRepository.findFeatureRowsChangedSince(DISTRICT_IDS, 20L)).willReturn(List.of());
+
+		given(changeSequenceRepository.current(ChangeSequence.CAPTURE_POINT)).willReturn(15L);
+		assertThat(service.findChangedFeatures(DAEJEON, 20L).getCursor()).isEqualTo(20L);
+
+		// 변경 번호 행이 아직 없는 경우
+		given(changeSequenceRepository.current(ChangeSequence.CAPTURE_POINT)).willReturn(null);
+		assertThat(service.findChangedFeatures(DAEJEON, 20L).getCursor()).isEqualTo(20L);
+	}
+
+	@Test
+	void 스트리밍_응답은_전체_조회를_직렬화한_것과_같다() throws Exception {
+		given(changeSequenceRepository.current(ChangeSequence.CAPTURE_POINT)).willReturn(10L);
+		given(cacheManager.getCache(CapturePointService.FEATURES_CACHE)).willReturn(null);
+		List<CapturePointFeatureRowDto> rows = List.of(row("a", 1), row("b", 0),
+			new CapturePointFeatureRowDto("c", GEOMETRY.createPoint(new Coordinate(36.1, 127.2)), null, null, 1));
+		given(capturePointRepository.findFeatureRowsByRegionIds(DISTRICT_IDS)).willReturn(rows);
+		willAnswer(invocation -> {
+			RowCallbackHandler handler = invocation.getArgument(1);
+			for (CapturePointFeatureRowDto row : rows) {
+				handler.processRow(resultSet(row));
+			}
+			return null;
+		}).given(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		service.writeAllFeatures(DAEJEON, out);
+
+		ObjectMapper mapper = new ObjectMapper();
+		assertThat(mapper.readTree(out.toByteArray()))
+			.isEqualTo(mapper.readTree(mapper.writeValueAsString(service.findAllFeatures(DAEJEON))));
+	}
+
+	@Test
+	void 스트리밍_문장은_전방_전용_행_단위로_읽고_구_id_를_펼친다() throws Exception {
+		given(changeSequenceRepository.current(ChangeSequence.CAPTURE_POINT)).willReturn(10L);
+		service.writeAllFeatures(DAEJEON, new ByteArrayOutputStream());
+		ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+		then(jdbcTemplate).should().query(creator.capture(), any(RowCallbackHandler.class));
+
+		Connection connection = mock(Connection.class);
+		PreparedStatement statement = mock(PreparedStatement.class);
+		given(connection.prepareStatement(anyString())).willReturn(statement);
+		creator.getValue().createPreparedStatement(connection);
+
+		// 전방 전용/읽기 전용 문장은 기본 prepareStatement(sql) 로 만들어진다
+		ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+		then(connection).should().prepareStatement(sql.capture());
+		assertThat(sql.getValue()).contains("in (?, ?)");
+		then(statement).should().setObject(1, 2);
+		then(statement).should().setObject(2, 3);
+		then(statement).should().setFetchSize(Integer.MIN_VALUE);
+		then(statement).should().setQueryTimeout(60);
+	}
+
+	@Test
+	void 모르는_지역은_쿼리_없이_빈_목록을_쓴다() throws Exception {
+		given(regionHierarchy.resolve("없는시")).willReturn(new RegionScope(null, "없는시", List.of(), Map.of()));
+		given(changeSequenceRepository.current(ChangeSequence.CAPTURE_POINT)).willReturn(10L);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		service.writeAllFeatures("없는시", out);
+
+		assertThat(out.toString(StandardCharsets.UTF_8))
+			.isEqualTo("{\"type\":\"FeatureCollection\",\"features\":[],\"cursor\":10}");
+		then(jdbcTemplate).shouldHaveNoInteractions();
+	}
+
+	private static ResultSet resultSet(CapturePointFeatureRowDto row) throws SQLException {
+		ResultSet rs = mock(ResultSet.class);
+		given(rs.getString("public_id")).willReturn(row.getPublicId());
+		given(rs.getDouble("x")).willReturn(row.getLocation().getX());
+		given(rs.getDouble("y")).willReturn(row.getLocation().getY());
+		given(rs.getString("street_address")).willReturn(row.getStreetAddress());
+		given(rs.getDouble("accuracy_meters")).willReturn(row.getAccuracyMeters() != null ? row.getAccuracyMeters() : 0);
+		given(rs.wasNull()).willReturn(row.getAccuracyMeters() == null);
+		given(rs.getInt("display")).willReturn(row.getDisplay());
+		return rs;
+	}
+
+	private static CapturePointFeatureView view(CapturePointFeatureRowDto row) {
+		CapturePointFeatureView view = mock(CapturePointFeatureView.class);
+		given(view.getPublicId()).willReturn(row.getPublicId());
+		given(view.getX()).willReturn(row.getLocation().getX());
+		given(view.getY()).willReturn(row.getLocation().getY());
+		given(view.getStreetAddress()).willReturn(row.getStreetAddress());
+		given(view.getAccuracyMeters()).willReturn(row.getAccuracyMeters());
+		given(view.getDisplay()).willReturn(row.getDisplay());
+		return view;
+	}
+
+	private CapturePointResponseDto cached() {
+		return cache.get(DAEJEON, CapturePointResponseDto.class);
+	}
+
+	private static List<String> publicIds(CapturePointResponseDto response) {
+		return response.getFeatures().stream().map(feature -> feature.getProperties().publicId()).toList();
+	}
+
+	private static CapturePointResponseDto response(long cursor, CapturePointFeatureRowDto... rows) {
+		List<FeatureDto> features = Stream.of(rows)
+			.map(row -> FeatureDto.builder()
+				.geometry(GeometryDto.builder()
+					.coordinates(new double[] {row.getLocation().getY(), row.getLocation().getX()})
+					.build())
+				.properties(new PropertiesDto(row.getPublicId(), row.getDisplay(),
+					new AddressDto(row.getStreetAddress()), row.getAccuracyMeters()))
+				.build())
+			.toList();
+		return CapturePointResponseDto.builder().features(features).cursor(cursor).build();
+	}
+
+	private static CapturePointFeatureRowDto row(String publicId, int display) {
+		return new CapturePointFeatureRowDto(publicId, GEOMETRY.createPoint(new Coordinate(36.35, 127.38)),
+			"대전광역시 유성구 대학로 99", 4.5, display);
+	}
+}
@@ -0,0 +1,79 @@
+package com.b201.api.service;
+
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+import com.b201.api.event.DamageRecordedEvent;
+import com.b201.api.event.DamageStatusChangedEvent;
+import com.b201.api.repository.DamageDailyRollupRepository;
+
+@ExtendWith(MockitoExtension.class)
+class DamageRollupServiceTest {
+
+	private static final String DAEJEON = "대전광역시";
+	private static final LocalDate DAY = LocalDate.of(2025, 5, 1);
+
+	@Mock
+	private DamageDailyRollupRepository rollupRepo;
+
+	@InjectMocks
+	private DamageRollupService rollupService;
+
+	@Test
+	void 저장된_파손은_해당_칸에_1을_더한다() {
+		rollupService.onDamageRecorded(recorded(1));
+
+		then(rollupRepo).should().addCount(1, 2, 3, DAY, "REPORTED", 1);
+		then(rollupRepo).shouldHaveNoMoreInteractions();
+	}
+
+	@Test
+	void 상태_변경은_이전_상태에서_빼고_새_상태에_더한다() {
+		rollupService.onDamageStatusChanged(changed(1, DamageStatus.REPORTED, DamageStatus.COMPLETED));
+
+		InOrder inOrder = Mockito.inOrder(rollupRepo);
+		inOrder.verify(rollupRepo).addCount(1, 2, 3, DAY, "REPORTED", -1);
+		inOrder.verify(rollupRepo).addCount(1, 2, 3, DAY, "COMPLETED", 1);
+		then(rollupRepo).shouldHaveNoMoreInteractions();
+	}
+
+	@Test
+	void 상위_지역이_없는_구는_롤업하지_않는다() {
+		rollupService.onDamageRecorded(recorded(null));
+		rollupService.onDamageStatusChanged(changed(null, DamageStatus.REPORTED, DamageStatus.RECEIVED));
+
+		then(rollupRepo).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void 하루치_재생성은_그날_촬영분만_다시_집계한다() {
+		rollupService.rebuildDay(DAY);
+
+		InOrder inOrder = Mockito.inOrder(rollupRepo);
+		inOrder.verify(rollupRepo).deleteDay(DAY);
+		inOrder.verify(rollupRepo).insertDayFromSource(DAY, DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay());
+	}
+
+	private static DamageRecordedEvent recorded(Integer parentRegionId) {
+		return new DamageRecordedEvent(10, parentRegionId, parentRegionId != null ? DAEJEON : null, 2, "유성구", 3,
+			"도로균열", DAY, DamageStatus.REPORTED, null, null);
+	}
+
+	private static DamageStatusChangedEvent changed(Integer parentRegionId, DamageStatus oldStatus,
+		DamageStatus newStatus) {
+		return new DamageStatusChangedEvent(10, "p-1", parentRegionId, parentRegionId != null ? DAEJEON : null, 2,
+			"유성구", 3, "도로균열", DAY, oldStatus, newStatus, LocalDateTime.of(2025, 5, 1, 9, 0),
+			LocalDateTime.of(2025, 5, 2, 9, 0), 5L, 127.38, 36.35);
+	}
+}
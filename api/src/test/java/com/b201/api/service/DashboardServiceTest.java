@@ -0,0 +1,102 @@
+package com.b201.api.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.b201.api.aggregate.DamageCounterRegistry;
+import com.b201.api.aggregate.DistinctAddressSketch;
+import com.b201.api.aggregate.RiskHistogramRegistry;
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+import com.b201.api.dto.dashboard.DashboardSummaryDto;
+import com.b201.api.dto.dashboard.DistinctRegionCountDto;
+import com.b201.api.event.DamageRecordedEvent;
+import com.b201.api.repository.CapturePointRepository;
+import com.b201.api.util.RegionHierarchyCache;
+import com.b201.api.util.RegionHierarchyCache.RegionScope;
+import com.b201.api.util.UtcClock;
+
+/**
+ * 한 번에 내려주는 대시보드 요약이 패널별 API 응답과 같은 값인지 확인한다.
+ */
+class DashboardServiceTest {
+
+	private static final String DAEJEON = "대전광역시";
+
+	private final CapturePointRepository capturePointRepo = mock(CapturePointRepository.class);
+	private final RegionHierarchyCache regionHierarchy = mock(RegionHierarchyCache.class);
+	private final DamageCounterRegistry counters = new DamageCounterRegistry();
+	private final RiskHistogramRegistry riskHistograms = new RiskHistogramRegistry();
+	private final DashboardService dashboardService = new DashboardService(capturePointRepo, regionHierarchy,
+		counters, mock(DistinctAddressSketch.class), riskHistograms);
+
+	@BeforeEach
+	void setUp() {
+		// RegionHierarchyCache 처럼 구는 region_id 오름차순
+		Map<Integer, String> districts = new LinkedHashMap<>();
+		districts.put(2, "유성구");
+		districts.put(3, "서구");
+		districts.put(4, "동구");
+		given(regionHierarchy.resolve(DAEJEON)).willReturn(new RegionScope(1, DAEJEON, List.of(2, 3, 4), districts));
+		given(capturePointRepo.getDistinctRegionCountDto(anyList())).willReturn(new DistinctRegionCountDto(4L));
+
+		LocalDate today = UtcClock.today();
+		record(today, "유성구", "도로균열", 12.5);
+		record(today, "유성구", "도로 홀", 55.0);
+		record(today.minusDays(1), "서구", "도로균열", 81.2);
+		record(today.minusDays(8), "유성구", "도로균열", 43.0);
+		record(today.minusMonths(1), "서구", "도로 홀", 99.9);
+	}
+
+	@Test
+	void 요약의_각_패널은_개별_API_와_같다() {
+		DashboardSummaryDto summary = dashboardService.getDashboardSummary(DAEJEON);
+
+		assertThat(summary.getType())
+			.usingRecursiveComparison().isEqualTo(dashboardService.getCategoryDistribution(DAEJEON));
+		assertThat(summary.getDaily())
+			.usingRecursiveComparison().isEqualTo(dashboardService.getDailyStatusWithChangeRate(DAEJEON));
+		assertThat(summary.getWeekly())
+			.usingRecursiveComparison().isEqualTo(dashboardService.getWeeklyStatusWithChangeRate(DAEJEON));
+		assertThat(summary.getMonthly())
+			.usingRecursiveComparison().isEqualTo(dashboardService.getMonthlyStatusWithChangeRate(DAEJEON));
+		assertThat(summary.getMonthlySummary())
+			.usingRecursiveComparison().isEqualTo(dashboardService.getMonthlyDamageSummary(DAEJEON));
+		assertThat(summary.getDistricts())
+			.usingRecursiveComparison().isEqualTo(dashboardService.getDistrictDistribution(DAEJEON));
+		assertThat(summary.getTop3())
+			.usingRecursiveComparison().isEqualTo(dashboardService.getTop3Regions(DAEJEON));
+		assertThat(summary.getRisk())
+			.usingRecursiveComparison().isEqualTo(dashboardService.getRiskStatus(DAEJEON));
+		assertThat(summary.getRegionCount())
+			.usingRecursiveComparison().isEqualTo(dashboardService.getDistinctRegionCount(DAEJEON, true));
+	}
+
+	@Test
+	void 파손이_없는_구도_요약에_0건으로_들어간다() {
+		DashboardSummaryDto summary = dashboardService.getDashboardSummary(DAEJEON);
+
+		assertThat(summary.getDistricts().getRegionId()).isEqualTo(1);
+		assertThat(summary.getDistricts().getDestrictions())
+			.extracting("name", "value")
+			.containsExactly(tuple("유성구", 3L), tuple("서구", 2L), tuple("동구", 0L));
+		assertThat(summary.getDaily().getCount()).isEqualTo(2);
+		assertThat(summary.getRegionCount().getRegionCount()).isEqualTo(4);
+	}
+
+	private void record(LocalDate day, String district, String category, double risk) {
+		DamageRecordedEvent event = new DamageRecordedEvent(null, 1, DAEJEON, null, district, null, category, day,
+			DamageStatus.REPORTED, null, risk);
+		counters.onDamageRecorded(event);
+		riskHistograms.onDamageRecorded(event);
+	}
+}
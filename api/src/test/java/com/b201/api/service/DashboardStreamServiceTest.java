@@ -0,0 +1,75 @@
+package com.b201.api.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+
+import com.b201.api.aggregate.DamageCounterKey;
+import com.b201.api.aggregate.DamageCounterRegistry;
+import com.b201.api.domain.CaptureDamage.DamageStatus;
+import com.b201.api.dto.dashboard.TopRegionDto;
+import com.b201.api.event.DamageRecordedEvent;
+import com.b201.api.event.DamageStatusChangedEvent;
+import com.b201.api.repository.DamageDailyRollupRepository;
+
+/**
+ * 다른 인스턴스에서 전달된 이벤트(ClusterEventRelay 가 트랜잭션 밖에서 다시 발행)가
+ * 메모리 카운터와 SSE 구독자에게는 전달되고, 롤업 테이블에는 다시 더해지지 않는지 확인한다.
+ */
+class DashboardStreamServiceTest {
+
+	private static final String DAEJEON = "대전광역시";
+	private static final LocalDate DAY = LocalDate.of(2025, 5, 1);
+
+	private final DashboardService dashboardService = mock(DashboardService.class);
+	private final DamageDailyRollupRepository rollupRepo = mock(DamageDailyRollupRepository.class);
+	private AnnotationConfigApplicationContext context;
+
+	@BeforeEach
+	void setUp() {
+		context = new AnnotationConfigApplicationContext();
+		context.registerBean(TransactionalEventListenerFactory.class);
+		context.registerBean(DashboardService.class, () -> dashboardService);
+		context.registerBean(DamageDailyRollupRepository.class, () -> rollupRepo);
+		context.registerBean(DamageCounterRegistry.class);
+		context.registerBean(DamageRollupService.class);
+		context.registerBean(DashboardStreamService.class, () -> new DashboardStreamService(dashboardService, 60_000));
+		context.refresh();
+	}
+
+	@AfterEach
+	void tearDown() {
+		context.close();
+	}
+
+	@Test
+	void 트랜잭션_밖에서_발행된_이벤트는_메모리_카운터와_구독자에게만_반영된다() {
+		given(dashboardService.getTop3Regions(DAEJEON)).willReturn(List.of(new TopRegionDto("유성구", 1L, 1L, 0L)));
+		context.getBean(DashboardStreamService.class).subscribe(DAEJEON);
+
+		context.publishEvent(new DamageRecordedEvent(1, 1, DAEJEON, 2, "유성구", 1, "도로균열", DAY,
+			DamageStatus.REPORTED, null, null));
+		context.publishEvent(new DamageStatusChangedEvent(1, "p-1", 1, DAEJEON, 2, "유성구", 1, "도로균열", DAY,
+			DamageStatus.REPORTED, DamageStatus.RECEIVED, LocalDateTime.of(2025, 5, 1, 9, 0),
+			LocalDateTime.of(2025, 5, 2, 9, 0), 3L, 127.38, 36.35));
+
+		DamageCounterRegistry counters = context.getBean(DamageCounterRegistry.class);
+		assertThat(counters.count(new DamageCounterKey(DAEJEON, "유성구", "도로균열", DamageStatus.REPORTED, DAY)))
+			.isZero();
+		assertThat(counters.count(new DamageCounterKey(DAEJEON, "유성구", "도로균열", DamageStatus.RECEIVED, DAY)))
+			.isEqualTo(1);
+		// 구독자가 있는 지역이면 카운터 반영 뒤 TOP3 를 다시 계산해 보낸다
+		then(dashboardService).should().getTop3Regions(DAEJEON);
+		then(rollupRepo).shouldHaveNoInteractions();
+	}
+}
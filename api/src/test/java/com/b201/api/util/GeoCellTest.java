@@ -0,0 +1,65 @@
+package com.b201.api.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Envelope;
+
+class GeoCellTest {
+
+	private final Random random = new Random(42);
+
+	@Test
+	void 범위_안의_모든_점은_구간에_들어간다() {
+		for (int i = 0; i < 2_000; i++) {
+			Envelope box = randomBox();
+			List<GeoCell.Range> ranges = GeoCell.cover(box);
+
+			assertThat(ranges).isNotEmpty().hasSizeLessThanOrEqualTo(GeoCell.MAX_RANGES);
+			for (int j = 1; j < ranges.size(); j++) {
+				// 오름차순이고, 겹치거나 바로 이어지는 구간은 합쳐져 있다
+				assertThat(ranges.get(j).min()).isGreaterThan(ranges.get(j - 1).max() + 1);
+			}
+			assertCovered(ranges, box.getMinX(), box.getMinY());
+			assertCovered(ranges, box.getMaxX(), box.getMaxY());
+			assertCovered(ranges, box.getMinX(), box.getMaxY());
+			assertCovered(ranges, box.getMaxX(), box.getMinY());
+			for (int j = 0; j < 50; j++) {
+				assertCovered(ranges, box.getMinX() + random.nextDouble() * box.getWidth(),
+					box.getMinY() + random.nextDouble() * box.getHeight());
+			}
+		}
+	}
+
+	@Test
+	void 점_하나의_범위는_그_점의_값_하나다() {
+		long cell = GeoCell.encode(127.3845, 36.3504);
+
+		assertThat(GeoCell.cover(new Envelope(127.3845, 127.3845, 36.3504, 36.3504)))
+			.containsExactly(new GeoCell.Range(cell, cell));
+	}
+
+	@Test
+	void 세계_범위_밖_좌표는_가장자리_칸으로_모은다() {
+		assertThat(GeoCell.encode(-200, -100)).isEqualTo(GeoCell.encode(-180, -90));
+		assertThat(GeoCell.encode(200, 100)).isEqualTo((1L << (2 * GeoCell.BITS_PER_AXIS)) - 1);
+	}
+
+	// 수 미터부터 수십 도까지 크기가 고르게 섞인 범위 (국내 좌표 주변)
+	private Envelope randomBox() {
+		double width = Math.pow(10, -5 + random.nextDouble() * 6);
+		double height = Math.pow(10, -5 + random.nextDouble() * 6);
+		double minX = 124 + random.nextDouble() * 8;
+		double minY = 33 + random.nextDouble() * 6;
+		return new Envelope(minX, minX + width, minY, minY + height);
+	}
+
+	private static void assertCovered(List<GeoCell.Range> ranges, double x, double y) {
+		long cell = GeoCell.encode(x, y);
+		assertThat(ranges).as("(%s, %s) 의 셀 %s", x, y, cell)
+			.anyMatch(range -> range.min() <= cell && cell <= range.max());
+	}
+}
@@ -0,0 +1,179 @@
+package com.b201.api.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Label;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type;
+import com.google.protobuf.DescriptorProtos.FieldOptions;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.DynamicMessage;
+
+/**
+ * MvtEncoder 출력을 Mapbox Vector Tile 2.1 스키마(vector_tile.proto)의 protobuf 파서로 읽어 확인한다.
+ */
+class MvtEncoderTest {
+
+	private static Descriptor tileType;
+
+	@BeforeAll
+	static void buildSchema() throws Exception {
+		DescriptorProto value = DescriptorProto.newBuilder().setName("Value")
+			.addField(field("string_value", 1, Type.TYPE_STRING, Label.LABEL_OPTIONAL, null))
+			.addField(field("float_value", 2, Type.TYPE_FLOAT, Label.LABEL_OPTIONAL, null))
+			.addField(field("double_value", 3, Type.TYPE_DOUBLE, Label.LABEL_OPTIONAL, null))
+			.addField(field("int_value", 4, Type.TYPE_INT64, Label.LABEL_OPTIONAL, null))
+			.addField(field("uint_value", 5, Type.TYPE_UINT64, Label.LABEL_OPTIONAL, null))
+			.addField(field("sint_value", 6, Type.TYPE_SINT64, Label.LABEL_OPTIONAL, null))
+			.addField(field("bool_value", 7, Type.TYPE_BOOL, Label.LABEL_OPTIONAL, null))
+			.build();
+		DescriptorProto feature = DescriptorProto.newBuilder().setName("Feature")
+			.addField(field("id", 1, Type.TYPE_UINT64, Label.LABEL_OPTIONAL, null))
+			.addField(packed(field("tags", 2, Type.TYPE_UINT32, Label.LABEL_REPEATED, null)))
+			.addField(field("type", 3, Type.TYPE_UINT32, Label.LABEL_OPTIONAL, null))
+			.addField(packed(field("geometry", 4, Type.TYPE_UINT32, Label.LABEL_REPEATED, null)))
+			.build();
+		DescriptorProto layer = DescriptorProto.newBuilder().setName("Layer")
+			.addField(field("version", 15, Type.TYPE_UINT32, Label.LABEL_REQUIRED, null))
+			.addField(field("name", 1, Type.TYPE_STRING, Label.LABEL_REQUIRED, null))
+			.addField(field("features", 2, Type.TYPE_MESSAGE, Label.LABEL_REPEATED, ".vector_tile.Feature"))
+			.addField(field("keys", 3, Type.TYPE_STRING, Label.LABEL_REPEATED, null))
+			.addField(field("values", 4, Type.TYPE_MESSAGE, Label.LABEL_REPEATED, ".vector_tile.Value"))
+			.addField(field("extent", 5, Type.TYPE_UINT32, Label.LABEL_OPTIONAL, null))
+			.build();
+		DescriptorProto tile = DescriptorProto.newBuilder().setName("Tile")
+			.addField(field("layers", 3, Type.TYPE_MESSAGE, Label.LABEL_REPEATED, ".vector_tile.Layer"))
+			.build();
+		FileDescriptor file = FileDescriptor.buildFrom(FileDescriptorProto.newBuilder()
+			.setName("vector_tile.proto")
+			.setPackage("vector_tile")
+			.setSyntax("proto2")
+			.addMessageType(value)
+			.addMessageType(feature)
+			.addMessageType(layer)
+			.addMessageType(tile)
+			.build(), new FileDescriptor[0]);
+		tileType = file.findMessageTypeByName("Tile");
+	}
+
+	@Test
+	void 포인트와_속성이_스키마대로_읽힌다() throws Exception {
+		MvtEncoder.Layer points = new MvtEncoder.Layer("points", MvtEncoder.DEFAULT_EXTENT);
+		Map<String, Object> first = new LinkedHashMap<>();
+		first.put("publicId", "a");
+		first.put("count", 3);
+		first.put("risk", 0.75);
+		first.put("open", true);
+		first.put("memo", null);
+		points.addPoint(10, 20, first);
+		Map<String, Object> second = new LinkedHashMap<>();
+		second.put("publicId", "b");
+		second.put("count", -2L);
+		second.put("open", true);
+		points.addPoint(4095, 0, second);
+		// extent 밖은 버린다
+		points.addPoint(4096, 10, Map.of("publicId", "c"));
+		points.addPoint(-1, 10, Map.of("publicId", "d"));
+		MvtEncoder.Layer empty = new MvtEncoder.Layer("empty", MvtEncoder.DEFAULT_EXTENT);
+
+		List<DecodedLayer> layers = decode(MvtEncoder.encode(List.of(points, empty)));
+
+		assertThat(layers).hasSize(1);
+		DecodedLayer layer = layers.get(0);
+		assertThat(layer.name()).isEqualTo("points");
+		assertThat(layer.version()).isEqualTo(2);
+		assertThat(layer.extent()).isEqualTo(MvtEncoder.DEFAULT_EXTENT);
+		assertThat(layer.features()).containsExactly(
+			new DecodedFeature(10, 20, Map.of("publicId", "a", "count", 3L, "risk", 0.75, "open", true)),
+			new DecodedFeature(4095, 0, Map.of("publicId", "b", "count", -2L, "open", true)));
+		// 같은 값은 values 에 한 번만 들어간다
+		assertThat(layer.valueCount()).isEqualTo(6);
+	}
+
+	@Test
+	void 빈_타일은_레이어가_없다() throws Exception {
+		MvtEncoder.Layer empty = new MvtEncoder.Layer("points", MvtEncoder.DEFAULT_EXTENT);
+
+		byte[] encoded = MvtEncoder.encode(List.of(empty));
+
+		assertThat(encoded).isEmpty();
+		assertThat(decode(encoded)).isEmpty();
+	}
+
+	private static List<DecodedLayer> decode(byte[] bytes) throws Exception {
+		DynamicMessage tile = DynamicMessage.parseFrom(tileType, bytes);
+		List<DecodedLayer> layers = new ArrayList<>();
+		for (Object layerObject : (List<?>)get(tile, "layers")) {
+			DynamicMessage layer = (DynamicMessage)layerObject;
+			List<?> keys = (List<?>)get(layer, "keys");
+			List<?> values = (List<?>)get(layer, "values");
+			List<DecodedFeature> features = new ArrayList<>();
+			for (Object featureObject : (List<?>)get(layer, "features")) {
+				DynamicMessage feature = (DynamicMessage)featureObject;
+				assertThat(get(feature, "type")).isEqualTo(1);
+				List<?> geometry = (List<?>)get(feature, "geometry");
+				// MoveTo 1회 + zigzag 좌표 한 쌍
+				assertThat(geometry).hasSize(3);
+				assertThat(geometry.get(0)).isEqualTo((1 << 3) | 1);
+				List<?> tags = (List<?>)get(feature, "tags");
+				Map<String, Object> attributes = new LinkedHashMap<>();
+				for (int i = 0; i < tags.size(); i += 2) {
+					attributes.put((String)keys.get((Integer)tags.get(i)),
+						value((DynamicMessage)values.get((Integer)tags.get(i + 1))));
+				}
+				features.add(new DecodedFeature(unzigzag((Integer)geometry.get(1)), unzigzag((Integer)geometry.get(2)),
+					attributes));
+			}
+			layers.add(new DecodedLayer((String)get(layer, "name"), (Integer)get(layer, "version"),
+				(Integer)get(layer, "extent"), features, values.size()));
+		}
+		return layers;
+	}
+
+	private static Object value(DynamicMessage value) {
+		assertThat(value.getAllFields()).hasSize(1);
+		return value.getAllFields().values().iterator().next();
+	}
+
+	private static Object get(DynamicMessage message, String fieldName) {
+		return message.getField(message.getDescriptorForType().findFieldByName(fieldName));
+	}
+
+	private static int unzigzag(int value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static FieldDescriptorProto field(String name, int number, Type type, Label label, String typeName) {
+		FieldDescriptorProto.Builder field = FieldDescriptorProto.newBuilder()
+			.setName(name)
+			.setNumber(number)
+			.setType(type)
+			.setLabel(label);
+		if (typeName != null) {
+			field.setTypeName(typeName);
+		}
+		return field.build();
+	}
+
+	private static FieldDescriptorProto packed(FieldDescriptorProto field) {
+		return field.toBuilder().setOptions(FieldOptions.newBuilder().setPacked(true)).build();
+	}
+
+	private record DecodedLayer(String name, int version, int extent, List<DecodedFeature> features,
+								int valueCount) {
+	}
+
+	private record DecodedFeature(int x, int y, Map<String, Object> attributes) {
+	}
+}
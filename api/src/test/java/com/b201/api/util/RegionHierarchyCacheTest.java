@@ -0,0 +1,73 @@
+package com.b201.api.util;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.b201.api.domain.Region;
+import com.b201.api.repository.RegionRepository;
+import com.b201.api.util.RegionHierarchyCache.RegionScope;
+
+class RegionHierarchyCacheTest {
+
+	private final RegionRepository regionRepository = mock(RegionRepository.class);
+	private final RegionHierarchyCache cache = new RegionHierarchyCache(regionRepository);
+
+	@Test
+	void 광역시_이름으로_소속_구를_id_순으로_푼다() {
+		Region daejeon = region(1, "대전광역시", null);
+		Region sejong = region(5, "세종특별자치시", null);
+		given(regionRepository.findAll()).willReturn(List.of(
+			region(4, "서구", daejeon), daejeon, region(2, "유성구", daejeon), sejong, region(3, "동구", daejeon)));
+
+		cache.refresh();
+		RegionScope scope = cache.resolve("대전광역시");
+
+		assertThat(scope.parentId()).isEqualTo(1);
+		assertThat(scope.districtIds()).containsExactly(2, 3, 4);
+		assertThat(scope.districts().values()).containsExactly("유성구", "동구", "서구");
+		// 하위 구가 없는 광역시/도도 id 는 찾는다
+		assertThat(cache.resolve("세종특별자치시").parentId()).isEqualTo(5);
+		assertThat(cache.resolve("세종특별자치시").isEmpty()).isTrue();
+	}
+
+	@Test
+	void 모르는_지역명은_빈_범위() {
+		given(regionRepository.findAll()).willReturn(List.of());
+		cache.refresh();
+
+		RegionScope scope = cache.resolve("없는시");
+
+		assertThat(scope.parentId()).isNull();
+		assertThat(scope.parentName()).isEqualTo("없는시");
+		assertThat(scope.isEmpty()).isTrue();
+	}
+
+	@Test
+	void 다시_적재하면_통째로_교체된다() {
+		Region daejeon = region(1, "대전광역시", null);
+		given(regionRepository.findAll()).willReturn(List.of(daejeon, region(2, "유성구", daejeon)));
+		cache.refresh();
+		RegionScope before = cache.resolve("대전광역시");
+
+		given(regionRepository.findAll()).willReturn(List.of(daejeon, region(2, "유성구", daejeon),
+			region(6, "대덕구", daejeon)));
+		cache.refresh();
+
+		assertThat(before.districtIds()).containsExactly(2);
+		assertThat(cache.resolve("대전광역시").districtIds()).containsExactly(2, 6);
+	}
+
+	private static Region region(int id, String name, Region parent) {
+		Region region = new Region();
+		ReflectionTestUtils.setField(region, "id", id);
+		ReflectionTestUtils.setField(region, "regionName", name);
+		ReflectionTestUtils.setField(region, "parentRegion", parent);
+		return region;
+	}
+}
@@ -0,0 +1,74 @@
+package com.b201.api.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Envelope;
+
+class TileMathTest {
+
+	private static final double EPSILON = 1e-9;
+
+	@Test
+	void 알려진_좌표의_타일_번호() {
+		assertThat(TileMath.tileX(0, 0)).isZero();
+		assertThat(TileMath.tileY(0, 0)).isZero();
+		assertThat(TileMath.tileX(0, 1)).isEqualTo(1);
+		assertThat(TileMath.tileY(0, 1)).isEqualTo(1);
+		// 서울시청
+		assertThat(TileMath.tileX(126.978, 10)).isEqualTo(873);
+		assertThat(TileMath.tileY(37.5665, 10)).isEqualTo(396);
+	}
+
+	@Test
+	void 타일_범위는_그_타일로_돌아온다() {
+		Random random = new Random(3);
+		for (int i = 0; i < 5_000; i++) {
+			int zoom = random.nextInt(TileMath.MAX_ZOOM + 1);
+			double longitude = -180 + random.nextDouble() * 360;
+			double latitude = -85 + random.nextDouble() * 170;
+			int x = TileMath.tileX(longitude, zoom);
+			int y = TileMath.tileY(latitude, zoom);
+
+			Envelope tile = TileMath.tileEnvelope(zoom, x, y);
+			assertThat(tile.getMinX()).isLessThanOrEqualTo(longitude + EPSILON);
+			assertThat(tile.getMaxX()).isGreaterThanOrEqualTo(longitude - EPSILON);
+			assertThat(tile.getMinY()).isLessThanOrEqualTo(latitude + EPSILON);
+			assertThat(tile.getMaxY()).isGreaterThanOrEqualTo(latitude - EPSILON);
+			// 타일 중심은 같은 타일 번호다
+			assertThat(TileMath.tileX(tile.centre().x, zoom)).isEqualTo(x);
+			assertThat(TileMath.tileY(tile.centre().y, zoom)).isEqualTo(y);
+		}
+	}
+
+	@Test
+	void 경계_밖_좌표는_가장자리_타일로_모은다() {
+		assertThat(TileMath.tileX(180, 4)).isEqualTo(15);
+		assertThat(TileMath.tileY(89.9, 4)).isZero();
+		assertThat(TileMath.tileY(-89.9, 4)).isEqualTo(15);
+	}
+
+	@Test
+	void snap_은_범위를_덮는_타일_경계로_넓힌다() {
+		Envelope box = new Envelope(127.31, 127.42, 36.30, 36.39);
+
+		Envelope snapped = TileMath.snap(box, 12);
+
+		assertThat(snapped.contains(box)).isTrue();
+		int minX = TileMath.tileX(box.getMinX(), 12);
+		int minY = TileMath.tileY(box.getMaxY(), 12);
+		assertThat(snapped.getMinX()).isCloseTo(TileMath.tileEnvelope(12, minX, minY).getMinX(), within(EPSILON));
+		assertThat(snapped.getMaxY()).isCloseTo(TileMath.tileEnvelope(12, minX, minY).getMaxY(), within(EPSILON));
+	}
+
+	@Test
+	void 범위_밖_줌과_타일은_거부한다() {
+		assertThatThrownBy(() -> TileMath.checkZoom(TileMath.MAX_ZOOM + 1))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> TileMath.checkTile(2, 4, 0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> TileMath.checkTile(2, 0, -1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatCode(() -> TileMath.checkTile(2, 3, 3)).doesNotThrowAnyException();
+	}
+}